@@ -0,0 +1,70 @@
+package tz.go.roadsfund.nrcc.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import tz.go.roadsfund.nrcc.service.BlobStore;
+import tz.go.roadsfund.nrcc.service.LocalBlobStore;
+import tz.go.roadsfund.nrcc.service.S3BlobStore;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Selects where uploaded file content is kept (file.store.type): the local upload directory,
+ * or an S3-compatible bucket shared by all API nodes
+ */
+@Configuration
+public class BlobStoreConfig {
+
+    @Bean
+    public BlobStore blobStore(FileStorageProperties properties) throws IOException {
+        Path uploadDir = Paths.get(properties.getUploadDir()).toAbsolutePath().normalize();
+        if (!"s3".equalsIgnoreCase(properties.getStore().getType())) {
+            return new LocalBlobStore(uploadDir);
+        }
+
+        FileStorageProperties.S3 s3 = properties.getStore().getS3();
+        if (!StringUtils.hasText(s3.getBucket())) {
+            throw new IllegalStateException("file.store.s3.bucket is required when file.store.type=s3");
+        }
+
+        AwsCredentialsProvider credentials = StringUtils.hasText(s3.getAccessKey())
+                ? StaticCredentialsProvider.create(AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey()))
+                : DefaultCredentialsProvider.create();
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(s3.isPathStyleAccess())
+                .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(Region.of(s3.getRegion()))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(s3.getRegion()))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+        if (StringUtils.hasText(s3.getEndpoint())) {
+            clientBuilder.endpointOverride(URI.create(s3.getEndpoint()));
+            presignerBuilder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+
+        Path cacheDir = StringUtils.hasText(s3.getCacheDir())
+                ? Paths.get(s3.getCacheDir()).toAbsolutePath().normalize()
+                : uploadDir.resolve(".cache");
+        return new S3BlobStore(clientBuilder.build(), presignerBuilder.build(), s3.getBucket(),
+                s3.getPartSize().toBytes(), s3.isPresignDownloads(), s3.getPresignTtl(),
+                cacheDir, s3.getCacheMaxSize().toBytes(), s3.getCacheGracePeriod());
+    }
+}
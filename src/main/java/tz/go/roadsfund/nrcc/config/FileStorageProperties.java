@@ -3,6 +3,9 @@ package tz.go.roadsfund.nrcc.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 /**
  * File storage configuration properties
@@ -13,4 +16,33 @@ import org.springframework.context.annotation.Configuration;
 public class FileStorageProperties {
     private String uploadDir;
     private String[] allowedExtensions;
+    private Store store = new Store();
+
+    /**
+     * Where file content is kept: "local" (under uploadDir) or "s3"
+     */
+    @Data
+    public static class Store {
+        private String type = "local";
+        private S3 s3 = new S3();
+    }
+
+    /**
+     * S3 or S3-compatible (MinIO and the like) object storage
+     */
+    @Data
+    public static class S3 {
+        private String endpoint;
+        private String region = "us-east-1";
+        private String bucket;
+        private String accessKey;
+        private String secretKey;
+        private boolean pathStyleAccess = true;
+        private DataSize partSize = DataSize.ofMegabytes(16);
+        private boolean presignDownloads = true;
+        private Duration presignTtl = Duration.ofMinutes(10);
+        private String cacheDir;
+        private DataSize cacheMaxSize = DataSize.ofGigabytes(5);
+        private Duration cacheGracePeriod = Duration.ofMinutes(5);
+    }
 }
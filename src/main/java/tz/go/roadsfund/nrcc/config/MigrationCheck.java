@@ -0,0 +1,77 @@
+package tz.go.roadsfund.nrcc.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Refuses to start when a script under db/migration has not been applied.
+ * The tables come from Hibernate, but indexes, generated columns, sequence increments and
+ * reference data only exist once the scripts have run; without them the application starts
+ * and then fails or crawls at runtime. Each script is recognised by one object it creates.
+ * Disable with db.migration-check.enabled=false.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "db.migration-check.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class MigrationCheck implements InitializingBean {
+
+    private static final Map<String, String> MARKERS = new LinkedHashMap<>();
+
+    static {
+        MARKERS.put("V3__Load_Regions_And_Districts", "SELECT EXISTS (SELECT 1 FROM regions)");
+        MARKERS.put("V4__Add_Query_Indexes", index("idx_notifications_outbox"));
+        MARKERS.put("V5__Pooled_Id_Sequences",
+                "SELECT EXISTS (SELECT 1 FROM pg_sequences WHERE sequencename = 'users_id_seq' AND increment_by = 50)");
+        MARKERS.put("V6__Application_Search_Vector",
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema() " +
+                "AND table_name = 'application_form_data' AND column_name = 'search_vector' AND is_generated = 'ALWAYS')");
+        MARKERS.put("V7__User_Search_Indexes", index("idx_users_name_trgm"));
+        MARKERS.put("V8__Content_Addressed_Files", index("idx_stored_files_content_hash"));
+        MARKERS.put("V9__Upload_Sessions", index("idx_upload_sessions_expires_at"));
+        MARKERS.put("V10__Attachments", index("idx_attachments_file_name"));
+        MARKERS.put("V11__Token_Blacklist_Sync_Index", index("idx_token_blacklist_blacklisted_at"));
+        MARKERS.put("V12__Upload_Session_Parts",
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema() " +
+                "AND table_name = 'upload_sessions' AND column_name = 'store_upload_id')");
+        MARKERS.put("V13__User_Updated_At_Index", index("idx_users_updated_at"));
+        MARKERS.put("V14__Number_Sequences", "SELECT to_regclass('number_sequences') IS NOT NULL");
+        MARKERS.put("V15__Upload_Session_Digest",
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema() " +
+                "AND table_name = 'upload_sessions' AND column_name = 'digest_state')");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MigrationCheck(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, String> marker : MARKERS.entrySet()) {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(marker.getValue(), Boolean.class))) {
+                missing.add(marker.getKey());
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database migrations not applied: " + String.join(", ", missing) +
+                    ". Run the scripts under db/migration in version order.");
+        }
+        log.info("All {} database migrations are applied", MARKERS.size());
+    }
+
+    private static String index(String name) {
+        return "SELECT to_regclass('" + name + "') IS NOT NULL";
+    }
+}
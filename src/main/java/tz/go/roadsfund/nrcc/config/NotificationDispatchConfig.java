@@ -0,0 +1,32 @@
+package tz.go.roadsfund.nrcc.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded executor used to deliver queued notifications off the request thread
+ */
+@Configuration
+public class NotificationDispatchConfig {
+
+    @Value("${notification.dispatch.pool-size:4}")
+    private int poolSize;
+
+    @Value("${notification.dispatch.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -9,16 +9,20 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import tz.go.roadsfund.nrcc.dto.request.AddAttachmentRequest;
 import tz.go.roadsfund.nrcc.dto.request.CreateActionPlanRequest;
 import tz.go.roadsfund.nrcc.dto.request.UpdateActionPlanRequest;
 import tz.go.roadsfund.nrcc.dto.request.UpdateActivityProgressRequest;
 import tz.go.roadsfund.nrcc.dto.response.ActionPlanDetailResponse;
 import tz.go.roadsfund.nrcc.dto.response.ActionPlanResponse;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
+import tz.go.roadsfund.nrcc.dto.response.AttachmentResponse;
 import tz.go.roadsfund.nrcc.enums.ActionPlanStatus;
 import tz.go.roadsfund.nrcc.enums.Permission;
+import tz.go.roadsfund.nrcc.enums.VersionedResource;
 import tz.go.roadsfund.nrcc.security.RequirePermission;
 import tz.go.roadsfund.nrcc.service.ActionPlanService;
+import tz.go.roadsfund.nrcc.util.ConditionalGet;
 
 import java.util.List;
 
@@ -63,6 +67,7 @@ public class ActionPlanController {
      */
     @GetMapping("/{id}")
     @RequirePermission(Permission.ACTION_PLAN_READ)
+    @ConditionalGet(VersionedResource.ACTION_PLAN)
     public ResponseEntity<ApiResponse<ActionPlanDetailResponse>> getActionPlan(@PathVariable Long id) {
         ActionPlanDetailResponse actionPlan = actionPlanService.getActionPlan(id);
         return ResponseEntity.ok(ApiResponse.success("Action plan retrieved successfully", actionPlan));
@@ -197,4 +202,74 @@ public class ActionPlanController {
         ActionPlanDetailResponse actionPlan = actionPlanService.updateActivityProgress(activityId, request);
         return ResponseEntity.ok(ApiResponse.success("Activity progress updated", actionPlan));
     }
+
+    /**
+     * List files attached to a target
+     */
+    @GetMapping("/targets/{targetId}/attachments")
+    @RequirePermission(Permission.ACTION_PLAN_READ)
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getTargetAttachments(@PathVariable Long targetId) {
+        List<AttachmentResponse> attachments = actionPlanService.getTargetAttachments(targetId);
+        return ResponseEntity.ok(ApiResponse.success("Attachments retrieved successfully", attachments));
+    }
+
+    /**
+     * Attach an uploaded file to a target
+     */
+    @PostMapping("/targets/{targetId}/attachments")
+    @RequirePermission(Permission.ACTION_PLAN_UPDATE)
+    public ResponseEntity<ApiResponse<AttachmentResponse>> addTargetAttachment(
+            @PathVariable Long targetId,
+            @Valid @RequestBody AddAttachmentRequest request) {
+        AttachmentResponse attachment = actionPlanService.addTargetAttachment(targetId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("File attached successfully", attachment));
+    }
+
+    /**
+     * Remove a file from a target
+     */
+    @DeleteMapping("/targets/{targetId}/attachments/{attachmentId}")
+    @RequirePermission(Permission.ACTION_PLAN_UPDATE)
+    public ResponseEntity<ApiResponse<Void>> removeTargetAttachment(
+            @PathVariable Long targetId,
+            @PathVariable Long attachmentId) {
+        actionPlanService.removeTargetAttachment(targetId, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success("Attachment removed successfully", null));
+    }
+
+    /**
+     * List files attached to an activity
+     */
+    @GetMapping("/activities/{activityId}/attachments")
+    @RequirePermission(Permission.ACTION_PLAN_READ)
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getActivityAttachments(@PathVariable Long activityId) {
+        List<AttachmentResponse> attachments = actionPlanService.getActivityAttachments(activityId);
+        return ResponseEntity.ok(ApiResponse.success("Attachments retrieved successfully", attachments));
+    }
+
+    /**
+     * Attach an uploaded file to an activity
+     */
+    @PostMapping("/activities/{activityId}/attachments")
+    @RequirePermission(Permission.ACTION_PLAN_TRACK)
+    public ResponseEntity<ApiResponse<AttachmentResponse>> addActivityAttachment(
+            @PathVariable Long activityId,
+            @Valid @RequestBody AddAttachmentRequest request) {
+        AttachmentResponse attachment = actionPlanService.addActivityAttachment(activityId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("File attached successfully", attachment));
+    }
+
+    /**
+     * Remove a file from an activity
+     */
+    @DeleteMapping("/activities/{activityId}/attachments/{attachmentId}")
+    @RequirePermission(Permission.ACTION_PLAN_TRACK)
+    public ResponseEntity<ApiResponse<Void>> removeActivityAttachment(
+            @PathVariable Long activityId,
+            @PathVariable Long attachmentId) {
+        actionPlanService.removeActivityAttachment(activityId, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success("Attachment removed successfully", null));
+    }
 }
@@ -13,10 +13,16 @@ import tz.go.roadsfund.nrcc.dto.request.*;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
 import tz.go.roadsfund.nrcc.dto.response.ApplicationDetailResponse;
 import tz.go.roadsfund.nrcc.dto.response.ApplicationResponse;
+import tz.go.roadsfund.nrcc.dto.response.ApplicationSearchResponse;
+import tz.go.roadsfund.nrcc.dto.response.AttachmentResponse;
+import tz.go.roadsfund.nrcc.dto.response.CursorPage;
 import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
 import tz.go.roadsfund.nrcc.enums.Permission;
+import tz.go.roadsfund.nrcc.enums.RoadClass;
+import tz.go.roadsfund.nrcc.enums.VersionedResource;
 import tz.go.roadsfund.nrcc.security.RequirePermission;
 import tz.go.roadsfund.nrcc.service.ApplicationService;
+import tz.go.roadsfund.nrcc.util.ConditionalGet;
 
 import java.util.List;
 
@@ -61,6 +67,7 @@ public class ApplicationController {
      */
     @GetMapping("/{id}")
     @RequirePermission(Permission.APPLICATION_READ)
+    @ConditionalGet(VersionedResource.APPLICATION)
     public ResponseEntity<ApiResponse<ApplicationDetailResponse>> getApplication(@PathVariable Long id) {
         ApplicationDetailResponse application = applicationService.getApplication(id);
         return ResponseEntity.ok(ApiResponse.success("Application retrieved successfully", application));
@@ -95,6 +102,39 @@ public class ApplicationController {
         return ResponseEntity.ok(ApiResponse.success("Applications retrieved successfully", applications));
     }
 
+    /**
+     * Get applications newest first using keyset pagination: pass an empty after for the first page and the
+     * returned nextCursor for each following page
+     */
+    @GetMapping(params = "after")
+    @RequirePermission(Permission.APPLICATION_LIST)
+    public ResponseEntity<ApiResponse<CursorPage<ApplicationResponse>>> getApplicationsAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPage<ApplicationResponse> applications = applicationService.getApplicationsAfter(after, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success("Applications retrieved successfully", applications));
+    }
+
+    /**
+     * Full-text search over road name, end points, towns/villages, principal nodes and
+     * reclassification reasons, optionally filtered by status and proposed class
+     */
+    @GetMapping("/search")
+    @RequirePermission(Permission.APPLICATION_LIST)
+    public ResponseEntity<ApiResponse<Page<ApplicationSearchResponse>>> searchApplications(
+            @RequestParam String q,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) RoadClass proposedClass,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<ApplicationSearchResponse> results =
+                applicationService.searchApplications(q, status, proposedClass, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Search completed successfully", results));
+    }
+
     /**
      * Get applications by status
      */
@@ -152,6 +192,117 @@ public class ApplicationController {
         return ResponseEntity.ok(ApiResponse.success("Application deleted successfully", null));
     }
 
+    // ==================== ATTACHMENTS ====================
+
+    /**
+     * List files attached to an application
+     */
+    @GetMapping("/{id}/attachments")
+    @RequirePermission(Permission.APPLICATION_READ)
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getAttachments(@PathVariable Long id) {
+        List<AttachmentResponse> attachments = applicationService.getAttachments(id);
+        return ResponseEntity.ok(ApiResponse.success("Attachments retrieved successfully", attachments));
+    }
+
+    /**
+     * Attach an uploaded file to an application
+     */
+    @PostMapping("/{id}/attachments")
+    @RequirePermission(Permission.APPLICATION_UPDATE)
+    public ResponseEntity<ApiResponse<AttachmentResponse>> addAttachment(
+            @PathVariable Long id,
+            @Valid @RequestBody AddAttachmentRequest request) {
+        AttachmentResponse attachment = applicationService.addAttachment(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("File attached successfully", attachment));
+    }
+
+    /**
+     * Remove a file from an application
+     */
+    @DeleteMapping("/{id}/attachments/{attachmentId}")
+    @RequirePermission(Permission.APPLICATION_UPDATE)
+    public ResponseEntity<ApiResponse<Void>> removeAttachment(
+            @PathVariable Long id,
+            @PathVariable Long attachmentId) {
+        applicationService.removeAttachment(id, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success("Attachment removed successfully", null));
+    }
+
+    /**
+     * List files attached to a verification report
+     */
+    @GetMapping("/{id}/verification-reports/{reportId}/attachments")
+    @RequirePermission(Permission.APPLICATION_READ)
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getVerificationReportAttachments(
+            @PathVariable Long id,
+            @PathVariable Long reportId) {
+        List<AttachmentResponse> attachments = applicationService.getVerificationReportAttachments(id, reportId);
+        return ResponseEntity.ok(ApiResponse.success("Attachments retrieved successfully", attachments));
+    }
+
+    /**
+     * Attach an uploaded file to a verification report
+     */
+    @PostMapping("/{id}/verification-reports/{reportId}/attachments")
+    @RequirePermission(Permission.APPLICATION_VERIFY)
+    public ResponseEntity<ApiResponse<AttachmentResponse>> addVerificationReportAttachment(
+            @PathVariable Long id,
+            @PathVariable Long reportId,
+            @Valid @RequestBody AddAttachmentRequest request) {
+        AttachmentResponse attachment = applicationService.addVerificationReportAttachment(id, reportId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("File attached successfully", attachment));
+    }
+
+    /**
+     * Remove a file from a verification report
+     */
+    @DeleteMapping("/{id}/verification-reports/{reportId}/attachments/{attachmentId}")
+    @RequirePermission(Permission.APPLICATION_VERIFY)
+    public ResponseEntity<ApiResponse<Void>> removeVerificationReportAttachment(
+            @PathVariable Long id,
+            @PathVariable Long reportId,
+            @PathVariable Long attachmentId) {
+        applicationService.removeVerificationReportAttachment(id, reportId, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success("Attachment removed successfully", null));
+    }
+
+    /**
+     * List files attached to the NRCC recommendation
+     */
+    @GetMapping("/{id}/recommendation/attachments")
+    @RequirePermission(Permission.APPLICATION_READ)
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getRecommendationAttachments(@PathVariable Long id) {
+        List<AttachmentResponse> attachments = applicationService.getRecommendationAttachments(id);
+        return ResponseEntity.ok(ApiResponse.success("Attachments retrieved successfully", attachments));
+    }
+
+    /**
+     * Attach an uploaded file to the NRCC recommendation
+     */
+    @PostMapping("/{id}/recommendation/attachments")
+    @RequirePermission(Permission.APPLICATION_RECOMMEND)
+    public ResponseEntity<ApiResponse<AttachmentResponse>> addRecommendationAttachment(
+            @PathVariable Long id,
+            @Valid @RequestBody AddAttachmentRequest request) {
+        AttachmentResponse attachment = applicationService.addRecommendationAttachment(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("File attached successfully", attachment));
+    }
+
+    /**
+     * Remove a file from the NRCC recommendation
+     */
+    @DeleteMapping("/{id}/recommendation/attachments/{attachmentId}")
+    @RequirePermission(Permission.APPLICATION_RECOMMEND)
+    public ResponseEntity<ApiResponse<Void>> removeRecommendationAttachment(
+            @PathVariable Long id,
+            @PathVariable Long attachmentId) {
+        applicationService.removeRecommendationAttachment(id, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success("Attachment removed successfully", null));
+    }
+
     // ==================== WORKFLOW OPERATIONS ====================
 
     /**
@@ -0,0 +1,54 @@
+package tz.go.roadsfund.nrcc.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
+import tz.go.roadsfund.nrcc.dto.response.AutocompleteSuggestion;
+import tz.go.roadsfund.nrcc.enums.AutocompleteType;
+import tz.go.roadsfund.nrcc.enums.Permission;
+import tz.go.roadsfund.nrcc.exception.BadRequestException;
+import tz.go.roadsfund.nrcc.exception.UnauthorizedException;
+import tz.go.roadsfund.nrcc.security.PermissionChecker;
+import tz.go.roadsfund.nrcc.security.RequirePermission;
+import tz.go.roadsfund.nrcc.service.AutocompleteIndex;
+
+import java.util.List;
+
+/**
+ * REST Controller for typeahead suggestions, served from the in-memory autocomplete index
+ */
+@RestController
+@RequestMapping("/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final AutocompleteIndex autocompleteIndex;
+    private final PermissionChecker permissionChecker;
+
+    /**
+     * Suggestions of one type whose words start with the prefix (case and accent insensitive)
+     */
+    @GetMapping
+    @RequirePermission(anyOf = {Permission.ROAD_LIST, Permission.ORGANIZATION_LIST, Permission.USER_LIST})
+    public ResponseEntity<ApiResponse<List<AutocompleteSuggestion>>> suggest(
+            @RequestParam AutocompleteType type,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (!permissionChecker.hasPermission(type.getPermission())) {
+            throw new UnauthorizedException("Insufficient permissions to perform this action");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<AutocompleteSuggestion> suggestions = autocompleteIndex.suggest(type, prefix, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+    }
+}
@@ -5,11 +5,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
 import tz.go.roadsfund.nrcc.dto.response.DashboardStatsResponse;
-import tz.go.roadsfund.nrcc.enums.ActionPlanStatus;
 import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
 import tz.go.roadsfund.nrcc.enums.Permission;
-import tz.go.roadsfund.nrcc.repository.*;
 import tz.go.roadsfund.nrcc.security.RequirePermission;
+import tz.go.roadsfund.nrcc.service.DashboardStatsService;
 import tz.go.roadsfund.nrcc.util.SecurityUtil;
 
 import java.util.HashMap;
@@ -20,58 +19,32 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final ApplicationRepository applicationRepository;
-    private final UserRepository userRepository;
-    private final RoadRepository roadRepository;
-    private final ActionPlanRepository actionPlanRepository;
-    private final RegionRepository regionRepository;
-    private final DistrictRepository districtRepository;
-    private final OrganizationRepository organizationRepository;
+    private final DashboardStatsService dashboardStatsService;
 
     @GetMapping("/stats")
     @RequirePermission(Permission.REPORT_VIEW)
     public ResponseEntity<ApiResponse<DashboardStatsResponse>> getDashboardStats() {
-
-        DashboardStatsResponse stats = DashboardStatsResponse.builder()
-                .totalApplications(applicationRepository.count())
-                .draftApplications(applicationRepository.countByStatus(ApplicationStatus.DRAFT))
-                .submittedApplications(countSubmittedApplications())
-                .approvedApplications(applicationRepository.countByStatus(ApplicationStatus.GAZETTED))
-                .rejectedApplications(countRejectedApplications())
-                .pendingApplications(countPendingApplications())
-                .totalUsers(userRepository.count())
-                .totalRoads(roadRepository.count())
-                .totalRegions(regionRepository.count())
-                .totalDistricts(districtRepository.count())
-                .totalOrganizations(organizationRepository.count())
-                .totalActionPlans(actionPlanRepository.count())
-                .activeActionPlans(actionPlanRepository.countByStatus(ActionPlanStatus.IN_PROGRESS))
-                .build();
-
+        DashboardStatsResponse stats = dashboardStatsService.getDashboardStats();
         return ResponseEntity.ok(ApiResponse.success("Dashboard stats retrieved", stats));
     }
 
     @GetMapping("/stats/applications")
     @RequirePermission(Permission.REPORT_VIEW)
     public ResponseEntity<ApiResponse<Map<String, Long>>> getApplicationStats() {
-        Map<String, Long> stats = new HashMap<>();
-
-        for (ApplicationStatus status : ApplicationStatus.values()) {
-            stats.put(status.name(), applicationRepository.countByStatus(status));
-        }
-
+        Map<String, Long> stats = dashboardStatsService.getApplicationStats();
         return ResponseEntity.ok(ApiResponse.success("Application stats retrieved", stats));
     }
 
     @GetMapping("/stats/my")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getMyStats() {
         Long userId = SecurityUtil.getCurrentUserId();
+        Map<ApplicationStatus, Long> counts = dashboardStatsService.getApplicantStatusCounts(userId);
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("myApplications", applicationRepository.countByApplicantId(userId));
-        stats.put("myDraftApplications", applicationRepository.countByApplicantIdAndStatus(userId, ApplicationStatus.DRAFT));
-        stats.put("mySubmittedApplications", applicationRepository.countByApplicantIdAndStatus(userId, ApplicationStatus.SUBMITTED));
-        stats.put("myApprovedApplications", applicationRepository.countByApplicantIdAndStatus(userId, ApplicationStatus.GAZETTED));
+        stats.put("myApplications", counts.values().stream().mapToLong(Long::longValue).sum());
+        stats.put("myDraftApplications", counts.getOrDefault(ApplicationStatus.DRAFT, 0L));
+        stats.put("mySubmittedApplications", counts.getOrDefault(ApplicationStatus.SUBMITTED, 0L));
+        stats.put("myApprovedApplications", counts.getOrDefault(ApplicationStatus.GAZETTED, 0L));
 
         return ResponseEntity.ok(ApiResponse.success("My stats retrieved", stats));
     }
@@ -79,32 +52,7 @@ public class DashboardController {
     @GetMapping("/stats/action-plans")
     @RequirePermission(Permission.ACTION_PLAN_READ)
     public ResponseEntity<ApiResponse<Map<String, Long>>> getActionPlanStats() {
-        Map<String, Long> stats = new HashMap<>();
-
-        for (ActionPlanStatus status : ActionPlanStatus.values()) {
-            stats.put(status.name(), actionPlanRepository.countByStatus(status));
-        }
-
+        Map<String, Long> stats = dashboardStatsService.getActionPlanStats();
         return ResponseEntity.ok(ApiResponse.success("Action plan stats retrieved", stats));
     }
-
-    private long countSubmittedApplications() {
-        return applicationRepository.countByStatus(ApplicationStatus.SUBMITTED) +
-               applicationRepository.countByStatus(ApplicationStatus.UNDER_MINISTER_REVIEW) +
-               applicationRepository.countByStatus(ApplicationStatus.UNDER_RAS_REVIEW) +
-               applicationRepository.countByStatus(ApplicationStatus.UNDER_RC_REVIEW);
-    }
-
-    private long countRejectedApplications() {
-        return applicationRepository.countByStatus(ApplicationStatus.DISAPPROVED_REFUSED) +
-               applicationRepository.countByStatus(ApplicationStatus.DISAPPROVED_DESIGNATED);
-    }
-
-    private long countPendingApplications() {
-        return applicationRepository.countByStatus(ApplicationStatus.WITH_NRCC_CHAIR) +
-               applicationRepository.countByStatus(ApplicationStatus.VERIFICATION_IN_PROGRESS) +
-               applicationRepository.countByStatus(ApplicationStatus.NRCC_REVIEW_MEETING) +
-               applicationRepository.countByStatus(ApplicationStatus.RECOMMENDATION_SUBMITTED) +
-               applicationRepository.countByStatus(ApplicationStatus.PENDING_GAZETTEMENT);
-    }
 }
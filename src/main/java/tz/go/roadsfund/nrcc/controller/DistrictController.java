@@ -16,6 +16,8 @@ import tz.go.roadsfund.nrcc.dto.response.DistrictResponse;
 import tz.go.roadsfund.nrcc.enums.Permission;
 import tz.go.roadsfund.nrcc.security.RequirePermission;
 import tz.go.roadsfund.nrcc.service.DistrictService;
+import tz.go.roadsfund.nrcc.service.ReferenceDataCache;
+import tz.go.roadsfund.nrcc.util.HttpCaching;
 
 import java.util.List;
 
@@ -28,6 +30,7 @@ import java.util.List;
 public class DistrictController {
 
     private final DistrictService districtService;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Create a new district
@@ -80,27 +83,29 @@ public class DistrictController {
     }
 
     /**
-     * Get all districts (list)
+     * Get all districts (list; cached, revalidate with If-None-Match)
      */
     @GetMapping("/list")
     @RequirePermission(Permission.DISTRICT_READ)
     public ResponseEntity<ApiResponse<List<DistrictResponse>>> getAllDistrictsList(
             @RequestParam(defaultValue = "false") boolean activeOnly) {
+        String etag = referenceDataCache.getETag();
         List<DistrictResponse> districts = activeOnly
                 ? districtService.getActiveDistricts()
                 : districtService.getAllDistricts();
-        return ResponseEntity.ok(ApiResponse.success("Districts retrieved successfully", districts));
+        return HttpCaching.revalidated(etag, ApiResponse.success("Districts retrieved successfully", districts));
     }
 
     /**
-     * Get districts by region ID
+     * Get districts by region ID (cached, revalidate with If-None-Match)
      */
     @GetMapping("/region/{regionId}")
     @RequirePermission(Permission.DISTRICT_READ)
     public ResponseEntity<ApiResponse<List<DistrictResponse>>> getDistrictsByRegion(
             @PathVariable Long regionId) {
+        String etag = referenceDataCache.getETag();
         List<DistrictResponse> districts = districtService.getDistrictsByRegion(regionId);
-        return ResponseEntity.ok(ApiResponse.success("Districts retrieved successfully", districts));
+        return HttpCaching.revalidated(etag, ApiResponse.success("Districts retrieved successfully", districts));
     }
 
     /**
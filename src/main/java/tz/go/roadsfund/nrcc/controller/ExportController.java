@@ -0,0 +1,100 @@
+package tz.go.roadsfund.nrcc.controller;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import tz.go.roadsfund.nrcc.enums.ExportFormat;
+import tz.go.roadsfund.nrcc.enums.Permission;
+import tz.go.roadsfund.nrcc.security.RequirePermission;
+import tz.go.roadsfund.nrcc.service.ExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Controller for streaming report exports (CSV or XLSX).
+ * Exports are written on a small pool of their own with their own timeout, so concurrent
+ * exports are bounded and long-running ones are not cut off, while every other async
+ * request keeps the application-wide MVC executor and timeout.
+ */
+@RestController
+@RequestMapping("/exports")
+public class ExportController {
+
+    private final ExportService exportService;
+    private final ThreadPoolTaskExecutor exportExecutor = new ThreadPoolTaskExecutor();
+    private final long requestTimeoutMs;
+
+    public ExportController(ExportService exportService,
+                            @Value("${export.max-concurrent:4}") int maxConcurrent,
+                            @Value("${export.queue-capacity:20}") int queueCapacity,
+                            @Value("${export.request-timeout-ms:900000}") long requestTimeoutMs) {
+        this.exportService = exportService;
+        this.requestTimeoutMs = requestTimeoutMs;
+        exportExecutor.setCorePoolSize(maxConcurrent);
+        exportExecutor.setMaxPoolSize(maxConcurrent);
+        exportExecutor.setQueueCapacity(queueCapacity);
+        exportExecutor.setThreadNamePrefix("export-");
+        exportExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        exportExecutor.shutdown();
+    }
+
+    @GetMapping("/applications")
+    @RequirePermission(Permission.REPORT_EXPORT)
+    public WebAsyncTask<Void> exportApplications(
+            @RequestParam(defaultValue = "csv") String format, HttpServletResponse response) {
+        return stream("applications", ExportFormat.fromParameter(format), response, exportService::exportApplications);
+    }
+
+    @GetMapping("/roads")
+    @RequirePermission(Permission.REPORT_EXPORT)
+    public WebAsyncTask<Void> exportRoads(
+            @RequestParam(defaultValue = "csv") String format, HttpServletResponse response) {
+        return stream("roads", ExportFormat.fromParameter(format), response, exportService::exportRoads);
+    }
+
+    @GetMapping("/users")
+    @RequirePermission(Permission.REPORT_EXPORT)
+    public WebAsyncTask<Void> exportUsers(
+            @RequestParam(defaultValue = "csv") String format, HttpServletResponse response) {
+        return stream("users", ExportFormat.fromParameter(format), response, exportService::exportUsers);
+    }
+
+    @GetMapping("/action-plans")
+    @RequirePermission(Permission.REPORT_EXPORT)
+    public WebAsyncTask<Void> exportActionPlans(
+            @RequestParam(defaultValue = "csv") String format, HttpServletResponse response) {
+        return stream("action-plans", ExportFormat.fromParameter(format), response, exportService::exportActionPlans);
+    }
+
+    private WebAsyncTask<Void> stream(String name, ExportFormat format, HttpServletResponse response,
+                                      Exporter exporter) {
+        String filename = String.format("%s-%s.%s", name, LocalDate.now(), format.getExtension());
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+
+        return new WebAsyncTask<>(requestTimeoutMs, exportExecutor, () -> {
+            OutputStream out = response.getOutputStream();
+            exporter.export(format, out);
+            out.flush();
+            return null;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Exporter {
+        void export(ExportFormat format, OutputStream out) throws IOException;
+    }
+}
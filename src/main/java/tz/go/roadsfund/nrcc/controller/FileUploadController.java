@@ -1,19 +1,30 @@
 package tz.go.roadsfund.nrcc.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import tz.go.roadsfund.nrcc.dto.request.CreateUploadSessionRequest;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
+import tz.go.roadsfund.nrcc.dto.response.UploadSessionResponse;
+import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
+import tz.go.roadsfund.nrcc.service.FilePreviewService;
 import tz.go.roadsfund.nrcc.service.FileStorageService;
+import tz.go.roadsfund.nrcc.service.ResumableUploadService;
+import tz.go.roadsfund.nrcc.util.FileDownloadWriter;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * File upload/download controller
@@ -23,7 +34,12 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class FileUploadController {
 
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_CHECKSUM = "Upload-Checksum";
+
     private final FileStorageService fileStorageService;
+    private final ResumableUploadService resumableUploadService;
+    private final FilePreviewService filePreviewService;
 
     @PostMapping("/upload")
     public ResponseEntity<ApiResponse<Map<String, String>>> uploadFile(@RequestParam("file") MultipartFile file) {
@@ -37,25 +53,102 @@ public class FileUploadController {
         return ResponseEntity.ok(ApiResponse.success("File uploaded successfully", response));
     }
 
+    /**
+     * Supports Range (206, multipart/byteranges for several ranges), If-Range and conditional
+     * requests; stored files never change, so responses are cacheable for a year. When the blob
+     * store hands out presigned URLs the client is redirected to download from it directly.
+     */
     @GetMapping("/download/{fileName:.+}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable String fileName, HttpServletRequest request) {
-        Resource resource = fileStorageService.loadFileAsResource(fileName);
-
-        String contentType = null;
-        try {
-            contentType = request.getServletContext().getMimeType(resource.getFile().getAbsolutePath());
-        } catch (IOException ex) {
+    public void downloadFile(@PathVariable String fileName, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        String contentType = request.getServletContext().getMimeType(fileName);
+        if (contentType == null) {
             contentType = "application/octet-stream";
         }
 
-        if (contentType == null) {
-            contentType = "application/octet-stream";
+        Optional<URI> presigned = fileStorageService.presignedDownloadUrl(fileName, contentType);
+        if (presigned.isPresent()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            response.sendRedirect(presigned.get().toString());
+            return;
         }
 
+        Path file = fileStorageService.loadFile(fileName);
+        FileDownloadWriter.write(file, contentType, fileName, request, response);
+    }
+
+    /**
+     * JPEG preview of an uploaded image or PDF (first page), fitted within size x size pixels.
+     * Answers 202 while the preview is being made and 503 when the preview queue is full.
+     */
+    @GetMapping("/{fileName:.+}/preview")
+    public void getPreview(@PathVariable String fileName, @RequestParam(defaultValue = "480") int size,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        FilePreviewService.Preview preview = filePreviewService.getPreview(fileName, size);
+        switch (preview.status()) {
+            case READY -> FileDownloadWriter.writeInline(preview.file(), MediaType.IMAGE_JPEG_VALUE, request, response);
+            case PENDING -> {
+                response.setStatus(HttpStatus.ACCEPTED.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "2");
+            }
+            case BUSY -> {
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "10");
+            }
+            case UNAVAILABLE -> throw new ResourceNotFoundException("Preview", "file", fileName);
+        }
+    }
+
+    /**
+     * Start a resumable upload; send the file with PUT /files/uploads/{uploadId}
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> createUpload(
+            @Valid @RequestBody CreateUploadSessionRequest request) {
+        UploadSessionResponse upload = resumableUploadService.createUpload(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(UPLOAD_OFFSET, String.valueOf(upload.getOffset()))
+                .body(ApiResponse.success("Upload started", upload));
+    }
+
+    /**
+     * Current offset of a resumable upload, to resume after an interruption
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getUpload(@PathVariable String uploadId) {
+        UploadSessionResponse upload = resumableUploadService.getUpload(uploadId);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET, String.valueOf(upload.getOffset()))
+                .body(ApiResponse.success("Upload retrieved", upload));
+    }
+
+    /**
+     * Send the next chunk as the raw request body. offset must be the upload's current offset;
+     * an optional Upload-Checksum header ("sha256 &lt;base64&gt;") is verified before the chunk counts.
+     */
+    @PutMapping("/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            @RequestHeader(value = UPLOAD_CHECKSUM, required = false) String checksum,
+            HttpServletRequest request) throws IOException {
+        UploadSessionResponse upload = resumableUploadService.writeChunk(uploadId, offset, checksum,
+                request.getInputStream());
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+                .header(UPLOAD_OFFSET, String.valueOf(upload.getOffset()))
+                .body(ApiResponse.success("Chunk received", upload));
+    }
+
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> completeUpload(@PathVariable String uploadId) {
+        UploadSessionResponse upload = resumableUploadService.completeUpload(uploadId);
+        return ResponseEntity.ok(ApiResponse.success("File uploaded successfully", upload));
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> cancelUpload(@PathVariable String uploadId) {
+        resumableUploadService.cancelUpload(uploadId);
+        return ResponseEntity.ok(ApiResponse.success("Upload cancelled", null));
     }
 
     @DeleteMapping("/{fileName:.+}")
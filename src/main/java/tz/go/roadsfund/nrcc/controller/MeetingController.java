@@ -8,17 +8,23 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import tz.go.roadsfund.nrcc.dto.request.AddAttachmentRequest;
 import tz.go.roadsfund.nrcc.dto.request.CreateMeetingRequest;
 import tz.go.roadsfund.nrcc.dto.request.UpdateMeetingRequest;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
+import tz.go.roadsfund.nrcc.dto.response.AttachmentResponse;
 import tz.go.roadsfund.nrcc.dto.response.MeetingDetailResponse;
 import tz.go.roadsfund.nrcc.dto.response.MeetingResponse;
 import tz.go.roadsfund.nrcc.enums.MeetingStatus;
 import tz.go.roadsfund.nrcc.enums.Permission;
+import tz.go.roadsfund.nrcc.enums.VersionedResource;
 import tz.go.roadsfund.nrcc.security.RequirePermission;
+import tz.go.roadsfund.nrcc.service.MeetingInvitationService;
 import tz.go.roadsfund.nrcc.service.MeetingService;
+import tz.go.roadsfund.nrcc.util.ConditionalGet;
 
 import java.util.List;
 import java.util.Map;
@@ -30,6 +36,7 @@ import java.util.Map;
 public class MeetingController {
 
     private final MeetingService meetingService;
+    private final MeetingInvitationService meetingInvitationService;
 
     @PostMapping
     @RequirePermission(Permission.MEETING_CREATE)
@@ -78,6 +85,7 @@ public class MeetingController {
 
     @GetMapping("/{id}")
     @RequirePermission(Permission.MEETING_READ)
+    @ConditionalGet(VersionedResource.MEETING)
     @Operation(summary = "Get meeting by ID", description = "Retrieve detailed information about a specific meeting")
     public ResponseEntity<ApiResponse<MeetingDetailResponse>> getMeeting(@PathVariable Long id) {
         MeetingDetailResponse meeting = meetingService.getMeeting(id);
@@ -142,6 +150,15 @@ public class MeetingController {
         return ResponseEntity.ok(ApiResponse.success("Application removed from meeting", meeting));
     }
 
+    @PostMapping("/{id}/invitations")
+    @RequirePermission(Permission.MEETING_UPDATE)
+    @Operation(summary = "Send invitations", description = "Email invitations to the NRCC members and the meeting's attendees")
+    public ResponseEntity<ApiResponse<Void>> sendInvitations(@PathVariable Long id) {
+        meetingService.getMeeting(id);
+        meetingInvitationService.queueInvitations(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("Invitations queued", null));
+    }
+
     @PostMapping("/{meetingId}/attendees/{userId}")
     @RequirePermission(Permission.MEETING_UPDATE)
     @Operation(summary = "Add attendee", description = "Add an attendee to the meeting")
@@ -162,6 +179,35 @@ public class MeetingController {
         return ResponseEntity.ok(ApiResponse.success("Attendee removed", meeting));
     }
 
+    @GetMapping("/{id}/attachments")
+    @RequirePermission(Permission.MEETING_READ)
+    @Operation(summary = "List attachments", description = "List files attached to the meeting")
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getAttachments(@PathVariable Long id) {
+        List<AttachmentResponse> attachments = meetingService.getAttachments(id);
+        return ResponseEntity.ok(ApiResponse.success("Attachments retrieved successfully", attachments));
+    }
+
+    @PostMapping("/{id}/attachments")
+    @RequirePermission(Permission.MEETING_UPDATE)
+    @Operation(summary = "Add attachment", description = "Attach an uploaded file, such as the minutes, to the meeting")
+    public ResponseEntity<ApiResponse<AttachmentResponse>> addAttachment(
+            @PathVariable Long id,
+            @Valid @RequestBody AddAttachmentRequest request) {
+        AttachmentResponse attachment = meetingService.addAttachment(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("File attached successfully", attachment));
+    }
+
+    @DeleteMapping("/{id}/attachments/{attachmentId}")
+    @RequirePermission(Permission.MEETING_UPDATE)
+    @Operation(summary = "Remove attachment", description = "Remove a file from the meeting")
+    public ResponseEntity<ApiResponse<Void>> removeAttachment(
+            @PathVariable Long id,
+            @PathVariable Long attachmentId) {
+        meetingService.removeAttachment(id, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success("Attachment removed successfully", null));
+    }
+
     @DeleteMapping("/{id}")
     @RequirePermission(Permission.MEETING_DELETE)
     @Operation(summary = "Delete meeting", description = "Delete a meeting (only if not completed)")
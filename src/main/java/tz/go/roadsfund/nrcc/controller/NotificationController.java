@@ -8,9 +8,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
+import tz.go.roadsfund.nrcc.dto.response.CursorPage;
 import tz.go.roadsfund.nrcc.dto.response.NotificationResponse;
 import tz.go.roadsfund.nrcc.entity.Notification;
 import tz.go.roadsfund.nrcc.repository.NotificationRepository;
+import tz.go.roadsfund.nrcc.util.PageCursor;
 import tz.go.roadsfund.nrcc.util.SecurityUtil;
 
 import java.time.LocalDateTime;
@@ -39,6 +41,27 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success("Notifications retrieved", notifications));
     }
 
+    @GetMapping(params = "after")
+    public ResponseEntity<ApiResponse<CursorPage<NotificationResponse>>> getMyNotificationsAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        Long userId = SecurityUtil.getCurrentUserId();
+        PageCursor cursor = PageCursor.decodeTimestamped(after);
+        Pageable limit = PageCursor.limit(size);
+        List<Notification> rows = cursor == null
+                ? notificationRepository.findLatestByUserId(userId, limit)
+                : notificationRepository.findOlderByUserId(userId, cursor.createdAt(), cursor.id(), limit);
+
+        CursorPage<NotificationResponse> notifications = CursorPage.of(rows, size,
+                n -> PageCursor.encode(n.getCreatedAt(), n.getId()),
+                this::mapToResponse,
+                includeTotal ? notificationRepository.countByRecipientId(userId) : null);
+
+        return ResponseEntity.ok(ApiResponse.success("Notifications retrieved", notifications));
+    }
+
     @GetMapping("/unread")
     public ResponseEntity<ApiResponse<List<NotificationResponse>>> getUnreadNotifications() {
         Long userId = SecurityUtil.getCurrentUserId();
@@ -12,6 +12,8 @@ import tz.go.roadsfund.nrcc.dto.request.UpdateOrganizationRequest;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
 import tz.go.roadsfund.nrcc.dto.response.OrganizationResponse;
 import tz.go.roadsfund.nrcc.service.OrganizationService;
+import tz.go.roadsfund.nrcc.service.ReferenceDataCache;
+import tz.go.roadsfund.nrcc.util.HttpCaching;
 
 import java.util.List;
 
@@ -24,6 +26,7 @@ import java.util.List;
 public class OrganizationController {
 
     private final OrganizationService organizationService;
+    private final ReferenceDataCache referenceDataCache;
 
     @PostMapping
     public ResponseEntity<ApiResponse<OrganizationResponse>> createOrganization(
@@ -49,8 +52,9 @@ public class OrganizationController {
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<OrganizationResponse>>> getAllOrganizations() {
+        String etag = referenceDataCache.getETag();
         List<OrganizationResponse> response = organizationService.getAllOrganizations();
-        return ResponseEntity.ok(ApiResponse.success("Organizations retrieved successfully", response));
+        return HttpCaching.revalidated(etag, ApiResponse.success("Organizations retrieved successfully", response));
     }
 
     @GetMapping("/paginated")
@@ -0,0 +1,33 @@
+package tz.go.roadsfund.nrcc.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
+import tz.go.roadsfund.nrcc.dto.response.ReferenceDataResponse;
+import tz.go.roadsfund.nrcc.service.ReferenceDataCache;
+import tz.go.roadsfund.nrcc.util.HttpCaching;
+
+/**
+ * REST Controller serving all active reference data in one cacheable payload
+ */
+@RestController
+@RequestMapping("/reference-data")
+@RequiredArgsConstructor
+public class ReferenceDataController {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    /**
+     * Active regions with their districts and each district's organizations.
+     * Clients should keep the ETag and send it back in If-None-Match to get 304 Not Modified.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ReferenceDataResponse>> getReferenceData() {
+        String etag = referenceDataCache.getETag();
+        ReferenceDataResponse tree = referenceDataCache.getTree();
+        return HttpCaching.revalidated(etag, ApiResponse.success("Reference data retrieved successfully", tree));
+    }
+}
@@ -15,7 +15,9 @@ import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
 import tz.go.roadsfund.nrcc.dto.response.RegionResponse;
 import tz.go.roadsfund.nrcc.enums.Permission;
 import tz.go.roadsfund.nrcc.security.RequirePermission;
+import tz.go.roadsfund.nrcc.service.ReferenceDataCache;
 import tz.go.roadsfund.nrcc.service.RegionService;
+import tz.go.roadsfund.nrcc.util.HttpCaching;
 
 import java.util.List;
 
@@ -28,6 +30,7 @@ import java.util.List;
 public class RegionController {
 
     private final RegionService regionService;
+    private final ReferenceDataCache referenceDataCache;
 
     // ==================== CREATE ====================
 
@@ -46,15 +49,16 @@ public class RegionController {
     // ==================== READ ====================
 
     /**
-     * Get all regions
+     * Get all regions (cached, revalidate with If-None-Match)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<List<RegionResponse>>> getAllRegions(
             @RequestParam(defaultValue = "false") boolean activeOnly) {
+        String etag = referenceDataCache.getETag();
         List<RegionResponse> regions = activeOnly
                 ? regionService.getActiveRegions()
                 : regionService.getAllRegions();
-        return ResponseEntity.ok(ApiResponse.success("Regions retrieved successfully", regions));
+        return HttpCaching.revalidated(etag, ApiResponse.success("Regions retrieved successfully", regions));
     }
 
     /**
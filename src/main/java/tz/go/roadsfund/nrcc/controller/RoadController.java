@@ -9,13 +9,19 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import tz.go.roadsfund.nrcc.dto.request.CreateRoadRequest;
 import tz.go.roadsfund.nrcc.dto.request.UpdateRoadRequest;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
+import tz.go.roadsfund.nrcc.dto.response.CursorPage;
+import tz.go.roadsfund.nrcc.dto.response.RoadImportResponse;
 import tz.go.roadsfund.nrcc.dto.response.RoadResponse;
 import tz.go.roadsfund.nrcc.enums.Permission;
+import tz.go.roadsfund.nrcc.enums.VersionedResource;
 import tz.go.roadsfund.nrcc.security.RequirePermission;
+import tz.go.roadsfund.nrcc.service.RoadImportService;
 import tz.go.roadsfund.nrcc.service.RoadService;
+import tz.go.roadsfund.nrcc.util.ConditionalGet;
 
 import java.util.List;
 
@@ -28,6 +34,7 @@ import java.util.List;
 public class RoadController {
 
     private final RoadService roadService;
+    private final RoadImportService roadImportService;
 
     /**
      * Create a new road
@@ -40,11 +47,23 @@ public class RoadController {
                 .body(ApiResponse.success("Road created successfully", road));
     }
 
+    /**
+     * Bulk import roads from a CSV or XLSX file with a header row. Rows that fail validation
+     * or repeat an existing road number are skipped and listed in the response
+     */
+    @PostMapping(value = "/import", consumes = "multipart/form-data")
+    @RequirePermission(Permission.ROAD_CREATE)
+    public ResponseEntity<ApiResponse<RoadImportResponse>> importRoads(@RequestParam("file") MultipartFile file) {
+        RoadImportResponse result = roadImportService.importRoads(file);
+        return ResponseEntity.ok(ApiResponse.success("Road import completed", result));
+    }
+
     /**
      * Get road by ID
      */
     @GetMapping("/{id}")
     @RequirePermission(anyOf = {Permission.ROAD_READ, Permission.ROAD_LIST})
+    @ConditionalGet(VersionedResource.ROAD)
     public ResponseEntity<ApiResponse<RoadResponse>> getRoadById(@PathVariable Long id) {
         RoadResponse road = roadService.getRoadById(id);
         return ResponseEntity.ok(ApiResponse.success("Road retrieved successfully", road));
@@ -88,6 +107,21 @@ public class RoadController {
         return ResponseEntity.ok(ApiResponse.success("Roads retrieved successfully", roads));
     }
 
+    /**
+     * Get roads in id order using keyset pagination: pass an empty after for the first page and the
+     * returned nextCursor for each following page
+     */
+    @GetMapping(value = "/paginated", params = "after")
+    @RequirePermission(Permission.ROAD_LIST)
+    public ResponseEntity<ApiResponse<CursorPage<RoadResponse>>> getRoadsAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPage<RoadResponse> roads = roadService.getRoadsAfter(after, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success("Roads retrieved successfully", roads));
+    }
+
     /**
      * Get roads by region
      */
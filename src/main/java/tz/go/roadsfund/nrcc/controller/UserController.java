@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import tz.go.roadsfund.nrcc.dto.request.*;
 import tz.go.roadsfund.nrcc.dto.response.ApiResponse;
 import tz.go.roadsfund.nrcc.dto.response.BulkActionResponse;
+import tz.go.roadsfund.nrcc.dto.response.CursorPage;
 import tz.go.roadsfund.nrcc.dto.response.UserDetailsResponse;
 import tz.go.roadsfund.nrcc.dto.response.UserResponse;
 import tz.go.roadsfund.nrcc.enums.Permission;
@@ -90,6 +91,21 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
     }
 
+    /**
+     * Get users in id order using keyset pagination: pass an empty after for the first page and the
+     * returned nextCursor for each following page
+     */
+    @GetMapping(value = "/paginated", params = "after")
+    @RequirePermission(Permission.USER_LIST)
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getUsersAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPage<UserResponse> users = userService.getUsersAfter(after, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
+    }
+
     /**
      * Get users by role
      */
@@ -0,0 +1,19 @@
+package tz.go.roadsfund.nrcc.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO for attaching an uploaded file to a record
+ */
+@Data
+public class AddAttachmentRequest {
+
+    /**
+     * Name returned by the upload endpoints
+     */
+    @NotBlank(message = "File name is required")
+    @Size(max = 500, message = "File name must not exceed 500 characters")
+    private String fileName;
+}
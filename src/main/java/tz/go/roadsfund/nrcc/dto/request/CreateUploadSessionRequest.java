@@ -0,0 +1,32 @@
+package tz.go.roadsfund.nrcc.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO for starting a resumable upload
+ */
+@Data
+public class CreateUploadSessionRequest {
+
+    @NotBlank(message = "File name is required")
+    @Size(max = 200, message = "File name must not exceed 200 characters")
+    private String fileName;
+
+    @NotNull(message = "File size is required")
+    @Positive(message = "File size must be greater than 0")
+    private Long size;
+
+    @Size(max = 255, message = "Content type must not exceed 255 characters")
+    private String contentType;
+
+    /**
+     * Optional hex SHA-256 of the whole file, verified when the upload is completed
+     */
+    @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "SHA-256 must be 64 hex characters")
+    private String sha256;
+}
@@ -2,9 +2,11 @@ package tz.go.roadsfund.nrcc.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * DTO for submitting verification report
@@ -20,4 +22,10 @@ public class SubmitVerificationReportRequest {
 
     @NotBlank(message = "Findings are required")
     private String findings;
+
+    /**
+     * Stored file names (from /files/upload or a completed resumable upload) to attach to the report
+     */
+    @Size(max = 50, message = "At most 50 files can be attached at once")
+    private List<@NotBlank String> attachments;
 }
@@ -0,0 +1,24 @@
+package tz.go.roadsfund.nrcc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Full-text search result: the application summary, its relevance and the matching excerpt
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationSearchResponse {
+
+    private ApplicationResponse application;
+    private Double rank;
+
+    /**
+     * Fragments of the form text with matched terms wrapped in &lt;mark&gt; tags
+     */
+    private String highlight;
+}
@@ -0,0 +1,26 @@
+package tz.go.roadsfund.nrcc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a file attached to a record
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentResponse {
+
+    private Long id;
+    private String fileName;
+    private Long size;
+    private String contentType;
+    private String checksum;
+    private String createdBy;
+    private LocalDateTime createdAt;
+}
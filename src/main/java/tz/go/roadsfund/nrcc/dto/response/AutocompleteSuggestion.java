@@ -0,0 +1,21 @@
+package tz.go.roadsfund.nrcc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Typeahead suggestion. The id is null for free-text places taken from road end points.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteSuggestion {
+
+    private String type;
+    private Long id;
+    private String label;
+    private String detail;
+}
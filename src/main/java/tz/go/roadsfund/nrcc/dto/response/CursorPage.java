@@ -0,0 +1,45 @@
+package tz.go.roadsfund.nrcc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ * Pass nextCursor as the after parameter to fetch the following page;
+ * totalElements is only present when the total was requested.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+
+    /**
+     * Build a page from rows fetched with a limit of size + 1; the extra row only
+     * signals that another page exists
+     */
+    public static <R, T> CursorPage<T> of(List<R> rows, int size, Function<R, String> cursorOf,
+                                          Function<R, T> mapper, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<T>builder()
+                .content(pageRows.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package tz.go.roadsfund.nrcc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Active reference data as one region -> district -> organization tree
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceDataResponse {
+
+    private List<RegionNode> regions;
+
+    /**
+     * Active organizations not linked to a district
+     */
+    private List<OrganizationResponse> unassignedOrganizations;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegionNode {
+        private Long id;
+        private String code;
+        private String name;
+        private List<DistrictNode> districts;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DistrictNode {
+        private Long id;
+        private String code;
+        private String name;
+        private List<OrganizationResponse> organizations;
+    }
+}
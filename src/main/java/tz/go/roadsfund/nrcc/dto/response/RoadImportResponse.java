@@ -0,0 +1,39 @@
+package tz.go.roadsfund.nrcc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk road import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoadImportResponse {
+
+    private int totalRows;
+    private int importedCount;
+    private int failedCount;
+    private long durationMs;
+    private List<RowError> errors;
+
+    /**
+     * True when more rows failed than are listed in errors
+     */
+    private boolean errorsTruncated;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String roadNumber;
+        private String reason;
+    }
+}
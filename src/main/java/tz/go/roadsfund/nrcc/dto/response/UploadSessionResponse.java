@@ -0,0 +1,44 @@
+package tz.go.roadsfund.nrcc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a resumable upload
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionResponse {
+
+    private String uploadId;
+    private String fileName;
+    private long size;
+
+    /**
+     * Bytes received so far; the next chunk starts here
+     */
+    private long offset;
+
+    /**
+     * Smallest chunk the server accepts; chunks of any size are gathered into parts server side
+     */
+    private long minChunkSize;
+
+    /**
+     * Largest chunk the server accepts in one request
+     */
+    private long maxChunkSize;
+
+    private LocalDateTime expiresAt;
+
+    /**
+     * Name of the stored file, set once the upload is completed
+     */
+    private String storedFileName;
+}
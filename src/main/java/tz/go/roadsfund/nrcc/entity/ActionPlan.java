@@ -22,7 +22,8 @@ import java.util.List;
 public class ActionPlan extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "action_plans_id_seq")
+    @SequenceGenerator(name = "action_plans_id_seq", sequenceName = "action_plans_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "financial_year", nullable = false, length = 20)
@@ -25,7 +25,8 @@ import java.util.Set;
 public class ActionPlanActivity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "action_plan_activities_id_seq")
+    @SequenceGenerator(name = "action_plan_activities_id_seq", sequenceName = "action_plan_activities_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class ActionPlanAttachment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "action_plan_attachments_id_seq")
+    @SequenceGenerator(name = "action_plan_attachments_id_seq", sequenceName = "action_plan_attachments_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "target_id")
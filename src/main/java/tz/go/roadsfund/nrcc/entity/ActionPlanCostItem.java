@@ -18,7 +18,8 @@ import java.math.BigDecimal;
 public class ActionPlanCostItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "action_plan_cost_items_id_seq")
+    @SequenceGenerator(name = "action_plan_cost_items_id_seq", sequenceName = "action_plan_cost_items_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -21,7 +21,8 @@ import java.util.List;
 public class ActionPlanTarget extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "action_plan_targets_id_seq")
+    @SequenceGenerator(name = "action_plan_targets_id_seq", sequenceName = "action_plan_targets_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class Appeal extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appeals_id_seq")
+    @SequenceGenerator(name = "appeals_id_seq", sequenceName = "appeals_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -14,7 +14,12 @@ import java.util.List;
  * Application entity for road reclassification requests
  */
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_applications_status", columnList = "status"),
+        @Index(name = "idx_applications_applicant_status", columnList = "applicant_id, status"),
+        @Index(name = "idx_applications_current_owner", columnList = "current_owner_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +28,8 @@ import java.util.List;
 public class Application extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_id_seq")
+    @SequenceGenerator(name = "applications_id_seq", sequenceName = "applications_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "application_number", unique = true, nullable = false, length = 50)
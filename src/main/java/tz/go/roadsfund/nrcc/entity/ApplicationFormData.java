@@ -9,7 +9,9 @@ import java.math.BigDecimal;
  * Application Form Data entity (Fourth Schedule fields)
  */
 @Entity
-@Table(name = "application_form_data")
+@Table(name = "application_form_data", indexes = {
+        @Index(name = "idx_application_form_data_application", columnList = "application_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +20,8 @@ import java.math.BigDecimal;
 public class ApplicationFormData extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_form_data_id_seq")
+    @SequenceGenerator(name = "application_form_data_id_seq", sequenceName = "application_form_data_id_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -85,6 +88,25 @@ public class ApplicationFormData extends BaseEntity {
     @Column(name = "map_sketch_path", length = 500)
     private String mapSketchPath;
 
+    /**
+     * Free-text file references from before the attachments catalog; copied into it at startup
+     * by {@code AttachmentService.syncLegacyReferences}. New attachments go through {@link Attachment}.
+     */
     @Column(columnDefinition = "TEXT")
     private String attachments;
+
+    /**
+     * Full-text search document maintained by PostgreSQL (V6__Application_Search_Vector.sql) and
+     * queried natively by {@code ApplicationRepository.search}. Mapped read-only so that schema
+     * validation fails when the column is missing and ddl-auto creates it the same way.
+     */
+    @Column(name = "search_vector", insertable = false, updatable = false,
+            columnDefinition = "tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('english', coalesce(road_name, '')), 'A') || " +
+                    "setweight(to_tsvector('english', coalesce(starting_point, '') || ' ' || coalesce(terminal_point, '')), 'B') || " +
+                    "setweight(to_tsvector('english', coalesce(towns_villages_linked, '') || ' ' || coalesce(principal_nodes, '')), 'B') || " +
+                    "setweight(to_tsvector('english', coalesce(reclassification_reasons, '')), 'C')" +
+                    ") STORED")
+    @Setter(AccessLevel.NONE)
+    private String searchVector;
 }
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
  * Approval Action entity for tracking workflow actions (Audit Trail)
  */
 @Entity
-@Table(name = "approval_actions")
+@Table(name = "approval_actions", indexes = {
+        @Index(name = "idx_approval_actions_application_date", columnList = "application_id, action_date"),
+        @Index(name = "idx_approval_actions_actor", columnList = "actor_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +23,8 @@ import java.time.LocalDateTime;
 public class ApprovalAction extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approval_actions_id_seq")
+    @SequenceGenerator(name = "approval_actions_id_seq", sequenceName = "approval_actions_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,55 @@
+package tz.go.roadsfund.nrcc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import tz.go.roadsfund.nrcc.enums.AttachmentOwnerType;
+
+/**
+ * A stored file attached to a record. Stored files that no attachment refers to are
+ * reclaimed by the file garbage collector once they are old enough.
+ */
+@Entity
+@Table(name = "attachments", indexes = {
+        @Index(name = "idx_attachments_owner", columnList = "owner_type, owner_id"),
+        @Index(name = "idx_attachments_file_name", columnList = "file_name")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Attachment extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachments_id_seq")
+    @SequenceGenerator(name = "attachments_id_seq", sequenceName = "attachments_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", nullable = false, length = 30)
+    private AttachmentOwnerType ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    /**
+     * Public name of the stored file
+     */
+    @Column(name = "file_name", nullable = false, length = 500)
+    private String fileName;
+
+    @Column(name = "blob_key", nullable = false, length = 100)
+    private String blobKey;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+
+    /**
+     * Hex SHA-256 of the content
+     */
+    @Column(nullable = false, length = 64)
+    private String checksum;
+}
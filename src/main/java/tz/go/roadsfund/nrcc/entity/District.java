@@ -2,12 +2,14 @@ package tz.go.roadsfund.nrcc.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import tz.go.roadsfund.nrcc.entity.listener.SearchableEntityListener;
 
 /**
  * District entity representing administrative districts in Tanzania
  */
 @Entity
 @Table(name = "districts")
+@EntityListeners(SearchableEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +18,8 @@ import lombok.*;
 public class District extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "districts_id_seq")
+    @SequenceGenerator(name = "districts_id_seq", sequenceName = "districts_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
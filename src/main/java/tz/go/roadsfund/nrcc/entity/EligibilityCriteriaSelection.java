@@ -8,7 +8,9 @@ import tz.go.roadsfund.nrcc.enums.EligibilityCriterion;
  * Eligibility Criteria Selection entity
  */
 @Entity
-@Table(name = "eligibility_criteria_selections")
+@Table(name = "eligibility_criteria_selections", indexes = {
+        @Index(name = "idx_eligibility_selections_application", columnList = "application_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +19,8 @@ import tz.go.roadsfund.nrcc.enums.EligibilityCriterion;
 public class EligibilityCriteriaSelection extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eligibility_criteria_selections_id_seq")
+    @SequenceGenerator(name = "eligibility_criteria_selections_id_seq", sequenceName = "eligibility_criteria_selections_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,33 @@
+package tz.go.roadsfund.nrcc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stored content, keyed by its SHA-256. refCount is the number of stored files sharing it;
+ * the content and this row are deleted after the release of the last one commits.
+ */
+@Entity
+@Table(name = "file_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -19,7 +19,8 @@ import java.time.LocalDate;
 public class Gazettement extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gazettements_id_seq")
+    @SequenceGenerator(name = "gazettements_id_seq", sequenceName = "gazettements_id_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -19,7 +19,8 @@ import java.util.Set;
 public class Meeting extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meetings_id_seq")
+    @SequenceGenerator(name = "meetings_id_seq", sequenceName = "meetings_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
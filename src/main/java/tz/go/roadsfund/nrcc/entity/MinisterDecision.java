@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class MinisterDecision extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "minister_decisions_id_seq")
+    @SequenceGenerator(name = "minister_decisions_id_seq", sequenceName = "minister_decisions_id_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -18,7 +18,8 @@ import java.time.LocalDate;
 public class NRCCMeeting extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "nrcc_meetings_id_seq")
+    @SequenceGenerator(name = "nrcc_meetings_id_seq", sequenceName = "nrcc_meetings_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,6 +2,7 @@ package tz.go.roadsfund.nrcc.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
 import tz.go.roadsfund.nrcc.enums.NotificationChannel;
 import tz.go.roadsfund.nrcc.enums.NotificationStatus;
 
@@ -11,7 +12,11 @@ import java.time.LocalDateTime;
  * Notification entity
  */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_recipient_created_at_id", columnList = "recipient_id, created_at, id"),
+        @Index(name = "idx_notifications_recipient_read_created_at", columnList = "recipient_id, is_read, created_at"),
+        @Index(name = "idx_notifications_application", columnList = "application_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +25,8 @@ import java.time.LocalDateTime;
 public class Notification extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_id_seq")
+    @SequenceGenerator(name = "notifications_id_seq", sequenceName = "notifications_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -63,4 +69,23 @@ public class Notification extends BaseEntity {
 
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
+
+    /**
+     * Application status at the time the notification was queued, so delivery
+     * reports the transition that triggered it rather than the current status
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "application_status", length = 50)
+    private ApplicationStatus applicationStatus;
+
+    @Column(name = "attempts")
+    @Builder.Default
+    private Integer attempts = 0;
+
+    /**
+     * Earliest time the dispatcher may pick this notification up; also used as the
+     * lease expiry while a dispatcher instance is delivering it
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
 }
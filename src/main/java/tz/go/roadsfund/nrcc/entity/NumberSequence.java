@@ -0,0 +1,28 @@
+package tz.go.roadsfund.nrcc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * High-water mark for a named, per-year reference number sequence
+ * (e.g. "APPLICATION:2025"). Allocators reserve blocks by advancing nextValue.
+ */
+@Entity
+@Table(name = "number_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NumberSequence {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    /**
+     * First value not yet handed out to any allocator
+     */
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -2,12 +2,14 @@ package tz.go.roadsfund.nrcc.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import tz.go.roadsfund.nrcc.entity.listener.SearchableEntityListener;
 
 /**
  * Organization entity
  */
 @Entity
 @Table(name = "organizations")
+@EntityListeners(SearchableEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +18,8 @@ import lombok.*;
 public class Organization extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "organizations_id_seq")
+    @SequenceGenerator(name = "organizations_id_seq", sequenceName = "organizations_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "otp_tokens")
+@Table(name = "otp_tokens", indexes = {
+        @Index(name = "idx_otp_tokens_phone_created_at", columnList = "phone_number, created_at"),
+        @Index(name = "idx_otp_tokens_expires_at", columnList = "expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +18,8 @@ import java.time.LocalDateTime;
 public class OtpToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "otp_tokens_id_seq")
+    @SequenceGenerator(name = "otp_tokens_id_seq", sequenceName = "otp_tokens_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "phone_number", nullable = false, length = 20)
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Recommendation extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recommendations_id_seq")
+    @SequenceGenerator(name = "recommendations_id_seq", sequenceName = "recommendations_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
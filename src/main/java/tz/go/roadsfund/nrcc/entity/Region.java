@@ -2,12 +2,14 @@ package tz.go.roadsfund.nrcc.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import tz.go.roadsfund.nrcc.entity.listener.SearchableEntityListener;
 
 /**
  * Region entity representing administrative regions in Tanzania
  */
 @Entity
 @Table(name = "regions")
+@EntityListeners(SearchableEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +18,8 @@ import lombok.*;
 public class Region extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "regions_id_seq")
+    @SequenceGenerator(name = "regions_id_seq", sequenceName = "regions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -2,6 +2,7 @@ package tz.go.roadsfund.nrcc.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import tz.go.roadsfund.nrcc.entity.listener.SearchableEntityListener;
 import tz.go.roadsfund.nrcc.enums.RoadClass;
 
 import java.math.BigDecimal;
@@ -11,6 +12,7 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "roads")
+@EntityListeners(SearchableEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +21,8 @@ import java.math.BigDecimal;
 public class Road extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roads_id_seq")
+    @SequenceGenerator(name = "roads_id_seq", sequenceName = "roads_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -0,0 +1,39 @@
+package tz.go.roadsfund.nrcc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * An uploaded file as known to clients: its public name and the content it points to
+ */
+@Entity
+@Table(name = "stored_files", indexes = {
+        @Index(name = "idx_stored_files_content_hash", columnList = "content_hash")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredFile extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stored_files_id_seq")
+    @SequenceGenerator(name = "stored_files_id_seq", sequenceName = "stored_files_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 500)
+    private String name;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+
+    @Column(name = "original_name", length = 255)
+    private String originalName;
+}
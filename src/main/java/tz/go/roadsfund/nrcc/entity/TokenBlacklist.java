@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "token_blacklist", indexes = {
         @Index(name = "idx_token", columnList = "token"),
-        @Index(name = "idx_expires_at", columnList = "expires_at")
+        @Index(name = "idx_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_token_blacklist_blacklisted_at", columnList = "blacklisted_at")
 })
 @Getter
 @Setter
@@ -21,7 +22,8 @@ import java.time.LocalDateTime;
 public class TokenBlacklist {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "token_blacklist_id_seq")
+    @SequenceGenerator(name = "token_blacklist_id_seq", sequenceName = "token_blacklist_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 500)
@@ -0,0 +1,88 @@
+package tz.go.roadsfund.nrcc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A resumable upload in progress. Chunks are gathered into the parts of a blob store multipart
+ * upload; receivedBytes counts the bytes stored and checksum-verified so far, and the next
+ * chunk must start there. The SHA-256 of the whole file is carried forward chunk by chunk. A node receiving a chunk holds a lease on the session, so
+ * chunks of one upload are taken one at a time whichever node they reach.
+ */
+@Entity
+@Table(name = "upload_sessions", indexes = {
+        @Index(name = "idx_upload_sessions_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSession {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "received_bytes", nullable = false)
+    private Long receivedBytes;
+
+    /**
+     * Hex SHA-256 of the whole file, checked on completion when the client supplied it
+     */
+    @Column(length = 64)
+    private String sha256;
+
+    /**
+     * Id of the blob store multipart upload holding the chunks
+     */
+    @Column(name = "store_upload_id", nullable = false, length = 1024)
+    private String storeUploadId;
+
+    @Column(name = "part_count", nullable = false)
+    private Integer partCount;
+
+    /**
+     * Bytes received after the last part, held under a pending key until they fill a part
+     */
+    @Column(name = "buffered_bytes", nullable = false)
+    private Long bufferedBytes;
+
+    /**
+     * Saved SHA-256 state over the bytes received so far (see ResumableSha256)
+     */
+    @Column(name = "digest_state")
+    private byte[] digestState;
+
+    /**
+     * Set by the node receiving a chunk or completing the upload, cleared when it is done
+     */
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    /**
+     * A lease left behind by a node that stopped is free again after this time
+     */
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
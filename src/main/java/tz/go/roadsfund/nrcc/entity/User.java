@@ -2,13 +2,21 @@ package tz.go.roadsfund.nrcc.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import tz.go.roadsfund.nrcc.entity.listener.SearchableEntityListener;
 import tz.go.roadsfund.nrcc.enums.UserRole;
+import tz.go.roadsfund.nrcc.security.UserPrincipalCacheListener;
 
 /**
  * User entity representing all system users
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_status", columnList = "role, status"),
+        @Index(name = "idx_users_organization", columnList = "organization_id"),
+        @Index(name = "idx_users_district", columnList = "district_id"),
+        @Index(name = "idx_users_updated_at", columnList = "updated_at")
+})
+@EntityListeners({UserPrincipalCacheListener.class, SearchableEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +25,8 @@ import tz.go.roadsfund.nrcc.enums.UserRole;
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -75,7 +84,8 @@ public class User extends BaseEntity {
     private Integer tokenVersion = 0;
 
     /**
-     * Increment token version to invalidate all existing tokens
+     * Increment token version to invalidate all existing tokens.
+     * Cached principals for this user are evicted by {@link UserPrincipalCacheListener} on flush.
      */
     public void incrementTokenVersion() {
         this.tokenVersion = (this.tokenVersion == null ? 0 : this.tokenVersion) + 1;
@@ -19,7 +19,8 @@ import java.time.LocalDate;
 public class VerificationAssignment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "verification_assignments_id_seq")
+    @SequenceGenerator(name = "verification_assignments_id_seq", sequenceName = "verification_assignments_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
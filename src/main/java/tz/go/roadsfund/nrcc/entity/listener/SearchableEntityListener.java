@@ -0,0 +1,32 @@
+package tz.go.roadsfund.nrcc.entity.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import tz.go.roadsfund.nrcc.event.SearchableEntityChangedEvent;
+
+/**
+ * JPA entity listener for roads, regions, districts, organizations and users. Changes are
+ * published as {@link SearchableEntityChangedEvent}s, which consumers such as the
+ * autocomplete index apply after commit; the entities do not depend on those services.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchableEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        eventPublisher.publishEvent(new SearchableEntityChangedEvent(entity, false));
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        eventPublisher.publishEvent(new SearchableEntityChangedEvent(entity, true));
+    }
+}
@@ -0,0 +1,14 @@
+package tz.go.roadsfund.nrcc.enums;
+
+/**
+ * Kinds of records that files can be attached to
+ */
+public enum AttachmentOwnerType {
+    APPLICATION,
+    ACTION_PLAN_TARGET,
+    ACTION_PLAN_ACTIVITY,
+    RECOMMENDATION,
+    NRCC_MEETING,
+    MEETING,
+    VERIFICATION_REPORT
+}
@@ -0,0 +1,21 @@
+package tz.go.roadsfund.nrcc.enums;
+
+/**
+ * Suggestion categories served by the autocomplete endpoint, with the permission needed to read each
+ */
+public enum AutocompleteType {
+    ROAD(Permission.ROAD_LIST),
+    PLACE(Permission.ROAD_LIST),
+    ORGANIZATION(Permission.ORGANIZATION_LIST),
+    USER(Permission.USER_LIST);
+
+    private final Permission permission;
+
+    AutocompleteType(Permission permission) {
+        this.permission = permission;
+    }
+
+    public Permission getPermission() {
+        return permission;
+    }
+}
@@ -0,0 +1,38 @@
+package tz.go.roadsfund.nrcc.enums;
+
+/**
+ * Aggregates served with conditional GET, each with the JPQL projection (parameter :id) whose
+ * values change whenever the detail response would. Child rows contribute a count, so deletes
+ * show up, and their latest updatedAt. No row means the aggregate does not exist.
+ */
+public enum VersionedResource {
+    APPLICATION("SELECT a.updatedAt, f.updatedAt, applicant.updatedAt, owner.updatedAt, " +
+            "(SELECT COUNT(h.id) FROM ApprovalAction h WHERE h.application = a), " +
+            "(SELECT MAX(h.updatedAt) FROM ApprovalAction h WHERE h.application = a), " +
+            "(SELECT COUNT(c.id) FROM EligibilityCriteriaSelection c WHERE c.application = a), " +
+            "(SELECT MAX(c.updatedAt) FROM EligibilityCriteriaSelection c WHERE c.application = a) " +
+            "FROM Application a LEFT JOIN a.formData f LEFT JOIN a.applicant applicant " +
+            "LEFT JOIN a.currentOwner owner WHERE a.id = :id"),
+    ACTION_PLAN("SELECT p.updatedAt, " +
+            "(SELECT COUNT(t.id) FROM ActionPlanTarget t WHERE t.actionPlan = p), " +
+            "(SELECT MAX(t.updatedAt) FROM ActionPlanTarget t WHERE t.actionPlan = p), " +
+            "(SELECT COUNT(ac.id) FROM ActionPlanActivity ac WHERE ac.target.actionPlan = p), " +
+            "(SELECT MAX(ac.updatedAt) FROM ActionPlanActivity ac WHERE ac.target.actionPlan = p), " +
+            "(SELECT COUNT(ci.id) FROM ActionPlanCostItem ci WHERE ci.activity.target.actionPlan = p), " +
+            "(SELECT MAX(ci.updatedAt) FROM ActionPlanCostItem ci WHERE ci.activity.target.actionPlan = p) " +
+            "FROM ActionPlan p WHERE p.id = :id"),
+    ROAD("SELECT r.updatedAt FROM Road r WHERE r.id = :id"),
+    MEETING("SELECT m.updatedAt, COUNT(DISTINCT a.id), MAX(a.updatedAt), COUNT(DISTINCT u.id), MAX(u.updatedAt) " +
+            "FROM Meeting m LEFT JOIN m.applications a LEFT JOIN m.attendees u " +
+            "WHERE m.id = :id GROUP BY m.id, m.updatedAt");
+
+    private final String versionQuery;
+
+    VersionedResource(String versionQuery) {
+        this.versionQuery = versionQuery;
+    }
+
+    public String getVersionQuery() {
+        return versionQuery;
+    }
+}
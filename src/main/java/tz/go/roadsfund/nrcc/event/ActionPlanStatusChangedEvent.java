@@ -0,0 +1,12 @@
+package tz.go.roadsfund.nrcc.event;
+
+import tz.go.roadsfund.nrcc.enums.ActionPlanStatus;
+
+/**
+ * Published whenever an action plan enters, leaves or changes status.
+ * A null fromStatus means the plan was created, a null toStatus that it was deleted.
+ */
+public record ActionPlanStatusChangedEvent(Long actionPlanId,
+                                           ActionPlanStatus fromStatus,
+                                           ActionPlanStatus toStatus) {
+}
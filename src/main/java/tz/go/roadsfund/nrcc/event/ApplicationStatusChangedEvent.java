@@ -0,0 +1,13 @@
+package tz.go.roadsfund.nrcc.event;
+
+import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
+
+/**
+ * Published whenever an application enters, leaves or changes workflow status.
+ * A null fromStatus means the application was created, a null toStatus that it was deleted.
+ */
+public record ApplicationStatusChangedEvent(Long applicationId,
+                                            Long applicantId,
+                                            ApplicationStatus fromStatus,
+                                            ApplicationStatus toStatus) {
+}
@@ -0,0 +1,7 @@
+package tz.go.roadsfund.nrcc.event;
+
+/**
+ * Published when an upload has been added to the file store
+ */
+public record FileStoredEvent(String name, String contentHash, String originalName) {
+}
@@ -0,0 +1,7 @@
+package tz.go.roadsfund.nrcc.event;
+
+/**
+ * Published when a meeting is scheduled, so invitations go out after commit
+ */
+public record MeetingScheduledEvent(Long meetingId) {
+}
@@ -0,0 +1,9 @@
+package tz.go.roadsfund.nrcc.event;
+
+import tz.go.roadsfund.nrcc.enums.NotificationChannel;
+
+/**
+ * Published when a notification is written to the outbox and awaits delivery
+ */
+public record NotificationQueuedEvent(Long notificationId, NotificationChannel channel) {
+}
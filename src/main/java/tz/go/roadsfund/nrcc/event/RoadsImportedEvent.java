@@ -0,0 +1,7 @@
+package tz.go.roadsfund.nrcc.event;
+
+/**
+ * Published when a bulk import has inserted roads outside JPA
+ */
+public record RoadsImportedEvent(int importedCount) {
+}
@@ -0,0 +1,7 @@
+package tz.go.roadsfund.nrcc.event;
+
+/**
+ * Published when an entity covered by the autocomplete index is saved or deleted
+ */
+public record SearchableEntityChangedEvent(Object entity, boolean removed) {
+}
@@ -0,0 +1,16 @@
+package tz.go.roadsfund.nrcc.exception;
+
+/**
+ * Exception thrown when a message can never be delivered, e.g. the recipient address
+ * is malformed or rejected by the server. Retrying will not help.
+ */
+public class UndeliverableMessageException extends RuntimeException {
+
+    public UndeliverableMessageException(String message) {
+        super(message);
+    }
+
+    public UndeliverableMessageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,8 @@
 package tz.go.roadsfund.nrcc.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.ActionPlanActivity;
 import tz.go.roadsfund.nrcc.entity.ActionPlanTarget;
@@ -21,4 +23,7 @@ public interface ActionPlanActivityRepository extends JpaRepository<ActionPlanAc
     List<ActionPlanActivity> findByStatus(ActivityStatus status);
 
     List<ActionPlanActivity> findByTargetIdOrderByDisplayOrderAsc(Long targetId);
+
+    @Query("SELECT a.id FROM ActionPlanActivity a WHERE a.target.actionPlan.id = :actionPlanId")
+    List<Long> findIdsByActionPlanId(@Param("actionPlanId") Long actionPlanId);
 }
@@ -1,6 +1,7 @@
 package tz.go.roadsfund.nrcc.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.ActionPlan;
 import tz.go.roadsfund.nrcc.enums.ActionPlanStatus;
@@ -25,4 +26,10 @@ public interface ActionPlanRepository extends JpaRepository<ActionPlan, Long> {
     List<ActionPlan> findByFinancialYearContaining(String year);
 
     Long countByStatus(ActionPlanStatus status);
+
+    /**
+     * Action plan counts for every status in a single statement, as (status, count) rows
+     */
+    @Query("SELECT ap.status, COUNT(ap) FROM ActionPlan ap GROUP BY ap.status")
+    List<Object[]> countGroupedByStatus();
 }
@@ -1,6 +1,8 @@
 package tz.go.roadsfund.nrcc.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.ActionPlan;
 import tz.go.roadsfund.nrcc.entity.ActionPlanTarget;
@@ -18,4 +20,7 @@ public interface ActionPlanTargetRepository extends JpaRepository<ActionPlanTarg
     List<ActionPlanTarget> findByActionPlanId(Long actionPlanId);
 
     List<ActionPlanTarget> findByActionPlanIdOrderByDisplayOrderAsc(Long actionPlanId);
+
+    @Query("SELECT t.id FROM ActionPlanTarget t WHERE t.actionPlan.id = :actionPlanId")
+    List<Long> findIdsByActionPlanId(@Param("actionPlanId") Long actionPlanId);
 }
@@ -11,8 +11,12 @@ import tz.go.roadsfund.nrcc.entity.User;
 import tz.go.roadsfund.nrcc.enums.ApplicantType;
 import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
 import tz.go.roadsfund.nrcc.enums.RoadClass;
+import tz.go.roadsfund.nrcc.repository.projection.ApplicationSearchHit;
+import tz.go.roadsfund.nrcc.repository.projection.ApplicationSummary;
+import tz.go.roadsfund.nrcc.repository.projection.EntityTotals;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +28,24 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     Optional<Application> findByApplicationNumber(String applicationNumber);
 
+    /**
+     * Load an application with its applicant, current owner and form data in one statement
+     */
+    @Query("SELECT a FROM Application a LEFT JOIN FETCH a.applicant LEFT JOIN FETCH a.currentOwner " +
+            "LEFT JOIN FETCH a.formData WHERE a.id = :id")
+    Optional<Application> findDetailById(@Param("id") Long id);
+
+    @Query("SELECT a FROM Application a LEFT JOIN FETCH a.applicant LEFT JOIN FETCH a.currentOwner " +
+            "LEFT JOIN FETCH a.formData WHERE a.applicationNumber = :applicationNumber")
+    Optional<Application> findDetailByApplicationNumber(@Param("applicationNumber") String applicationNumber);
+
+    /**
+     * Highest numeric suffix among application numbers starting with the given prefix
+     */
+    @Query(value = "SELECT MAX(CAST(SUBSTRING(application_number FROM LENGTH(:prefix) + 1) AS BIGINT)) " +
+            "FROM applications WHERE application_number LIKE CONCAT(:prefix, '%')", nativeQuery = true)
+    Long findMaxNumberSuffix(@Param("prefix") String prefix);
+
     List<Application> findByApplicant(User applicant);
 
     List<Application> findByStatus(ApplicationStatus status);
@@ -38,6 +60,68 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     Page<Application> findByApplicant(User applicant, Pageable pageable);
 
+    String SUMMARY_SELECT = "SELECT a.id AS id, a.applicationNumber AS applicationNumber, " +
+            "a.applicantType AS applicantType, ap.name AS applicantName, ap.email AS applicantEmail, " +
+            "f.roadName AS roadName, f.currentClass AS currentClass, a.proposedClass AS proposedClass, " +
+            "a.status AS status, o.name AS currentOwnerName, a.submissionDate AS submissionDate, " +
+            "a.createdAt AS createdAt, a.updatedAt AS updatedAt " +
+            "FROM Application a LEFT JOIN a.applicant ap LEFT JOIN a.currentOwner o LEFT JOIN a.formData f";
+
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "SELECT COUNT(a) FROM Application a")
+    Page<ApplicationSummary> findSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " WHERE a.status = :status",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.status = :status")
+    Page<ApplicationSummary> findSummariesByStatus(@Param("status") ApplicationStatus status, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " WHERE a.applicant.id = :applicantId",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.applicant.id = :applicantId")
+    Page<ApplicationSummary> findSummariesByApplicantId(@Param("applicantId") Long applicantId, Pageable pageable);
+
+    // Keyset pages, newest first; the tuple comparison lets the (created_at, id) index seek directly
+
+    @Query(SUMMARY_SELECT + " ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationSummary> findSummariesFirst(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE (a.createdAt, a.id) < (:createdAt, :id) ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationSummary> findSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE a.currentOwner.id = :ownerId")
+    List<ApplicationSummary> findSummariesByCurrentOwnerId(@Param("ownerId") Long ownerId);
+
+    String SEARCH_FROM = "FROM application_form_data f " +
+            "CROSS JOIN websearch_to_tsquery('english', :q) query " +
+            "JOIN applications a ON a.id = f.application_id ";
+
+    String SEARCH_WHERE = "WHERE f.search_vector @@ query " +
+            "AND (CAST(:status AS VARCHAR) IS NULL OR a.status = :status) " +
+            "AND (CAST(:proposedClass AS VARCHAR) IS NULL OR a.proposed_class = :proposedClass)";
+
+    /**
+     * Full-text search over the form data search_vector (GIN indexed), best matches first.
+     * Status and proposed class are optional filters; pass null to skip them. The headline is
+     * only built for the rows of the requested page.
+     */
+    @Query(value = "SELECT a.id AS \"id\", a.application_number AS \"applicationNumber\", " +
+            "a.applicant_type AS \"applicantType\", ap.name AS \"applicantName\", ap.email AS \"applicantEmail\", " +
+            "f.road_name AS \"roadName\", f.current_class AS \"currentClass\", a.proposed_class AS \"proposedClass\", " +
+            "a.status AS \"status\", o.name AS \"currentOwnerName\", a.submission_date AS \"submissionDate\", " +
+            "a.created_at AS \"createdAt\", a.updated_at AS \"updatedAt\", " +
+            "ts_rank_cd(f.search_vector, query) AS \"rank\", " +
+            "ts_headline('english', concat_ws(' | ', f.road_name, f.starting_point, f.terminal_point, " +
+            "f.towns_villages_linked, f.principal_nodes, f.reclassification_reasons), query, " +
+            "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') AS \"highlight\" " +
+            SEARCH_FROM +
+            "LEFT JOIN users ap ON ap.id = a.applicant_id " +
+            "LEFT JOIN users o ON o.id = a.current_owner_id " +
+            SEARCH_WHERE + " ORDER BY \"rank\" DESC, a.id DESC",
+            countQuery = "SELECT COUNT(*) " + SEARCH_FROM + SEARCH_WHERE,
+            nativeQuery = true)
+    Page<ApplicationSearchHit> search(@Param("q") String q, @Param("status") String status,
+                                      @Param("proposedClass") String proposedClass, Pageable pageable);
+
     @Query("SELECT a FROM Application a WHERE a.submissionDate BETWEEN :startDate AND :endDate")
     List<Application> findBySubmissionDateBetween(@Param("startDate") LocalDate startDate,
                                                    @Param("endDate") LocalDate endDate);
@@ -56,4 +140,27 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     @Query("SELECT COUNT(a) FROM Application a WHERE a.applicant.id = :applicantId AND a.status = :status")
     Long countByApplicantIdAndStatus(@Param("applicantId") Long applicantId, @Param("status") ApplicationStatus status);
+
+    /**
+     * Application counts for every status in a single statement, as (status, count) rows
+     */
+    @Query("SELECT a.status, COUNT(a) FROM Application a GROUP BY a.status")
+    List<Object[]> countGroupedByStatus();
+
+    /**
+     * Application counts per applicant and status, as (applicantId, status, count) rows
+     */
+    @Query("SELECT a.applicant.id, a.status, COUNT(a) FROM Application a " +
+           "WHERE a.applicant IS NOT NULL GROUP BY a.applicant.id, a.status")
+    List<Object[]> countGroupedByApplicantAndStatus();
+
+    @Query(value = "SELECT " +
+            "(SELECT COUNT(*) FROM users) AS \"users\", " +
+            "(SELECT COUNT(*) FROM roads) AS \"roads\", " +
+            "(SELECT COUNT(*) FROM regions) AS \"regions\", " +
+            "(SELECT COUNT(*) FROM districts) AS \"districts\", " +
+            "(SELECT COUNT(*) FROM organizations) AS \"organizations\", " +
+            "(SELECT COUNT(*) FROM action_plans) AS \"actionPlans\"",
+            nativeQuery = true)
+    EntityTotals countEntityTotals();
 }
@@ -25,6 +25,10 @@ public interface ApprovalActionRepository extends JpaRepository<ApprovalAction,
     @Query("SELECT aa FROM ApprovalAction aa WHERE aa.application.id = :applicationId ORDER BY aa.actionDate DESC")
     List<ApprovalAction> findApplicationHistory(@Param("applicationId") Long applicationId);
 
+    @Query("SELECT aa FROM ApprovalAction aa LEFT JOIN FETCH aa.actor " +
+            "WHERE aa.application.id = :applicationId ORDER BY aa.actionDate DESC")
+    List<ApprovalAction> findApplicationHistoryWithActor(@Param("applicationId") Long applicationId);
+
     List<ApprovalAction> findByActorId(Long actorId);
 
     List<ApprovalAction> findByAction(WorkflowAction action);
@@ -0,0 +1,63 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tz.go.roadsfund.nrcc.entity.Attachment;
+import tz.go.roadsfund.nrcc.enums.AttachmentOwnerType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Attachment entity
+ */
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    List<Attachment> findByOwnerTypeAndOwnerIdOrderByIdAsc(AttachmentOwnerType ownerType, Long ownerId);
+
+    Optional<Attachment> findByIdAndOwnerTypeAndOwnerId(Long id, AttachmentOwnerType ownerType, Long ownerId);
+
+    boolean existsByFileName(String fileName);
+
+    /**
+     * Catalog files still referenced from the old free-text columns (application form data,
+     * action plan attachments, recommendations, meeting minutes) that have no attachment yet.
+     * Files of the old flat layout only get their stored_files row when they are moved at
+     * startup, so the backfill lives here, run after that move, rather than in V10.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO attachments (id, owner_type, owner_id, file_name, blob_key, size, content_type, " +
+            "checksum, created_at) " +
+            "SELECT nextval('attachments_id_seq'), refs.owner_type, refs.owner_id, sf.name, " +
+            "substr(sf.content_hash, 1, 2) || '/' || substr(sf.content_hash, 3, 2) || '/' || sf.content_hash, " +
+            "sf.size, sf.content_type, sf.content_hash, now() " +
+            "FROM (" +
+            " SELECT 'APPLICATION' AS owner_type, fd.application_id AS owner_id, sf.name AS file_name" +
+            " FROM application_form_data fd" +
+            " JOIN stored_files sf ON sf.name = fd.map_sketch_path" +
+            "  OR (fd.attachments IS NOT NULL AND position(sf.name IN fd.attachments) > 0)" +
+            " UNION" +
+            " SELECT CASE WHEN apa.activity_id IS NOT NULL THEN 'ACTION_PLAN_ACTIVITY' ELSE 'ACTION_PLAN_TARGET' END," +
+            "  COALESCE(apa.activity_id, apa.target_id), apa.file" +
+            " FROM action_plan_attachments apa WHERE COALESCE(apa.activity_id, apa.target_id) IS NOT NULL" +
+            " UNION" +
+            " SELECT 'RECOMMENDATION', r.id, r.attachment_path FROM recommendations r" +
+            " WHERE r.attachment_path IS NOT NULL" +
+            " UNION" +
+            " SELECT 'NRCC_MEETING', m.id, m.minutes_attachment FROM nrcc_meetings m" +
+            " WHERE m.minutes_attachment IS NOT NULL" +
+            ") refs " +
+            "JOIN stored_files sf ON sf.name = refs.file_name " +
+            "WHERE NOT EXISTS (SELECT 1 FROM attachments a WHERE a.owner_type = refs.owner_type " +
+            "AND a.owner_id = refs.owner_id AND a.file_name = sf.name)", nativeQuery = true)
+    int insertLegacyReferences();
+
+    @Modifying
+    @Query("DELETE FROM Attachment a WHERE a.ownerType = :ownerType AND a.ownerId IN :ownerIds")
+    int deleteByOwners(@Param("ownerType") AttachmentOwnerType ownerType, @Param("ownerIds") Collection<Long> ownerIds);
+}
@@ -3,6 +3,7 @@ package tz.go.roadsfund.nrcc.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.District;
 import tz.go.roadsfund.nrcc.entity.Region;
@@ -27,4 +28,7 @@ public interface DistrictRepository extends JpaRepository<District, Long> {
     List<District> findByStatus(String status);
 
     Page<District> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    @Query("SELECT d FROM District d JOIN FETCH d.region")
+    List<District> findAllWithRegion();
 }
@@ -0,0 +1,49 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tz.go.roadsfund.nrcc.entity.FileBlob;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for FileBlob entity
+ */
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    /**
+     * Create the blob with one reference, or add a reference to it; either way its row stays
+     * locked until commit, so a concurrent release cannot delete the content meanwhile
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_blobs (hash, size, ref_count, created_at) VALUES (:hash, :size, 1, now()) " +
+            "ON CONFLICT (hash) DO UPDATE SET ref_count = file_blobs.ref_count + 1", nativeQuery = true)
+    void acquire(@Param("hash") String hash, @Param("size") long size);
+
+    /**
+     * Make sure a row exists for the hash (with no references when it is new), so it can be
+     * locked while deciding whether stored content is orphaned
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_blobs (hash, size, ref_count, created_at) VALUES (:hash, 0, 0, now()) " +
+            "ON CONFLICT (hash) DO NOTHING", nativeQuery = true)
+    void claim(@Param("hash") String hash);
+
+    /**
+     * The given hashes that stored files still refer to
+     */
+    @Query("SELECT b.hash FROM FileBlob b WHERE b.hash IN :hashes AND b.refCount > 0")
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.hash = :hash")
+    Optional<FileBlob> findForUpdate(@Param("hash") String hash);
+}
@@ -18,6 +18,13 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     Optional<Meeting> findByMeetingNumber(String meetingNumber);
 
+    /**
+     * Highest numeric suffix among meeting numbers starting with the given prefix
+     */
+    @Query(value = "SELECT MAX(CAST(SUBSTRING(meeting_number FROM LENGTH(:prefix) + 1) AS BIGINT)) " +
+            "FROM meetings WHERE meeting_number LIKE CONCAT(:prefix, '%')", nativeQuery = true)
+    Long findMaxNumberSuffix(@Param("prefix") String prefix);
+
     List<Meeting> findByStatus(MeetingStatus status);
 
     Page<Meeting> findByStatus(MeetingStatus status, Pageable pageable);
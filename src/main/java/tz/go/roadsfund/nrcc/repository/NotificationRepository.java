@@ -3,7 +3,9 @@ package tz.go.roadsfund.nrcc.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.Application;
 import tz.go.roadsfund.nrcc.entity.Notification;
@@ -11,6 +13,8 @@ import tz.go.roadsfund.nrcc.entity.User;
 import tz.go.roadsfund.nrcc.enums.NotificationChannel;
 import tz.go.roadsfund.nrcc.enums.NotificationStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +23,9 @@ import java.util.List;
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    String LEASE_HELD = " AND n.status = tz.go.roadsfund.nrcc.enums.NotificationStatus.PENDING " +
+            "AND COALESCE(n.attempts, 0) = :claimedAttempts AND n.nextAttemptAt = :leaseUntil";
+
     List<Notification> findByRecipient(User recipient);
 
     List<Notification> findByRecipientId(Long recipientId);
@@ -42,4 +49,67 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :userId AND n.read = false")
     long countByUserIdAndReadFalse(Long userId);
+
+    long countByRecipientId(Long recipientId);
+
+    // Keyset pages, newest first, served by the (recipient_id, created_at, id) index
+
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.application WHERE n.recipient.id = :userId " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.application WHERE n.recipient.id = :userId " +
+            "AND (n.createdAt, n.id) < (:createdAt, :id) ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findOlderByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
+
+    // Outbox dispatch
+
+    long countByStatus(NotificationStatus status);
+
+    /**
+     * Lock a batch of due pending notifications. SKIP LOCKED lets several dispatcher
+     * instances claim disjoint batches without blocking each other.
+     */
+    @Query(value = "SELECT id FROM notifications WHERE status = 'PENDING' " +
+            "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.nextAttemptAt = :until WHERE n.id IN :ids")
+    int leaseUntil(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    @Query("SELECT n FROM Notification n JOIN FETCH n.recipient LEFT JOIN FETCH n.application WHERE n.id IN :ids")
+    List<Notification> findForDispatch(@Param("ids") Collection<Long> ids);
+
+    /*
+     * The outcome updates only apply while the caller still holds the lease it claimed:
+     * once the lease expires another instance may have re-claimed the row, and its
+     * outcome must not be overwritten. They return 0 when the lease was lost.
+     */
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = tz.go.roadsfund.nrcc.enums.NotificationStatus.SENT, " +
+            "n.sentAt = :sentAt, n.attempts = :attempts, n.nextAttemptAt = null, n.errorMessage = null " +
+            "WHERE n.id = :id" + LEASE_HELD)
+    int markSent(@Param("id") Long id, @Param("claimedAttempts") int claimedAttempts,
+                 @Param("leaseUntil") LocalDateTime leaseUntil,
+                 @Param("attempts") int attempts, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.attempts = :attempts, n.nextAttemptAt = :nextAttemptAt, " +
+            "n.errorMessage = :error WHERE n.id = :id" + LEASE_HELD)
+    int markRetry(@Param("id") Long id, @Param("claimedAttempts") int claimedAttempts,
+                  @Param("leaseUntil") LocalDateTime leaseUntil,
+                  @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = tz.go.roadsfund.nrcc.enums.NotificationStatus.FAILED, " +
+            "n.attempts = :attempts, n.nextAttemptAt = null, n.errorMessage = :error " +
+            "WHERE n.id = :id" + LEASE_HELD)
+    int markFailed(@Param("id") Long id, @Param("claimedAttempts") int claimedAttempts,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("attempts") int attempts, @Param("error") String error);
 }
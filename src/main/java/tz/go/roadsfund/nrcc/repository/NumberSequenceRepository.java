@@ -0,0 +1,25 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tz.go.roadsfund.nrcc.entity.NumberSequence;
+
+import java.util.Optional;
+
+/**
+ * Repository for NumberSequence entity
+ */
+@Repository
+public interface NumberSequenceRepository extends JpaRepository<NumberSequence, String> {
+
+    /**
+     * Lock a single sequence row; allocations of other sequences are not blocked
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM NumberSequence s WHERE s.name = :name")
+    Optional<NumberSequence> findForUpdate(@Param("name") String name);
+}
@@ -1,9 +1,11 @@
 package tz.go.roadsfund.nrcc.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.Organization;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +21,7 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
     boolean existsByCode(String code);
 
     boolean existsByName(String name);
+
+    @Query("SELECT o FROM Organization o LEFT JOIN FETCH o.district d LEFT JOIN FETCH d.region")
+    List<Organization> findAllWithDistrict();
 }
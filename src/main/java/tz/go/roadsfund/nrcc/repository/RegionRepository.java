@@ -3,6 +3,7 @@ package tz.go.roadsfund.nrcc.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.Region;
 
@@ -32,4 +33,15 @@ public interface RegionRepository extends JpaRepository<Region, Long> {
 
     // Count by status
     long countByStatus(String status);
+
+    /**
+     * Row count and latest change of regions, districts and organizations in one value;
+     * it changes whenever any of the three tables gains, loses or updates a row
+     */
+    @Query(value = "SELECT concat_ws('|', " +
+            "(SELECT count(*) || ':' || coalesce(max(updated_at)::text, '') FROM regions), " +
+            "(SELECT count(*) || ':' || coalesce(max(updated_at)::text, '') FROM districts), " +
+            "(SELECT count(*) || ':' || coalesce(max(updated_at)::text, '') FROM organizations))",
+            nativeQuery = true)
+    String findReferenceDataFingerprint();
 }
@@ -1,5 +1,6 @@
 package tz.go.roadsfund.nrcc.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.Road;
@@ -28,5 +29,10 @@ public interface RoadRepository extends JpaRepository<Road, Long> {
 
     List<Road> findByNameContainingIgnoreCase(String name);
 
+    /**
+     * Keyset page in id order; pass 0 for the first page
+     */
+    List<Road> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     List<Road> findByStatus(String status);
 }
@@ -0,0 +1,37 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tz.go.roadsfund.nrcc.entity.StoredFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for StoredFile entity
+ */
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByName(String name);
+
+    boolean existsByName(String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM StoredFile f WHERE f.name = :name")
+    Optional<StoredFile> findForUpdateByName(@Param("name") String name);
+
+    /**
+     * Files created before the given time that no attachment refers to, in id order after afterId
+     */
+    @Query("SELECT f FROM StoredFile f WHERE f.createdAt < :before AND f.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM Attachment a WHERE a.fileName = f.name) ORDER BY f.id")
+    List<StoredFile> findUnattached(@Param("before") LocalDateTime before, @Param("afterId") long afterId,
+                                    Pageable pageable);
+}
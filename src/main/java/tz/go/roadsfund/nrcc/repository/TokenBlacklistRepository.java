@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import tz.go.roadsfund.nrcc.entity.TokenBlacklist;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,6 +20,12 @@ public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist,
 
     boolean existsByToken(String token);
 
+    @Query("SELECT tb FROM TokenBlacklist tb WHERE tb.expiresAt > :now")
+    List<TokenBlacklist> findActive(LocalDateTime now);
+
+    @Query("SELECT tb FROM TokenBlacklist tb WHERE tb.blacklistedAt >= :since AND tb.expiresAt > :now")
+    List<TokenBlacklist> findActiveBlacklistedSince(LocalDateTime since, LocalDateTime now);
+
     @Modifying
     @Query("DELETE FROM TokenBlacklist tb WHERE tb.expiresAt < :now")
     void deleteExpiredTokens(LocalDateTime now);
@@ -0,0 +1,56 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tz.go.roadsfund.nrcc.entity.UploadSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for UploadSession entity
+ */
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    /**
+     * Take the lease for the chunk starting at expected, unless another node holds it
+     */
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.leaseToken = :token, s.leaseExpiresAt = :until " +
+            "WHERE s.id = :id AND s.receivedBytes = :expected " +
+            "AND (s.leaseToken IS NULL OR s.leaseExpiresAt < :now)")
+    int claim(@Param("id") String id, @Param("expected") long expected, @Param("token") String token,
+              @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * Record a stored chunk and move the committed offset forward, only if the lease is still
+     * ours and the offset is still where the chunk started
+     */
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.receivedBytes = :received, s.partCount = :partCount, " +
+            "s.bufferedBytes = :buffered, s.digestState = :digestState, " +
+            "s.leaseToken = NULL, s.leaseExpiresAt = NULL, s.expiresAt = :expiresAt " +
+            "WHERE s.id = :id AND s.receivedBytes = :expected AND s.leaseToken = :token")
+    int advance(@Param("id") String id, @Param("expected") long expected, @Param("received") long received,
+                @Param("partCount") int partCount, @Param("buffered") long buffered,
+                @Param("digestState") byte[] digestState, @Param("token") String token,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.leaseToken = NULL, s.leaseExpiresAt = NULL " +
+            "WHERE s.id = :id AND s.leaseToken = :token")
+    int release(@Param("id") String id, @Param("token") String token);
+
+    /**
+     * Delete the session unless a node holds its lease
+     */
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.id = :id AND (s.leaseToken IS NULL OR s.leaseExpiresAt < :now)")
+    int deleteUnleased(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    List<UploadSession> findTop100ByExpiresAtBefore(LocalDateTime time);
+}
@@ -2,6 +2,8 @@ package tz.go.roadsfund.nrcc.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,6 +14,7 @@ import tz.go.roadsfund.nrcc.entity.District;
 import tz.go.roadsfund.nrcc.entity.User;
 import tz.go.roadsfund.nrcc.enums.UserRole;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +24,11 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
 
+    /**
+     * Keyset page in id order; pass 0 for the first page
+     */
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findByEmailAndStatus(String email, String status);
@@ -54,33 +62,26 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     // Search by email (partial match)
     List<User> findByEmailContainingIgnoreCase(String email);
 
-    // Combined search
-    @Query("SELECT u FROM User u WHERE " +
-           "(:name IS NULL OR LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-           "(:email IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))) AND " +
-           "(:role IS NULL OR u.role = :role) AND " +
-           "(:status IS NULL OR u.status = :status) AND " +
-           "(:organizationId IS NULL OR u.organization.id = :organizationId) AND " +
-           "(:districtId IS NULL OR u.district.id = :districtId) AND " +
-           "(:regionId IS NULL OR u.district.region.id = :regionId) AND " +
-           "(:userType IS NULL OR u.userType = :userType)")
-    Page<User> searchUsers(
-            @Param("name") String name,
-            @Param("email") String email,
-            @Param("role") UserRole role,
-            @Param("status") String status,
-            @Param("organizationId") Long organizationId,
-            @Param("districtId") Long districtId,
-            @Param("regionId") Long regionId,
-            @Param("userType") String userType,
-            Pageable pageable
-    );
-
-    // Bulk update status
+    /**
+     * Specification search (see {@link UserSpecifications}). The entity graph loads the
+     * organization, district and region shown in the response with the page itself; the
+     * count query is derived without it.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"organization.district.region", "district.region"})
+    Page<User> findAll(Specification<User> spec, Pageable pageable);
+
+    // Bulk update status; updatedAt is set so other nodes evict the users' cached principals
     @Modifying
-    @Query("UPDATE User u SET u.status = :status WHERE u.id IN :ids")
+    @Query("UPDATE User u SET u.status = :status, u.updatedAt = CURRENT_TIMESTAMP WHERE u.id IN :ids")
     int updateStatusByIdIn(@Param("ids") List<Long> ids, @Param("status") String status);
 
+    /**
+     * Users changed since the given time, for {@link tz.go.roadsfund.nrcc.security.UserPrincipalCache}
+     */
+    @Query("SELECT u.id FROM User u WHERE u.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
     // Count by organization
     long countByOrganization_Id(Long organizationId);
 
@@ -0,0 +1,98 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+import tz.go.roadsfund.nrcc.dto.request.UserSearchRequest;
+import tz.go.roadsfund.nrcc.entity.User;
+import tz.go.roadsfund.nrcc.enums.UserRole;
+
+import java.util.Locale;
+
+/**
+ * Composable predicates for user search. Only the criteria actually supplied end up in the
+ * statement, so each combination gets its own plan and can use the matching index:
+ * lower(name)/lower(email) substring matches are served by the pg_trgm GIN indexes, and the
+ * region filter is the only one that joins (to districts).
+ */
+public final class UserSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> matching(UserSearchRequest criteria) {
+        Specification<User> spec = Specification.where(null);
+        if (StringUtils.hasText(criteria.getName())) {
+            spec = spec.and(nameContains(criteria.getName()));
+        }
+        if (StringUtils.hasText(criteria.getEmail())) {
+            spec = spec.and(emailContains(criteria.getEmail()));
+        }
+        if (criteria.getRole() != null) {
+            spec = spec.and(hasRole(criteria.getRole()));
+        }
+        if (StringUtils.hasText(criteria.getStatus())) {
+            spec = spec.and(hasStatus(criteria.getStatus()));
+        }
+        if (StringUtils.hasText(criteria.getUserType())) {
+            spec = spec.and(hasUserType(criteria.getUserType()));
+        }
+        if (criteria.getOrganizationId() != null) {
+            spec = spec.and(inOrganization(criteria.getOrganizationId()));
+        }
+        if (criteria.getDistrictId() != null) {
+            spec = spec.and(inDistrict(criteria.getDistrictId()));
+        }
+        if (criteria.getRegionId() != null) {
+            spec = spec.and(inRegion(criteria.getRegionId()));
+        }
+        return spec;
+    }
+
+    public static Specification<User> nameContains(String name) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), containsPattern(name), LIKE_ESCAPE);
+    }
+
+    public static Specification<User> emailContains(String email) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("email")), containsPattern(email), LIKE_ESCAPE);
+    }
+
+    public static Specification<User> hasRole(UserRole role) {
+        return (root, query, cb) -> cb.equal(root.get("role"), role);
+    }
+
+    public static Specification<User> hasStatus(String status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<User> hasUserType(String userType) {
+        return (root, query, cb) -> cb.equal(root.get("userType"), userType);
+    }
+
+    /**
+     * Compares the foreign key column; no join to organizations
+     */
+    public static Specification<User> inOrganization(Long organizationId) {
+        return (root, query, cb) -> cb.equal(root.get("organization").get("id"), organizationId);
+    }
+
+    public static Specification<User> inDistrict(Long districtId) {
+        return (root, query, cb) -> cb.equal(root.get("district").get("id"), districtId);
+    }
+
+    /**
+     * Joins districts and compares its region foreign key; no join to regions
+     */
+    public static Specification<User> inRegion(Long regionId) {
+        return (root, query, cb) -> cb.equal(root.join("district").get("region").get("id"), regionId);
+    }
+
+    private static String containsPattern(String value) {
+        String escaped = value.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
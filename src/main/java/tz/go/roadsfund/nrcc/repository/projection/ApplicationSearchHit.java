@@ -0,0 +1,11 @@
+package tz.go.roadsfund.nrcc.repository.projection;
+
+/**
+ * Application list columns plus the full-text rank and a highlighted excerpt of the matching text
+ */
+public interface ApplicationSearchHit extends ApplicationSummary {
+
+    Double getRank();
+
+    String getHighlight();
+}
@@ -0,0 +1,40 @@
+package tz.go.roadsfund.nrcc.repository.projection;
+
+import tz.go.roadsfund.nrcc.enums.ApplicantType;
+import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
+import tz.go.roadsfund.nrcc.enums.RoadClass;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columns needed for application list views, selected in one joined query
+ */
+public interface ApplicationSummary {
+
+    Long getId();
+
+    String getApplicationNumber();
+
+    ApplicantType getApplicantType();
+
+    String getApplicantName();
+
+    String getApplicantEmail();
+
+    String getRoadName();
+
+    String getCurrentClass();
+
+    RoadClass getProposedClass();
+
+    ApplicationStatus getStatus();
+
+    String getCurrentOwnerName();
+
+    LocalDate getSubmissionDate();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,19 @@
+package tz.go.roadsfund.nrcc.repository.projection;
+
+/**
+ * Row counts of the main tables, fetched in a single statement
+ */
+public interface EntityTotals {
+
+    Long getUsers();
+
+    Long getRoads();
+
+    Long getRegions();
+
+    Long getDistricts();
+
+    Long getOrganizations();
+
+    Long getActionPlans();
+}
@@ -1,5 +1,6 @@
 package tz.go.roadsfund.nrcc.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,7 +8,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -19,16 +19,17 @@ import tz.go.roadsfund.nrcc.service.TokenBlacklistService;
 import java.io.IOException;
 
 /**
- * JWT Authentication Filter with blacklist and version checking
+ * JWT Authentication Filter with blacklist and version checking.
+ * The token is parsed once per request and the principal is served from {@link UserPrincipalCache}.
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,7 +38,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
+            // Verify the signature once and work from the parsed claims
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : null;
+
+            if (claims != null) {
                 // Check if token is blacklisted
                 if (tokenBlacklistService.isBlacklisted(jwt)) {
                     logger.warn("Attempt to use blacklisted token");
@@ -45,26 +49,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
-                Integer tokenVersion = tokenProvider.getTokenVersionFromToken(jwt);
-
-                // Check token version
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    Integer currentVersion = user.getTokenVersion() != null ? user.getTokenVersion() : 0;
-                    Integer jwtVersion = tokenVersion != null ? tokenVersion : 0;
-
-                    if (!currentVersion.equals(jwtVersion)) {
-                        logger.warn("Token version mismatch for user: " + userId +
-                                ". Current: " + currentVersion + ", Token: " + jwtVersion);
-                        filterChain.doFilter(request, response);
-                        return;
-                    }
+                Long userId = tokenProvider.getUserId(claims);
+                Integer tokenVersion = tokenProvider.getTokenVersion(claims);
+
+                UserPrincipal userPrincipal = resolvePrincipal(userId, tokenVersion);
+                if (userPrincipal == null) {
+                    filterChain.doFilter(request, response);
+                    return;
                 }
 
-                UserDetails userDetails = customUserDetailsService.loadUserById(userId);
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -76,6 +71,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Resolve the principal from the cache, loading the user at most once on a miss.
+     * Returns null when the user no longer exists or the token version is stale.
+     */
+    private UserPrincipal resolvePrincipal(Long userId, Integer tokenVersion) {
+        UserPrincipal cached = userPrincipalCache.get(userId, tokenVersion);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            logger.warn("Token refers to unknown user: " + userId);
+            return null;
+        }
+
+        // Check token version
+        Integer currentVersion = user.getTokenVersion() != null ? user.getTokenVersion() : 0;
+        if (!currentVersion.equals(tokenVersion)) {
+            logger.warn("Token version mismatch for user: " + userId +
+                    ". Current: " + currentVersion + ", Token: " + tokenVersion);
+            return null;
+        }
+
+        UserPrincipal userPrincipal = UserPrincipal.create(user);
+        userPrincipalCache.put(userId, currentVersion, userPrincipal);
+        return userPrincipal;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
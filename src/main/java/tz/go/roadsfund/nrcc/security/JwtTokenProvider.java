@@ -2,6 +2,7 @@ package tz.go.roadsfund.nrcc.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -25,9 +26,21 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long jwtRefreshExpiration;
 
-    private SecretKey getSigningKey() {
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    private SecretKey getSigningKey() {
+        return signingKey;
     }
 
     public String generateToken(Authentication authentication, Integer tokenVersion) {
@@ -82,47 +95,41 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.parseLong(claims.getSubject());
+        return getUserId(jwtParser.parseSignedClaims(token).getPayload());
     }
 
     public Integer getTokenVersionFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("tokenVersion", Integer.class);
+        return getTokenVersion(jwtParser.parseSignedClaims(token).getPayload());
     }
 
     public Date getExpirationFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getExpiration();
+        return jwtParser.parseSignedClaims(token).getPayload().getExpiration();
     }
 
-    public boolean validateToken(String authToken) {
+    /**
+     * Verify the token signature once and return its claims, or null if the token is invalid
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException ex) {
             System.err.println("Invalid JWT token: " + ex.getMessage());
         } catch (IllegalArgumentException ex) {
             System.err.println("JWT claims string is empty");
         }
-        return false;
+        return null;
+    }
+
+    public Long getUserId(Claims claims) {
+        return Long.parseLong(claims.getSubject());
+    }
+
+    public Integer getTokenVersion(Claims claims) {
+        Integer tokenVersion = claims.get("tokenVersion", Integer.class);
+        return tokenVersion != null ? tokenVersion : 0;
+    }
+
+    public boolean validateToken(String authToken) {
+        return parseClaims(authToken) != null;
     }
 }
@@ -5,6 +5,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import tz.go.roadsfund.nrcc.enums.Permission;
 import tz.go.roadsfund.nrcc.exception.UnauthorizedException;
@@ -12,10 +13,12 @@ import tz.go.roadsfund.nrcc.exception.UnauthorizedException;
 import java.lang.reflect.Method;
 
 /**
- * Aspect for enforcing permission-based access control
+ * Aspect for enforcing permission-based access control.
+ * Ordered first so it wraps the other controller aspects.
  */
 @Aspect
 @Component
+@Order(0)
 @RequiredArgsConstructor
 public class PermissionAspect {
 
@@ -0,0 +1,138 @@
+package tz.go.roadsfund.nrcc.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tz.go.roadsfund.nrcc.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, TTL-evicted cache of authenticated principals keyed by user id and token version.
+ * A lookup only hits when the cached token version matches the one carried by the JWT,
+ * so a version bump invalidates all older tokens even before the entry is evicted.
+ * Users changed on other API nodes (token version bump, deactivation, role change) are
+ * evicted by polling for recently updated rows, so the change takes effect here within the
+ * sync interval; deleted users drop out when their entry expires.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    private final Map<Long, CachedPrincipal> entries = new ConcurrentHashMap<>();
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // Node clocks and commit delays differ, so each sync looks back a little past the last one
+    @Value("${jwt.principal-cache.sync-overlap-seconds:60}")
+    private long syncOverlapSeconds;
+
+    private volatile LocalDateTime lastSync = LocalDateTime.now();
+
+    public UserPrincipalCache(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Get the cached principal for the user, or null if absent, expired or issued for another token version
+     */
+    public UserPrincipal get(Long userId, Integer tokenVersion) {
+        CachedPrincipal cached = entries.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            entries.remove(userId, cached);
+            return null;
+        }
+        return cached.tokenVersion() == tokenVersion ? cached.principal() : null;
+    }
+
+    public void put(Long userId, Integer tokenVersion, UserPrincipal principal) {
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxSize && !entries.containsKey(userId)) {
+            makeRoom(now);
+        }
+        entries.put(userId, new CachedPrincipal(tokenVersion, principal, now + ttlSeconds * 1000));
+    }
+
+    /**
+     * Evict the user immediately and again once the surrounding transaction commits,
+     * so a concurrent request cannot re-cache the pre-commit state of the user
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        entries.remove(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.remove(userId);
+                }
+            });
+        }
+        log.debug("Evicted cached principal for user: {}", userId);
+    }
+
+    /**
+     * Evict users updated on any node since the last sync
+     */
+    @Scheduled(fixedDelayString = "${jwt.principal-cache.sync-interval-ms:5000}")
+    public void syncChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> changed = userRepository.findIdsUpdatedSince(lastSync.minusSeconds(syncOverlapSeconds));
+        lastSync = now;
+
+        int evicted = 0;
+        for (Long userId : changed) {
+            if (entries.remove(userId) != null) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} principals changed on other nodes", evicted);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void makeRoom(long now) {
+        entries.values().removeIf(cached -> cached.isExpired(now));
+
+        // Still full: drop arbitrary entries, they are cheap to reload on the next request
+        Iterator<Long> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedPrincipal(int tokenVersion, UserPrincipal principal, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package tz.go.roadsfund.nrcc.security;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tz.go.roadsfund.nrcc.entity.User;
+
+/**
+ * JPA entity listener that evicts cached principals whenever a user row changes
+ * (token version bump, deactivation, role or password change, deletion)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCacheListener {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userPrincipalCache.evict(user.getId());
+    }
+}
@@ -2,19 +2,24 @@ package tz.go.roadsfund.nrcc.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tz.go.roadsfund.nrcc.dto.request.AddAttachmentRequest;
 import tz.go.roadsfund.nrcc.dto.request.CreateActionPlanRequest;
 import tz.go.roadsfund.nrcc.dto.request.UpdateActionPlanRequest;
 import tz.go.roadsfund.nrcc.dto.request.UpdateActivityProgressRequest;
 import tz.go.roadsfund.nrcc.dto.response.ActionPlanDetailResponse;
 import tz.go.roadsfund.nrcc.dto.response.ActionPlanResponse;
+import tz.go.roadsfund.nrcc.dto.response.AttachmentResponse;
 import tz.go.roadsfund.nrcc.entity.*;
 import tz.go.roadsfund.nrcc.enums.ActionPlanStatus;
 import tz.go.roadsfund.nrcc.enums.ActivityStatus;
+import tz.go.roadsfund.nrcc.enums.AttachmentOwnerType;
 import tz.go.roadsfund.nrcc.enums.Quarter;
+import tz.go.roadsfund.nrcc.event.ActionPlanStatusChangedEvent;
 import tz.go.roadsfund.nrcc.exception.BadRequestException;
 import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
 import tz.go.roadsfund.nrcc.repository.*;
@@ -42,6 +47,8 @@ public class ActionPlanService {
     private final ActionPlanActivityRepository activityRepository;
     private final ActionPlanCostItemRepository costItemRepository;
     private final UserRepository userRepository;
+    private final AttachmentService attachmentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new action plan
@@ -61,6 +68,7 @@ public class ActionPlanService {
                 .build();
 
         actionPlan = actionPlanRepository.save(actionPlan);
+        publishStatusChange(actionPlan, null, ActionPlanStatus.DRAFT);
 
         // Create targets and activities
         if (request.getTargets() != null) {
@@ -116,6 +124,7 @@ public class ActionPlanService {
 
         actionPlan.setStatus(ActionPlanStatus.SUBMITTED);
         actionPlan = actionPlanRepository.save(actionPlan);
+        publishStatusChange(actionPlan, ActionPlanStatus.DRAFT, ActionPlanStatus.SUBMITTED);
 
         log.info("Action plan submitted: {}", actionPlan.getId());
         return mapToDetailResponse(actionPlan);
@@ -138,6 +147,7 @@ public class ActionPlanService {
         actionPlan.setApprovalResolution(resolution);
 
         actionPlan = actionPlanRepository.save(actionPlan);
+        publishStatusChange(actionPlan, ActionPlanStatus.SUBMITTED, ActionPlanStatus.APPROVED);
         log.info("Action plan approved: {}", actionPlan.getId());
         return mapToDetailResponse(actionPlan);
     }
@@ -154,6 +164,7 @@ public class ActionPlanService {
 
         actionPlan.setStatus(ActionPlanStatus.IN_PROGRESS);
         actionPlan = actionPlanRepository.save(actionPlan);
+        publishStatusChange(actionPlan, ActionPlanStatus.APPROVED, ActionPlanStatus.IN_PROGRESS);
 
         log.info("Action plan execution started: {}", actionPlan.getId());
         return mapToDetailResponse(actionPlan);
@@ -171,6 +182,7 @@ public class ActionPlanService {
 
         actionPlan.setStatus(ActionPlanStatus.COMPLETED);
         actionPlan = actionPlanRepository.save(actionPlan);
+        publishStatusChange(actionPlan, ActionPlanStatus.IN_PROGRESS, ActionPlanStatus.COMPLETED);
 
         log.info("Action plan manually completed: {}", actionPlan.getId());
         return mapToDetailResponse(actionPlan);
@@ -217,6 +229,66 @@ public class ActionPlanService {
         return mapToDetailResponse(actionPlan);
     }
 
+    /**
+     * Attach an uploaded file (work plans, progress evidence) to an activity
+     */
+    public AttachmentResponse addActivityAttachment(Long activityId, AddAttachmentRequest request) {
+        ActionPlanActivity activity = getActivityForAttachmentChange(activityId);
+        return attachmentService.attach(AttachmentOwnerType.ACTION_PLAN_ACTIVITY, activity.getId(), request.getFileName());
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getActivityAttachments(Long activityId) {
+        if (!activityRepository.existsById(activityId)) {
+            throw new ResourceNotFoundException("Activity", "id", activityId);
+        }
+        return attachmentService.getAttachments(AttachmentOwnerType.ACTION_PLAN_ACTIVITY, activityId);
+    }
+
+    public void removeActivityAttachment(Long activityId, Long attachmentId) {
+        ActionPlanActivity activity = getActivityForAttachmentChange(activityId);
+        attachmentService.detach(AttachmentOwnerType.ACTION_PLAN_ACTIVITY, activity.getId(), attachmentId);
+    }
+
+    /**
+     * Attach an uploaded file (targets, baselines) to a target
+     */
+    public AttachmentResponse addTargetAttachment(Long targetId, AddAttachmentRequest request) {
+        ActionPlanTarget target = getTargetForAttachmentChange(targetId);
+        return attachmentService.attach(AttachmentOwnerType.ACTION_PLAN_TARGET, target.getId(), request.getFileName());
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getTargetAttachments(Long targetId) {
+        if (!targetRepository.existsById(targetId)) {
+            throw new ResourceNotFoundException("Target", "id", targetId);
+        }
+        return attachmentService.getAttachments(AttachmentOwnerType.ACTION_PLAN_TARGET, targetId);
+    }
+
+    public void removeTargetAttachment(Long targetId, Long attachmentId) {
+        ActionPlanTarget target = getTargetForAttachmentChange(targetId);
+        attachmentService.detach(AttachmentOwnerType.ACTION_PLAN_TARGET, target.getId(), attachmentId);
+    }
+
+    private ActionPlanTarget getTargetForAttachmentChange(Long targetId) {
+        ActionPlanTarget target = targetRepository.findById(targetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Target", "id", targetId));
+        if (target.getActionPlan().getStatus() == ActionPlanStatus.COMPLETED) {
+            throw new BadRequestException("Attachments of a completed action plan cannot be changed");
+        }
+        return target;
+    }
+
+    private ActionPlanActivity getActivityForAttachmentChange(Long activityId) {
+        ActionPlanActivity activity = activityRepository.findById(activityId)
+                .orElseThrow(() -> new ResourceNotFoundException("Activity", "id", activityId));
+        if (activity.getTarget().getActionPlan().getStatus() == ActionPlanStatus.COMPLETED) {
+            throw new BadRequestException("Attachments of a completed action plan cannot be changed");
+        }
+        return activity;
+    }
+
     /**
      * Get action plan by ID
      */
@@ -265,7 +337,12 @@ public class ActionPlanService {
             throw new BadRequestException("Only draft action plans can be deleted");
         }
 
+        attachmentService.detachAll(AttachmentOwnerType.ACTION_PLAN_ACTIVITY,
+                activityRepository.findIdsByActionPlanId(actionPlan.getId()));
+        attachmentService.detachAll(AttachmentOwnerType.ACTION_PLAN_TARGET,
+                targetRepository.findIdsByActionPlanId(actionPlan.getId()));
         actionPlanRepository.delete(actionPlan);
+        publishStatusChange(actionPlan, ActionPlanStatus.DRAFT, null);
         log.info("Action plan deleted: {}", id);
     }
 
@@ -320,6 +397,10 @@ public class ActionPlanService {
                 .orElseThrow(() -> new BadRequestException("Current user not found"));
     }
 
+    private void publishStatusChange(ActionPlan actionPlan, ActionPlanStatus fromStatus, ActionPlanStatus toStatus) {
+        eventPublisher.publishEvent(new ActionPlanStatusChangedEvent(actionPlan.getId(), fromStatus, toStatus));
+    }
+
     private ActionPlanTarget createTarget(ActionPlan actionPlan, CreateActionPlanRequest.TargetRequest request, int order) {
         ActionPlanTarget target = ActionPlanTarget.builder()
                 .actionPlan(actionPlan)
@@ -391,6 +472,7 @@ public class ActionPlanService {
         if (allComplete && !actionPlan.getTargets().isEmpty()) {
             actionPlan.setStatus(ActionPlanStatus.COMPLETED);
             actionPlanRepository.save(actionPlan);
+            publishStatusChange(actionPlan, ActionPlanStatus.IN_PROGRESS, ActionPlanStatus.COMPLETED);
             log.info("Action plan completed: {}", actionPlan.getId());
         }
     }
@@ -2,18 +2,27 @@ package tz.go.roadsfund.nrcc.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tz.go.roadsfund.nrcc.dto.request.*;
 import tz.go.roadsfund.nrcc.dto.response.ApplicationDetailResponse;
 import tz.go.roadsfund.nrcc.dto.response.ApplicationResponse;
+import tz.go.roadsfund.nrcc.dto.response.ApplicationSearchResponse;
+import tz.go.roadsfund.nrcc.dto.response.AttachmentResponse;
+import tz.go.roadsfund.nrcc.dto.response.CursorPage;
 import tz.go.roadsfund.nrcc.entity.*;
 import tz.go.roadsfund.nrcc.enums.*;
+import tz.go.roadsfund.nrcc.event.ApplicationStatusChangedEvent;
 import tz.go.roadsfund.nrcc.exception.BadRequestException;
 import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
 import tz.go.roadsfund.nrcc.repository.*;
+import tz.go.roadsfund.nrcc.repository.projection.ApplicationSearchHit;
+import tz.go.roadsfund.nrcc.repository.projection.ApplicationSummary;
+import tz.go.roadsfund.nrcc.util.PageCursor;
 import tz.go.roadsfund.nrcc.util.SecurityUtil;
 
 import java.time.LocalDate;
@@ -44,6 +53,9 @@ public class ApplicationService {
     private final AppealRepository appealRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final NumberSequenceService numberSequenceService;
+    private final AttachmentService attachmentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== APPLICATION CRUD ====================
 
@@ -166,7 +178,7 @@ public class ApplicationService {
      */
     @Transactional(readOnly = true)
     public ApplicationDetailResponse getApplicationByNumber(String applicationNumber) {
-        Application application = applicationRepository.findByApplicationNumber(applicationNumber)
+        Application application = applicationRepository.findDetailByApplicationNumber(applicationNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "applicationNumber", applicationNumber));
         return mapToDetailResponse(application);
     }
@@ -176,7 +188,45 @@ public class ApplicationService {
      */
     @Transactional(readOnly = true)
     public Page<ApplicationResponse> getAllApplications(Pageable pageable) {
-        return applicationRepository.findAll(pageable).map(this::mapToResponse);
+        return applicationRepository.findSummaries(pageable).map(this::mapSummaryToResponse);
+    }
+
+    /**
+     * Get applications newest first using keyset pagination
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationResponse> getApplicationsAfter(String after, int size, boolean includeTotal) {
+        PageCursor cursor = PageCursor.decodeTimestamped(after);
+        Pageable limit = PageCursor.limit(size);
+        List<ApplicationSummary> rows = cursor == null
+                ? applicationRepository.findSummariesFirst(limit)
+                : applicationRepository.findSummariesAfter(cursor.createdAt(), cursor.id(), limit);
+
+        return CursorPage.of(rows, size,
+                summary -> PageCursor.encode(summary.getCreatedAt(), summary.getId()),
+                this::mapSummaryToResponse,
+                includeTotal ? applicationRepository.count() : null);
+    }
+
+    /**
+     * Full-text search over application form data, best matches first. The query accepts
+     * web search syntax: quoted phrases, OR, and -word to exclude.
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationSearchResponse> searchApplications(String q, ApplicationStatus status,
+                                                              RoadClass proposedClass, int page, int size) {
+        if (q == null || q.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        if (size < 1 || size > PageCursor.MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + PageCursor.MAX_PAGE_SIZE);
+        }
+
+        return applicationRepository.search(q.trim(),
+                        status != null ? status.name() : null,
+                        proposedClass != null ? proposedClass.name() : null,
+                        PageRequest.of(page, size))
+                .map(this::mapSearchHitToResponse);
     }
 
     /**
@@ -184,7 +234,7 @@ public class ApplicationService {
      */
     @Transactional(readOnly = true)
     public Page<ApplicationResponse> getApplicationsByStatus(ApplicationStatus status, Pageable pageable) {
-        return applicationRepository.findByStatus(status, pageable).map(this::mapToResponse);
+        return applicationRepository.findSummariesByStatus(status, pageable).map(this::mapSummaryToResponse);
     }
 
     /**
@@ -192,8 +242,8 @@ public class ApplicationService {
      */
     @Transactional(readOnly = true)
     public Page<ApplicationResponse> getMyApplications(Pageable pageable) {
-        User currentUser = getCurrentUser();
-        return applicationRepository.findByApplicant(currentUser, pageable).map(this::mapToResponse);
+        return applicationRepository.findSummariesByApplicantId(SecurityUtil.getCurrentUserId(), pageable)
+                .map(this::mapSummaryToResponse);
     }
 
     /**
@@ -201,9 +251,8 @@ public class ApplicationService {
      */
     @Transactional(readOnly = true)
     public List<ApplicationResponse> getMyAssignedApplications() {
-        User currentUser = getCurrentUser();
-        return applicationRepository.findByCurrentOwner(currentUser).stream()
-                .map(this::mapToResponse)
+        return applicationRepository.findSummariesByCurrentOwnerId(SecurityUtil.getCurrentUserId()).stream()
+                .map(this::mapSummaryToResponse)
                 .collect(Collectors.toList());
     }
 
@@ -219,10 +268,116 @@ public class ApplicationService {
 
         validateOwnership(application);
 
+        attachmentService.detachAll(AttachmentOwnerType.APPLICATION, List.of(application.getId()));
         applicationRepository.delete(application);
+        publishStatusChange(application, application.getStatus(), null);
         log.info("Application deleted: {}", application.getApplicationNumber());
     }
 
+    // ==================== ATTACHMENTS ====================
+
+    /**
+     * Attach an uploaded file (only while the applicant can edit the application)
+     */
+    public AttachmentResponse addAttachment(Long id, AddAttachmentRequest request) {
+        Application application = getEditableApplication(id);
+        return attachmentService.attach(AttachmentOwnerType.APPLICATION, application.getId(), request.getFileName());
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getAttachments(Long id) {
+        if (!applicationRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Application", "id", id);
+        }
+        return attachmentService.getAttachments(AttachmentOwnerType.APPLICATION, id);
+    }
+
+    public void removeAttachment(Long id, Long attachmentId) {
+        Application application = getEditableApplication(id);
+        attachmentService.detach(AttachmentOwnerType.APPLICATION, application.getId(), attachmentId);
+    }
+
+    /**
+     * Attach an uploaded file (photos, site survey) to a verification report; only its author
+     * can, and only until the report is final
+     */
+    public AttachmentResponse addVerificationReportAttachment(Long id, Long reportId, AddAttachmentRequest request) {
+        VerificationReport report = getEditableVerificationReport(id, reportId);
+        return attachmentService.attach(AttachmentOwnerType.VERIFICATION_REPORT, report.getId(), request.getFileName());
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getVerificationReportAttachments(Long id, Long reportId) {
+        VerificationReport report = getVerificationReport(id, reportId);
+        return attachmentService.getAttachments(AttachmentOwnerType.VERIFICATION_REPORT, report.getId());
+    }
+
+    public void removeVerificationReportAttachment(Long id, Long reportId, Long attachmentId) {
+        VerificationReport report = getEditableVerificationReport(id, reportId);
+        attachmentService.detach(AttachmentOwnerType.VERIFICATION_REPORT, report.getId(), attachmentId);
+    }
+
+    /**
+     * Attach an uploaded file to the NRCC recommendation, until the Minister decides on it
+     */
+    public AttachmentResponse addRecommendationAttachment(Long id, AddAttachmentRequest request) {
+        Recommendation recommendation = getEditableRecommendation(id);
+        return attachmentService.attach(AttachmentOwnerType.RECOMMENDATION, recommendation.getId(),
+                request.getFileName());
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getRecommendationAttachments(Long id) {
+        Recommendation recommendation = getRecommendation(getApplicationById(id));
+        return attachmentService.getAttachments(AttachmentOwnerType.RECOMMENDATION, recommendation.getId());
+    }
+
+    public void removeRecommendationAttachment(Long id, Long attachmentId) {
+        Recommendation recommendation = getEditableRecommendation(id);
+        attachmentService.detach(AttachmentOwnerType.RECOMMENDATION, recommendation.getId(), attachmentId);
+    }
+
+    private VerificationReport getVerificationReport(Long id, Long reportId) {
+        VerificationReport report = verificationReportRepository.findById(reportId)
+                .orElseThrow(() -> new ResourceNotFoundException("VerificationReport", "id", reportId));
+        if (!report.getApplication().getId().equals(id)) {
+            throw new ResourceNotFoundException("VerificationReport", "id", reportId);
+        }
+        return report;
+    }
+
+    private VerificationReport getEditableVerificationReport(Long id, Long reportId) {
+        VerificationReport report = getVerificationReport(id, reportId);
+        if (!report.getMember().getId().equals(getCurrentUser().getId())) {
+            throw new BadRequestException("Only the member who submitted the report can change its attachments");
+        }
+        if (Boolean.TRUE.equals(report.getIsFinal())) {
+            throw new BadRequestException("Attachments of a final report cannot be changed");
+        }
+        return report;
+    }
+
+    private Recommendation getRecommendation(Application application) {
+        return recommendationRepository.findByApplication(application)
+                .orElseThrow(() -> new ResourceNotFoundException("Recommendation", "applicationId", application.getId()));
+    }
+
+    private Recommendation getEditableRecommendation(Long id) {
+        Application application = getApplicationById(id);
+        validateStatus(application, ApplicationStatus.RECOMMENDATION_SUBMITTED);
+        return getRecommendation(application);
+    }
+
+    private Application getEditableApplication(Long id) {
+        Application application = applicationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Application", "id", id));
+        if (!application.getStatus().isEditableByApplicant()) {
+            throw new BadRequestException("Attachments cannot be changed in current status: " + application.getStatus());
+        }
+        validateOwnership(application);
+        return application;
+    }
+
     // ==================== WORKFLOW OPERATIONS ====================
 
     /**
@@ -421,6 +576,10 @@ public class ApplicationService {
                 .build();
 
         verificationReportRepository.save(report);
+        if (request.getAttachments() != null) {
+            attachmentService.attachAll(AttachmentOwnerType.VERIFICATION_REPORT, report.getId(),
+                    request.getAttachments());
+        }
 
         assignment.setStatus(VerificationStatus.COMPLETED);
         verificationAssignmentRepository.save(assignment);
@@ -654,7 +813,7 @@ public class ApplicationService {
     // ==================== HELPER METHODS ====================
 
     private Application getApplicationById(Long id) {
-        return applicationRepository.findById(id)
+        return applicationRepository.findDetailById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", id));
     }
 
@@ -719,18 +878,18 @@ public class ApplicationService {
     }
 
     private void saveEligibilityCriteria(Application application, List<CreateApplicationRequest.EligibilityCriterionRequest> criteria) {
+        List<EligibilityCriteriaSelection> selections = new ArrayList<>(criteria.size());
         for (CreateApplicationRequest.EligibilityCriterionRequest c : criteria) {
             EligibilityCriterion criterion = EligibilityCriterion.valueOf(c.getCriterionCode());
 
-            EligibilityCriteriaSelection selection = EligibilityCriteriaSelection.builder()
+            selections.add(EligibilityCriteriaSelection.builder()
                     .application(application)
                     .criterion(criterion)
                     .details(c.getDetails())
                     .evidenceDescription(c.getEvidenceDescription())
-                    .build();
-
-            eligibilityRepository.save(selection);
+                    .build());
         }
+        eligibilityRepository.saveAll(selections);
     }
 
     private void updateFormDataFromRequest(ApplicationFormData formData, UpdateApplicationRequest request) {
@@ -757,8 +916,10 @@ public class ApplicationService {
 
     private String generateApplicationNumber() {
         int year = Year.now().getValue();
-        long count = applicationRepository.count() + 1;
-        return String.format("NRCC/%d/%04d", year, count);
+        String prefix = String.format("NRCC/%d/", year);
+        long sequence = numberSequenceService.next("APPLICATION", year,
+                () -> applicationRepository.findMaxNumberSuffix(prefix));
+        return String.format("%s%04d", prefix, sequence);
     }
 
     private void recordAction(Application application, WorkflowAction action, ApplicationStatus fromStatus,
@@ -777,31 +938,51 @@ public class ApplicationService {
                 .build();
 
         approvalActionRepository.save(approvalAction);
+
+        if (fromStatus != toStatus) {
+            publishStatusChange(application, fromStatus, toStatus);
+        }
     }
 
-    // ==================== MAPPING METHODS ====================
+    private void publishStatusChange(Application application, ApplicationStatus fromStatus, ApplicationStatus toStatus) {
+        Long applicantId = application.getApplicant() != null ? application.getApplicant().getId() : null;
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(application.getId(), applicantId, fromStatus, toStatus));
+    }
 
-    private ApplicationResponse mapToResponse(Application application) {
-        ApplicationFormData formData = application.getFormData();
+    // ==================== MAPPING METHODS ====================
 
+    private ApplicationResponse mapSummaryToResponse(ApplicationSummary summary) {
         return ApplicationResponse.builder()
-                .id(application.getId())
-                .applicationNumber(application.getApplicationNumber())
-                .applicantType(application.getApplicantType().name())
-                .applicantName(application.getApplicant() != null ? application.getApplicant().getName() : null)
-                .applicantEmail(application.getApplicant() != null ? application.getApplicant().getEmail() : null)
-                .roadName(formData != null ? formData.getRoadName() : null)
-                .currentClass(formData != null ? formData.getCurrentClass() : null)
-                .proposedClass(application.getProposedClass().name())
-                .status(application.getStatus().name())
-                .statusDisplayName(application.getStatus().getDisplayName())
-                .currentOwnerName(application.getCurrentOwner() != null ? application.getCurrentOwner().getName() : null)
-                .submissionDate(application.getSubmissionDate())
-                .createdAt(application.getCreatedAt())
-                .updatedAt(application.getUpdatedAt())
+                .id(summary.getId())
+                .applicationNumber(summary.getApplicationNumber())
+                .applicantType(summary.getApplicantType().name())
+                .applicantName(summary.getApplicantName())
+                .applicantEmail(summary.getApplicantEmail())
+                .roadName(summary.getRoadName())
+                .currentClass(summary.getCurrentClass())
+                .proposedClass(summary.getProposedClass().name())
+                .status(summary.getStatus().name())
+                .statusDisplayName(summary.getStatus().getDisplayName())
+                .currentOwnerName(summary.getCurrentOwnerName())
+                .submissionDate(summary.getSubmissionDate())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
                 .build();
     }
 
+    private ApplicationSearchResponse mapSearchHitToResponse(ApplicationSearchHit hit) {
+        return ApplicationSearchResponse.builder()
+                .application(mapSummaryToResponse(hit))
+                .rank(hit.getRank())
+                .highlight(hit.getHighlight())
+                .build();
+    }
+
+    /**
+     * Map the full application aggregate. Applicant, owner and form data are expected to be
+     * loaded with the application (see {@link ApplicationRepository#findDetailById}); the
+     * criteria and the history with its actors take one statement each.
+     */
     private ApplicationDetailResponse mapToDetailResponse(Application application) {
         ApplicationFormData formData = application.getFormData();
 
@@ -843,7 +1024,7 @@ public class ApplicationService {
 
         // Map approval history
         List<ApplicationDetailResponse.ApprovalActionResponse> historyResponses =
-                approvalActionRepository.findByApplicationOrderByActionDateDesc(application).stream()
+                approvalActionRepository.findApplicationHistoryWithActor(application.getId()).stream()
                         .map(a -> ApplicationDetailResponse.ApprovalActionResponse.builder()
                                 .id(a.getId())
                                 .action(a.getAction().name())
@@ -0,0 +1,113 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tz.go.roadsfund.nrcc.dto.response.AttachmentResponse;
+import tz.go.roadsfund.nrcc.entity.Attachment;
+import tz.go.roadsfund.nrcc.entity.StoredFile;
+import tz.go.roadsfund.nrcc.enums.AttachmentOwnerType;
+import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
+import tz.go.roadsfund.nrcc.repository.AttachmentRepository;
+import tz.go.roadsfund.nrcc.repository.StoredFileRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Catalog of stored files attached to records. Callers check access to the owning record;
+ * detached files are left for {@link FileGarbageCollector} to reclaim.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class AttachmentService {
+
+    private final AttachmentRepository attachmentRepository;
+    private final StoredFileRepository storedFileRepository;
+
+    /**
+     * Attach a stored file. The file's row is locked first, as the garbage collector does before
+     * deciding a file is unattached, so a file cannot be reclaimed while it is being attached.
+     */
+    public AttachmentResponse attach(AttachmentOwnerType ownerType, Long ownerId, String fileName) {
+        StoredFile storedFile = storedFileRepository.findForUpdateByName(fileName)
+                .orElseThrow(() -> new ResourceNotFoundException("File", "name", fileName));
+
+        Attachment attachment = attachmentRepository.save(Attachment.builder()
+                .ownerType(ownerType)
+                .ownerId(ownerId)
+                .fileName(storedFile.getName())
+                .blobKey(FileStorageService.blobKey(storedFile.getContentHash()))
+                .size(storedFile.getSize())
+                .contentType(storedFile.getContentType())
+                .checksum(storedFile.getContentHash())
+                .build());
+
+        log.info("File {} attached to {} {}", fileName, ownerType, ownerId);
+        return mapToResponse(attachment);
+    }
+
+    /**
+     * Attach several stored files, e.g. the uploads submitted along with a record
+     */
+    public List<AttachmentResponse> attachAll(AttachmentOwnerType ownerType, Long ownerId,
+                                              Collection<String> fileNames) {
+        return fileNames.stream()
+                .map(fileName -> attach(ownerType, ownerId, fileName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Catalog files the old free-text columns still refer to, so the garbage collector sees
+     * them as attached
+     */
+    public void syncLegacyReferences() {
+        int added = attachmentRepository.insertLegacyReferences();
+        if (added > 0) {
+            log.info("Cataloged {} attachments from legacy file references", added);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getAttachments(AttachmentOwnerType ownerType, Long ownerId) {
+        return attachmentRepository.findByOwnerTypeAndOwnerIdOrderByIdAsc(ownerType, ownerId).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    public void detach(AttachmentOwnerType ownerType, Long ownerId, Long attachmentId) {
+        Attachment attachment = attachmentRepository.findByIdAndOwnerTypeAndOwnerId(attachmentId, ownerType, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+        attachmentRepository.delete(attachment);
+        log.info("Attachment {} removed from {} {}", attachmentId, ownerType, ownerId);
+    }
+
+    /**
+     * Remove all attachments of records being deleted
+     */
+    public void detachAll(AttachmentOwnerType ownerType, Collection<Long> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return;
+        }
+        int removed = attachmentRepository.deleteByOwners(ownerType, ownerIds);
+        if (removed > 0) {
+            log.info("Removed {} attachments of {} {}", removed, ownerType, ownerIds);
+        }
+    }
+
+    private AttachmentResponse mapToResponse(Attachment attachment) {
+        return AttachmentResponse.builder()
+                .id(attachment.getId())
+                .fileName(attachment.getFileName())
+                .size(attachment.getSize())
+                .contentType(attachment.getContentType())
+                .checksum(attachment.getChecksum())
+                .createdBy(attachment.getCreatedBy())
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+}
@@ -25,6 +25,7 @@ import tz.go.roadsfund.nrcc.repository.DistrictRepository;
 import tz.go.roadsfund.nrcc.repository.OrganizationRepository;
 import tz.go.roadsfund.nrcc.repository.UserRepository;
 import tz.go.roadsfund.nrcc.security.JwtTokenProvider;
+import tz.go.roadsfund.nrcc.security.UserPrincipalCache;
 
 import java.time.LocalDateTime;
 
@@ -44,6 +45,7 @@ public class AuthService {
     private final JwtTokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final UserPrincipalCache userPrincipalCache;
 
     public AuthResponse register(RegisterRequest request) {
         // Check if user already exists
@@ -197,6 +199,7 @@ public class AuthService {
 
         user.incrementTokenVersion();
         userRepository.save(user);
+        userPrincipalCache.evict(userId);
 
         // Revoke all refresh tokens
         refreshTokenService.revokeAllUserTokens(userId);
@@ -0,0 +1,296 @@
+package tz.go.roadsfund.nrcc.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tz.go.roadsfund.nrcc.dto.response.AutocompleteSuggestion;
+import tz.go.roadsfund.nrcc.entity.District;
+import tz.go.roadsfund.nrcc.entity.Organization;
+import tz.go.roadsfund.nrcc.entity.Region;
+import tz.go.roadsfund.nrcc.entity.Road;
+import tz.go.roadsfund.nrcc.entity.User;
+import tz.go.roadsfund.nrcc.enums.AutocompleteType;
+import tz.go.roadsfund.nrcc.event.RoadsImportedEvent;
+import tz.go.roadsfund.nrcc.event.SearchableEntityChangedEvent;
+import tz.go.roadsfund.nrcc.util.PrefixIndex;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory typeahead index over active roads, places (road end points, regions, districts),
+ * organizations and users. Built from the database at startup and on a schedule, and kept
+ * current in between from entity change events, so lookups never touch the database.
+ * Rebuilds run on a background thread; one requested while another is running is run again
+ * as soon as it finishes, so no change is missed and the caller never waits.
+ */
+@Service
+@Slf4j
+public class AutocompleteIndex {
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    // Changes committed while a rebuild is reading the tables, replayed onto the new snapshot; guarded by this
+    private List<SearchableEntityChangedEvent> changesDuringRebuild;
+
+    public AutocompleteIndex(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public List<AutocompleteSuggestion> suggest(AutocompleteType type, String prefix, int limit) {
+        return snapshot.indexes.get(type).search(prefix, limit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    /**
+     * Full rebuild to pick up changes made outside JPA (bulk updates, the road import, manual SQL)
+     */
+    @Scheduled(fixedDelayString = "${autocomplete.rebuild-interval-ms:3600000}",
+            initialDelayString = "${autocomplete.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    /**
+     * Single-flight: a request arriving while a rebuild runs marks the index dirty and is
+     * served by another pass once the current one finishes
+     */
+    public void requestRebuild() {
+        rebuildRequested.set(true);
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(this::rebuildLoop);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuildLoop() {
+        try {
+            while (rebuildRequested.getAndSet(false)) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.error("Autocomplete index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+        // A request may have landed between the loop exiting and the flag being cleared
+        if (rebuildRequested.get()) {
+            requestRebuild();
+        }
+    }
+
+    private void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Snapshot fresh = load();
+            synchronized (this) {
+                changesDuringRebuild.forEach(event -> apply(fresh, event));
+                snapshot = fresh;
+            }
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    private Snapshot load() {
+        long started = System.currentTimeMillis();
+        Snapshot fresh = new Snapshot();
+
+        jdbcTemplate.query("SELECT id, name, road_number, start_point, end_point, status FROM roads",
+                (RowCallbackHandler) rs -> fresh.putRoad(rs.getLong("id"), rs.getString("name"),
+                        rs.getString("road_number"), rs.getString("start_point"), rs.getString("end_point"),
+                        rs.getString("status")));
+        jdbcTemplate.query("SELECT id, name, status FROM regions",
+                (RowCallbackHandler) rs -> fresh.putRegion(rs.getLong("id"), rs.getString("name"),
+                        rs.getString("status")));
+        jdbcTemplate.query("SELECT id, name, status FROM districts",
+                (RowCallbackHandler) rs -> fresh.putDistrict(rs.getLong("id"), rs.getString("name"),
+                        rs.getString("status")));
+        jdbcTemplate.query("SELECT id, name, code, status FROM organizations",
+                (RowCallbackHandler) rs -> fresh.putOrganization(rs.getLong("id"), rs.getString("name"),
+                        rs.getString("code"), rs.getString("status")));
+        jdbcTemplate.query("SELECT id, name, email, status FROM users",
+                (RowCallbackHandler) rs -> fresh.putUser(rs.getLong("id"), rs.getString("name"),
+                        rs.getString("email"), rs.getString("status")));
+
+        log.info("Autocomplete index loaded in {} ms: {} roads, {} places, {} organizations, {} users",
+                System.currentTimeMillis() - started,
+                fresh.indexes.get(AutocompleteType.ROAD).size(), fresh.indexes.get(AutocompleteType.PLACE).size(),
+                fresh.indexes.get(AutocompleteType.ORGANIZATION).size(), fresh.indexes.get(AutocompleteType.USER).size());
+        return fresh;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEntityChanged(SearchableEntityChangedEvent event) {
+        apply(snapshot, event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    /**
+     * The road import writes with plain JDBC, bypassing the entity listeners
+     */
+    @TransactionalEventListener
+    public void onRoadsImported(RoadsImportedEvent event) {
+        requestRebuild();
+    }
+
+    private void apply(Snapshot current, SearchableEntityChangedEvent event) {
+        Object entity = event.entity();
+
+        if (entity instanceof Road road) {
+            current.putRoad(road.getId(), road.getName(), road.getRoadNumber(), road.getStartPoint(),
+                    road.getEndPoint(), event.removed() ? null : road.getStatus());
+        } else if (entity instanceof Region region) {
+            current.putRegion(region.getId(), region.getName(), event.removed() ? null : region.getStatus());
+        } else if (entity instanceof District district) {
+            current.putDistrict(district.getId(), district.getName(), event.removed() ? null : district.getStatus());
+        } else if (entity instanceof Organization organization) {
+            current.putOrganization(organization.getId(), organization.getName(), organization.getCode(),
+                    event.removed() ? null : organization.getStatus());
+        } else if (entity instanceof User user) {
+            current.putUser(user.getId(), user.getName(), user.getEmail(), event.removed() ? null : user.getStatus());
+        }
+    }
+
+    /**
+     * One generation of the index. Entries that are not ACTIVE (or deleted, status null) are removed.
+     */
+    private static final class Snapshot {
+
+        private final Map<AutocompleteType, PrefixIndex<AutocompleteSuggestion>> indexes =
+                new EnumMap<>(AutocompleteType.class);
+
+        // Road end points are free text shared by many roads: each place stays while a road references it
+        private final Map<Long, List<String>> placesByRoad = new HashMap<>();
+        private final Map<String, Integer> placeReferences = new HashMap<>();
+
+        private Snapshot() {
+            for (AutocompleteType type : AutocompleteType.values()) {
+                indexes.put(type, new PrefixIndex<>());
+            }
+        }
+
+        void putRoad(Long id, String name, String roadNumber, String startPoint, String endPoint, String status) {
+            String key = String.valueOf(id);
+            List<String> places = new ArrayList<>();
+            if (ACTIVE.equals(status)) {
+                indexes.get(AutocompleteType.ROAD).put(key,
+                        suggestion(AutocompleteType.ROAD, id, name, roadNumber), name, roadNumber);
+                addIfPresent(places, startPoint);
+                addIfPresent(places, endPoint);
+            } else {
+                indexes.get(AutocompleteType.ROAD).remove(key);
+            }
+            updateRoadPlaces(id, places);
+        }
+
+        void putRegion(Long id, String name, String status) {
+            putEntry(AutocompleteType.PLACE, "region:" + id, status,
+                    suggestion(AutocompleteType.PLACE, id, name, "Region"), name);
+        }
+
+        void putDistrict(Long id, String name, String status) {
+            putEntry(AutocompleteType.PLACE, "district:" + id, status,
+                    suggestion(AutocompleteType.PLACE, id, name, "District"), name);
+        }
+
+        void putOrganization(Long id, String name, String code, String status) {
+            putEntry(AutocompleteType.ORGANIZATION, String.valueOf(id), status,
+                    suggestion(AutocompleteType.ORGANIZATION, id, name, code), name, code);
+        }
+
+        void putUser(Long id, String name, String email, String status) {
+            putEntry(AutocompleteType.USER, String.valueOf(id), status,
+                    suggestion(AutocompleteType.USER, id, name, email), name, email);
+        }
+
+        private void putEntry(AutocompleteType type, String key, String status,
+                              AutocompleteSuggestion suggestion, String... texts) {
+            if (ACTIVE.equals(status)) {
+                indexes.get(type).put(key, suggestion, texts);
+            } else {
+                indexes.get(type).remove(key);
+            }
+        }
+
+        private void updateRoadPlaces(Long roadId, List<String> places) {
+            List<String> previous = places.isEmpty() ? placesByRoad.remove(roadId) : placesByRoad.put(roadId, places);
+            for (String place : places) {
+                if (placeReferences.merge(PrefixIndex.normalise(place), 1, Integer::sum) == 1) {
+                    indexes.get(AutocompleteType.PLACE).put("place:" + PrefixIndex.normalise(place),
+                            suggestion(AutocompleteType.PLACE, null, place, "Road end point"), place);
+                }
+            }
+            if (previous != null) {
+                for (String place : previous) {
+                    String normalised = PrefixIndex.normalise(place);
+                    if (placeReferences.merge(normalised, -1, Integer::sum) <= 0) {
+                        placeReferences.remove(normalised);
+                        indexes.get(AutocompleteType.PLACE).remove("place:" + normalised);
+                    }
+                }
+            }
+        }
+
+        private static void addIfPresent(List<String> places, String place) {
+            if (place != null && !PrefixIndex.normalise(place).isEmpty()) {
+                places.add(place.trim());
+            }
+        }
+
+        private static AutocompleteSuggestion suggestion(AutocompleteType type, Long id, String label, String detail) {
+            return AutocompleteSuggestion.builder()
+                    .type(type.name())
+                    .id(id)
+                    .label(label)
+                    .detail(detail)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package tz.go.roadsfund.nrcc.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage for immutable file content, addressed by slash-separated keys.
+ * Content written under a key is never changed, only deleted, so implementations may
+ * cache it freely.
+ */
+public interface BlobStore {
+
+    /**
+     * Smallest part a multipart upload accepts, except for its last part (the S3 limit)
+     */
+    long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * Store the file under the key. The source is left in place; the caller removes it.
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Local file holding the content, valid until the key is deleted
+     *
+     * @throws java.nio.file.NoSuchFileException when there is no such key
+     */
+    Path fetch(String key) throws IOException;
+
+    /**
+     * Size of the content in bytes
+     *
+     * @throws java.nio.file.NoSuchFileException when there is no such key
+     */
+    long size(String key) throws IOException;
+
+    /**
+     * Store the content of one key under another as well, without passing it through this node
+     *
+     * @throws java.nio.file.NoSuchFileException when there is no such source key
+     */
+    void copy(String sourceKey, String targetKey) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * Begin assembling the key from parts, which may be sent by different nodes
+     *
+     * @return id of the multipart upload, passed to the other multipart calls
+     */
+    String startMultipart(String key, String contentType) throws IOException;
+
+    /**
+     * Store one part (numbered from 1) of a multipart upload; sending a part number again
+     * replaces it. Parts other than the last must be at least {@link #MIN_PART_SIZE} bytes.
+     */
+    void putPart(String key, String uploadId, int partNumber, Path source) throws IOException;
+
+    /**
+     * Join the parts received so far, in part number order, into the key
+     *
+     * @throws java.nio.file.NoSuchFileException when there is no such multipart upload
+     */
+    void completeMultipart(String key, String uploadId) throws IOException;
+
+    /**
+     * Discard a multipart upload and its parts; unknown uploads are ignored
+     */
+    void abortMultipart(String key, String uploadId) throws IOException;
+
+    /**
+     * Keys starting with prefix, in ascending order, after startAfter (null for the first page)
+     */
+    List<String> list(String prefix, String startAfter, int limit) throws IOException;
+
+    /**
+     * Time-limited URL from which clients can download the content directly, when the store
+     * offers one
+     */
+    default Optional<URI> presignedDownloadUrl(String key, String downloadName, String contentType) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,161 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tz.go.roadsfund.nrcc.dto.response.DashboardStatsResponse;
+import tz.go.roadsfund.nrcc.enums.ActionPlanStatus;
+import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
+import tz.go.roadsfund.nrcc.event.ActionPlanStatusChangedEvent;
+import tz.go.roadsfund.nrcc.repository.ApplicationRepository;
+import tz.go.roadsfund.nrcc.repository.projection.EntityTotals;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Service computing dashboard statistics.
+ * Status counts come from the event-driven {@link StatusCounterService}; entity totals are
+ * published as an immutable snapshot refreshed on a schedule, after action plans are
+ * created or deleted, and whenever it exceeds the staleness bound.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStatsService {
+
+    private final ApplicationRepository applicationRepository;
+    private final StatusCounterService statusCounterService;
+
+    @Value("${dashboard.stats.max-staleness-ms:60000}")
+    private long maxStalenessMs;
+
+    private volatile StatsSnapshot snapshot;
+
+    private volatile boolean stale = true;
+
+    public DashboardStatsResponse getDashboardStats() {
+        StatsSnapshot current = currentSnapshot();
+
+        return DashboardStatsResponse.builder()
+                .totalApplications(statusCounterService.countApplications())
+                .draftApplications(statusCounterService.countApplications(ApplicationStatus.DRAFT))
+                .submittedApplications(sum(
+                        ApplicationStatus.SUBMITTED,
+                        ApplicationStatus.UNDER_MINISTER_REVIEW,
+                        ApplicationStatus.UNDER_RAS_REVIEW,
+                        ApplicationStatus.UNDER_RC_REVIEW))
+                .approvedApplications(statusCounterService.countApplications(ApplicationStatus.GAZETTED))
+                .rejectedApplications(sum(
+                        ApplicationStatus.DISAPPROVED_REFUSED,
+                        ApplicationStatus.DISAPPROVED_DESIGNATED))
+                .pendingApplications(sum(
+                        ApplicationStatus.WITH_NRCC_CHAIR,
+                        ApplicationStatus.VERIFICATION_IN_PROGRESS,
+                        ApplicationStatus.NRCC_REVIEW_MEETING,
+                        ApplicationStatus.RECOMMENDATION_SUBMITTED,
+                        ApplicationStatus.PENDING_GAZETTEMENT))
+                .totalUsers(current.totals().users())
+                .totalRoads(current.totals().roads())
+                .totalRegions(current.totals().regions())
+                .totalDistricts(current.totals().districts())
+                .totalOrganizations(current.totals().organizations())
+                .totalActionPlans(current.totals().actionPlans())
+                .activeActionPlans(statusCounterService.countActionPlans(ActionPlanStatus.IN_PROGRESS))
+                .build();
+    }
+
+    public Map<String, Long> getApplicationStats() {
+        Map<String, Long> stats = new HashMap<>();
+        statusCounterService.getApplicationCounts().forEach((status, count) -> stats.put(status.name(), count));
+        return stats;
+    }
+
+    public Map<String, Long> getActionPlanStats() {
+        Map<String, Long> stats = new HashMap<>();
+        statusCounterService.getActionPlanCounts().forEach((status, count) -> stats.put(status.name(), count));
+        return stats;
+    }
+
+    public Map<ApplicationStatus, Long> getApplicantStatusCounts(Long applicantId) {
+        return statusCounterService.getApplicantCounts(applicantId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActionPlanStatusChanged(ActionPlanStatusChangedEvent event) {
+        // Only creation and deletion change the action plan total
+        if (event.fromStatus() == null || event.toStatus() == null) {
+            stale = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stats.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    private StatsSnapshot currentSnapshot() {
+        StatsSnapshot current = snapshot;
+        if (current == null || stale || current.isOlderThan(maxStalenessMs)) {
+            return refreshIfStale();
+        }
+        return current;
+    }
+
+    /**
+     * Single-flight refresh: callers queued behind a refresh reuse its result
+     */
+    private synchronized StatsSnapshot refreshIfStale() {
+        StatsSnapshot current = snapshot;
+        if (current != null && !stale && !current.isOlderThan(maxStalenessMs)) {
+            return current;
+        }
+        return refresh();
+    }
+
+    private synchronized StatsSnapshot refresh() {
+        // Cleared before querying so that transitions committed meanwhile mark it stale again
+        stale = false;
+
+        EntityTotals totals = applicationRepository.countEntityTotals();
+
+        StatsSnapshot refreshed = new StatsSnapshot(new TotalsSnapshot(totals), Instant.now());
+        snapshot = refreshed;
+        log.debug("Dashboard statistics snapshot refreshed");
+        return refreshed;
+    }
+
+    private long sum(ApplicationStatus... statuses) {
+        long total = 0;
+        for (ApplicationStatus status : statuses) {
+            total += statusCounterService.countApplications(status);
+        }
+        return total;
+    }
+
+    /**
+     * Immutable view of the entity totals at a point in time
+     */
+    private record StatsSnapshot(TotalsSnapshot totals, Instant refreshedAt) {
+
+        boolean isOlderThan(long millis) {
+            return refreshedAt.plusMillis(millis).isBefore(Instant.now());
+        }
+    }
+
+    /**
+     * Immutable copy of the totals projection
+     */
+    private record TotalsSnapshot(Long users, Long roads, Long regions,
+                                  Long districts, Long organizations, Long actionPlans) {
+
+        TotalsSnapshot(EntityTotals totals) {
+            this(totals.getUsers(), totals.getRoads(), totals.getRegions(),
+                    totals.getDistricts(), totals.getOrganizations(), totals.getActionPlans());
+        }
+    }
+}
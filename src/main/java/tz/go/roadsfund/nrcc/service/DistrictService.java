@@ -17,7 +17,6 @@ import tz.go.roadsfund.nrcc.repository.DistrictRepository;
 import tz.go.roadsfund.nrcc.repository.RegionRepository;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for district operations
@@ -30,6 +29,7 @@ public class DistrictService {
 
     private final DistrictRepository districtRepository;
     private final RegionRepository regionRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Transactional
     public DistrictResponse createDistrict(CreateDistrictRequest request) {
@@ -96,33 +96,30 @@ public class DistrictService {
 
     public Page<DistrictResponse> getAllDistrictsPaginated(Pageable pageable) {
         return districtRepository.findAll(pageable)
-                .map(this::mapToResponse);
+                .map(DistrictService::mapToResponse);
     }
 
     public List<DistrictResponse> getAllDistricts() {
-        return districtRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return referenceDataCache.getDistricts(false);
     }
 
     public List<DistrictResponse> getActiveDistricts() {
-        return districtRepository.findByStatus("ACTIVE").stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return referenceDataCache.getDistricts(true);
     }
 
     public List<DistrictResponse> getDistrictsByRegion(Long regionId) {
-        Region region = regionRepository.findById(regionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Region", "id", regionId));
-        return districtRepository.findByRegion(region).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        if (referenceDataCache.getRegion(regionId) == null) {
+            throw new ResourceNotFoundException("Region", "id", regionId);
+        }
+        return referenceDataCache.getDistrictsByRegion(regionId);
     }
 
     public DistrictResponse getDistrictById(Long id) {
-        District district = districtRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("District", "id", id));
-        return mapToResponse(district);
+        DistrictResponse district = referenceDataCache.getDistrict(id);
+        if (district == null) {
+            throw new ResourceNotFoundException("District", "id", id);
+        }
+        return district;
     }
 
     public DistrictResponse getDistrictByCode(String code) {
@@ -133,7 +130,7 @@ public class DistrictService {
 
     public Page<DistrictResponse> searchByName(String name, Pageable pageable) {
         return districtRepository.findByNameContainingIgnoreCase(name, pageable)
-                .map(this::mapToResponse);
+                .map(DistrictService::mapToResponse);
     }
 
     public long getDistrictCount() {
@@ -144,7 +141,7 @@ public class DistrictService {
         return districtRepository.existsByCode(code);
     }
 
-    private DistrictResponse mapToResponse(District district) {
+    static DistrictResponse mapToResponse(District district) {
         return DistrictResponse.builder()
                 .id(district.getId())
                 .code(district.getCode())
@@ -1,53 +1,175 @@
 package tz.go.roadsfund.nrcc.service;
 
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import tz.go.roadsfund.nrcc.exception.UndeliverableMessageException;
+import tz.go.roadsfund.nrcc.util.MessageTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Email service for sending notifications
+ * Email service for sending notifications.
+ * Messages go out over pooled SMTP connections, and a batch is pipelined over a
+ * single connection instead of opening a session per recipient.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private static final MessageTemplate STATUS_SUBJECT =
+            MessageTemplate.compile("NRCC Application Status Update - {applicationNumber}");
+
+    private static final MessageTemplate STATUS_BODY = MessageTemplate.compile(
+            "Dear {applicantName},\n\n" +
+            "Your road reclassification application (Reference: {applicationNumber}) status has been updated to: {status}\n\n" +
+            "Please log in to the NRCC portal to view more details.\n\n" +
+            "Best regards,\n" +
+            "NRCC System\n" +
+            "Roads Fund Board");
+
+    private final SmtpTransportPool transportPool;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
 
+    /**
+     * A single outgoing message
+     */
+    public record MailJob(String to, String subject, String body) {
+    }
+
+    /**
+     * Send a single message.
+     * Throws UndeliverableMessageException when the address is invalid or rejected by the
+     * server, and a plain RuntimeException for failures that may succeed on retry.
+     */
     public void sendEmail(String to, String subject, String body) {
+        List<MailJob> rejected = new ArrayList<>();
+        List<MailJob> failed = sendBatch(List.of(new MailJob(to, subject, body)), rejected);
+        if (!rejected.isEmpty()) {
+            throw new UndeliverableMessageException("Email address rejected: " + to);
+        }
+        if (!failed.isEmpty()) {
+            throw new RuntimeException("Failed to send email");
+        }
+    }
+
+    /**
+     * Send many messages over one pooled connection.
+     * Recipients the server rejects are skipped; if the connection drops it is replaced
+     * once and the batch resumes. Returns the jobs that could not be delivered.
+     */
+    public List<MailJob> sendBatch(List<MailJob> jobs) {
+        return sendBatch(jobs, new ArrayList<>());
+    }
+
+    /**
+     * As {@link #sendBatch(List)}, additionally collecting into {@code rejected} the failed
+     * jobs whose address is invalid or refused by the server, which are not worth retrying
+     */
+    public List<MailJob> sendBatch(List<MailJob> jobs, List<MailJob> rejected) {
+        List<MailJob> failed = new ArrayList<>();
+        if (jobs.isEmpty()) {
+            return failed;
+        }
+
+        Transport transport;
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-
-            mailSender.send(message);
-            log.info("Email sent successfully to: {}", to);
-        } catch (Exception e) {
-            log.error("Failed to send email to: {}", to, e);
-            throw new RuntimeException("Failed to send email", e);
+            transport = transportPool.borrow();
+        } catch (MessagingException e) {
+            log.error("Failed to open SMTP connection for {} email(s)", jobs.size(), e);
+            failed.addAll(jobs);
+            return failed;
         }
+
+        boolean reconnected = false;
+        int sent = 0;
+        try {
+            for (int i = 0; i < jobs.size(); i++) {
+                MailJob job = jobs.get(i);
+                MimeMessage message;
+                try {
+                    message = toMessage(job);
+                } catch (MessagingException e) {
+                    log.error("Invalid email to: {}", job.to(), e);
+                    failed.add(job);
+                    rejected.add(job);
+                    continue;
+                }
+
+                try {
+                    transport.sendMessage(message, message.getAllRecipients());
+                    sent++;
+                } catch (SendFailedException e) {
+                    log.error("Failed to send email to: {}", job.to(), e);
+                    failed.add(job);
+                    if (e.getInvalidAddresses() != null && e.getInvalidAddresses().length > 0) {
+                        rejected.add(job);
+                    }
+                } catch (MessagingException e) {
+                    transportPool.invalidate(transport);
+                    transport = null;
+                    if (!reconnected) {
+                        reconnected = true;
+                        try {
+                            transport = transportPool.borrow();
+                            i--;
+                            continue;
+                        } catch (MessagingException reconnectFailure) {
+                            e.addSuppressed(reconnectFailure);
+                        }
+                    }
+                    log.error("SMTP connection lost, {} email(s) not sent", jobs.size() - i, e);
+                    failed.addAll(jobs.subList(i, jobs.size()));
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // The connection's state is unknown; drop it, but never lose the pool permit
+            if (transport != null) {
+                transportPool.invalidate(transport);
+                transport = null;
+            }
+            throw e;
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport);
+            }
+        }
+        log.info("Sent {} of {} email(s)", sent, jobs.size());
+        return failed;
     }
 
     public void sendApplicationStatusNotification(String to, String applicantName,
                                                   String applicationNumber, String status) {
-        String subject = "NRCC Application Status Update - " + applicationNumber;
-        String body = String.format(
-                "Dear %s,\n\n" +
-                "Your road reclassification application (Reference: %s) status has been updated to: %s\n\n" +
-                "Please log in to the NRCC portal to view more details.\n\n" +
-                "Best regards,\n" +
-                "NRCC System\n" +
-                "Roads Fund Board",
-                applicantName, applicationNumber, status
-        );
-        sendEmail(to, subject, body);
+        Map<String, String> values = Map.of(
+                "applicantName", String.valueOf(applicantName),
+                "applicationNumber", String.valueOf(applicationNumber),
+                "status", String.valueOf(status));
+        sendEmail(to, STATUS_SUBJECT.render(values), STATUS_BODY.render(values));
+    }
+
+    private MimeMessage toMessage(MailJob job) throws MessagingException {
+        MimeMessage message = new MimeMessage(transportPool.getSession());
+        message.setFrom(new InternetAddress(fromEmail));
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(job.to()));
+        message.setSubject(job.subject(), StandardCharsets.UTF_8.name());
+        message.setText(job.body(), StandardCharsets.UTF_8.name());
+        message.setSentDate(new Date());
+        message.saveChanges();
+        return message;
     }
 }
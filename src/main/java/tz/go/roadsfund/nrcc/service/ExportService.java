@@ -0,0 +1,159 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tz.go.roadsfund.nrcc.enums.ExportFormat;
+import tz.go.roadsfund.nrcc.util.RowWriter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSetMetaData;
+
+/**
+ * Streams reporting exports straight from a forward-only JDBC cursor into CSV or XLSX.
+ * Rows are read in fetch-size chunks and written as they arrive, so memory use does not
+ * grow with the size of the table and no entities are loaded.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private static final String APPLICATIONS_SQL =
+            "SELECT a.application_number, a.applicant_type, a.status, a.proposed_class, " +
+            "a.submission_date, a.decision_date, a.created_at, " +
+            "ap.name AS applicant_name, ap.email AS applicant_email, ap.phone_number AS applicant_phone, " +
+            "o.name AS current_owner, " +
+            "f.road_name, f.road_length, f.current_class, f.starting_point, f.terminal_point, " +
+            "f.surface_type_carriageway, f.surface_type_shoulders, f.carriageway_width, f.formation_width, " +
+            "f.actual_road_reserve_width, f.traffic_level, f.towns_villages_linked, f.reclassification_reasons, " +
+            "(SELECT string_agg(e.criterion, '; ' ORDER BY e.criterion) " +
+            "   FROM eligibility_criteria_selections e WHERE e.application_id = a.id) AS eligibility_criteria, " +
+            "(SELECT string_agg(to_char(h.action_date, 'YYYY-MM-DD HH24:MI') || ' ' || h.action || ' ' || " +
+            "          COALESCE(h.from_status || ' -> ', '') || h.to_status || ' by ' || actor.name, " +
+            "          '; ' ORDER BY h.action_date) " +
+            "   FROM approval_actions h JOIN users actor ON actor.id = h.actor_id " +
+            "   WHERE h.application_id = a.id) AS approval_history, " +
+            "a.remarks " +
+            "FROM applications a " +
+            "LEFT JOIN users ap ON ap.id = a.applicant_id " +
+            "LEFT JOIN users o ON o.id = a.current_owner_id " +
+            "LEFT JOIN application_form_data f ON f.application_id = a.id " +
+            "ORDER BY a.id";
+
+    private static final String[] APPLICATION_HEADERS = {
+            "Application Number", "Applicant Type", "Status", "Proposed Class",
+            "Submission Date", "Decision Date", "Created At",
+            "Applicant Name", "Applicant Email", "Applicant Phone", "Current Owner",
+            "Road Name", "Road Length (km)", "Current Class", "Starting Point", "Terminal Point",
+            "Carriageway Surface", "Shoulder Surface", "Carriageway Width", "Formation Width",
+            "Road Reserve Width", "Traffic Level", "Towns/Villages Linked", "Reclassification Reasons",
+            "Eligibility Criteria", "Approval History", "Remarks"
+    };
+
+    private static final String ROADS_SQL =
+            "SELECT r.road_number, r.name, r.current_class, r.length, r.start_point, r.end_point, " +
+            "r.region, r.district, r.surface_type, r.carriageway_width, r.formation_width, " +
+            "r.road_reserve_width, r.status, r.description " +
+            "FROM roads r ORDER BY r.id";
+
+    private static final String[] ROAD_HEADERS = {
+            "Road Number", "Name", "Current Class", "Length (km)", "Start Point", "End Point",
+            "Region", "District", "Surface Type", "Carriageway Width", "Formation Width",
+            "Road Reserve Width", "Status", "Description"
+    };
+
+    private static final String USERS_SQL =
+            "SELECT u.name, u.email, u.phone_number, u.role, u.user_type, u.status, " +
+            "org.name AS organization, d.name AS district, u.email_verified, u.phone_verified, " +
+            "u.last_login, u.created_at " +
+            "FROM users u " +
+            "LEFT JOIN organizations org ON org.id = u.organization_id " +
+            "LEFT JOIN districts d ON d.id = u.district_id " +
+            "ORDER BY u.id";
+
+    private static final String[] USER_HEADERS = {
+            "Name", "Email", "Phone Number", "Role", "User Type", "Status",
+            "Organization", "District", "Email Verified", "Phone Verified",
+            "Last Login", "Created At"
+    };
+
+    private static final String ACTION_PLANS_SQL =
+            "SELECT p.financial_year, p.title, p.version, p.status, p.total_budget, " +
+            "pb.name AS prepared_by, p.prepared_date, ab.name AS approved_by, p.approved_date, " +
+            "p.approval_resolution, p.description " +
+            "FROM action_plans p " +
+            "LEFT JOIN users pb ON pb.id = p.prepared_by_id " +
+            "LEFT JOIN users ab ON ab.id = p.approved_by_id " +
+            "ORDER BY p.id";
+
+    private static final String[] ACTION_PLAN_HEADERS = {
+            "Financial Year", "Title", "Version", "Status", "Total Budget",
+            "Prepared By", "Prepared Date", "Approved By", "Approved Date",
+            "Approval Resolution", "Description"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                         @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void exportApplications(ExportFormat format, OutputStream out) throws IOException {
+        export("Applications", APPLICATIONS_SQL, APPLICATION_HEADERS, format, out);
+    }
+
+    public void exportRoads(ExportFormat format, OutputStream out) throws IOException {
+        export("Roads", ROADS_SQL, ROAD_HEADERS, format, out);
+    }
+
+    public void exportUsers(ExportFormat format, OutputStream out) throws IOException {
+        export("Users", USERS_SQL, USER_HEADERS, format, out);
+    }
+
+    public void exportActionPlans(ExportFormat format, OutputStream out) throws IOException {
+        export("Action Plans", ACTION_PLANS_SQL, ACTION_PLAN_HEADERS, format, out);
+    }
+
+    private void export(String name, String sql, String[] headers, ExportFormat format, OutputStream out)
+            throws IOException {
+        long started = System.currentTimeMillis();
+        long[] rows = {0};
+
+        try (RowWriter writer = RowWriter.open(format, out, name)) {
+            writer.writeRow((Object[]) headers);
+
+            // PostgreSQL only honours the fetch size inside a transaction; otherwise it buffers the whole result
+            readOnlyTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                        ResultSetMetaData metaData = rs.getMetaData();
+                        Object[] values = new Object[metaData.getColumnCount()];
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = rs.getObject(i + 1);
+                        }
+                        try {
+                            writer.writeRow(values);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        rows[0]++;
+                    }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("Exported {} {} rows as {} in {} ms", rows[0], name, format,
+                System.currentTimeMillis() - started);
+    }
+}
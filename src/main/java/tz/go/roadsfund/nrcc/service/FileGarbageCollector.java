@@ -0,0 +1,198 @@
+package tz.go.roadsfund.nrcc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tz.go.roadsfund.nrcc.entity.StoredFile;
+import tz.go.roadsfund.nrcc.exception.FileStorageException;
+import tz.go.roadsfund.nrcc.repository.FileBlobRepository;
+import tz.go.roadsfund.nrcc.repository.StoredFileRepository;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reclaims uploaded files nothing refers to, one small batch per run so neither the database
+ * nor the blob store sees a burst of work:
+ * <ul>
+ *   <li>stored files no attachment refers to, once past a grace period that leaves time to
+ *   attach a fresh upload (drafts that were deleted, uploads never attached);</li>
+ *   <li>content and previews in the blob store without a referenced blob row (uploads whose
+ *   transaction failed after the content was put, released content whose delete after commit
+ *   failed), found by walking the store's keys in order.</li>
+ * </ul>
+ * Each file or content is reclaimed in its own short transaction. Both walks resume from
+ * where the last batch stopped and start over when they reach the end.
+ * <p>
+ * Nothing is collected until the files of the old flat layout have been moved in and every
+ * file the old free-text columns refer to has been cataloged as an attachment, which happens
+ * at startup. The collector is off unless file.gc.enabled is set.
+ */
+@Service
+@Slf4j
+public class FileGarbageCollector {
+
+    // ab/cd/<sha-256>, optionally followed by .<derivative suffix>
+    private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})(\\..+)?");
+
+    private final StoredFileRepository storedFileRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final AttachmentService attachmentService;
+    private final BlobStore blobStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.gc.enabled:false}")
+    private boolean enabled;
+
+    @Value("${file.gc.batch-size:200}")
+    private int batchSize;
+
+    @Value("${file.gc.unattached-grace-hours:24}")
+    private long unattachedGraceHours;
+
+    // Resume points of the two walks; held in memory, so a restart begins a new pass
+    private long fileCursor;
+    private String storeCursor;
+
+    // Set once legacy references are cataloged; until then any file may look unattached
+    private volatile boolean referencesSynced;
+
+    public FileGarbageCollector(StoredFileRepository storedFileRepository, FileBlobRepository fileBlobRepository,
+                                FileStorageService fileStorageService, AttachmentService attachmentService,
+                                BlobStore blobStore, MeterRegistry meterRegistry) {
+        this.storedFileRepository = storedFileRepository;
+        this.fileBlobRepository = fileBlobRepository;
+        this.fileStorageService = fileStorageService;
+        this.attachmentService = attachmentService;
+        this.blobStore = blobStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs after {@link FileStorageService#migrateFlatFiles}, which gives moved files their
+     * stored file rows. If it fails the collector stays idle on this node.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(FileStorageService.FLAT_FILE_MIGRATION_ORDER + 1)
+    public void syncLegacyReferences() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            attachmentService.syncLegacyReferences();
+            referencesSynced = true;
+        } catch (RuntimeException e) {
+            log.error("Could not catalog legacy file references; file garbage collection stays off", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${file.gc.initial-delay-ms:300000}",
+            fixedDelayString = "${file.gc.interval-ms:30000}")
+    public void collect() {
+        if (!enabled || !referencesSynced) {
+            return;
+        }
+        reclaimUnattachedFiles();
+        sweepStore();
+    }
+
+    private void reclaimUnattachedFiles() {
+        LocalDateTime before = LocalDateTime.now().minusHours(unattachedGraceHours);
+        List<StoredFile> files = storedFileRepository.findUnattached(before, fileCursor, PageRequest.of(0, batchSize));
+
+        int reclaimed = 0;
+        for (StoredFile file : files) {
+            try {
+                if (fileStorageService.deleteIfUnattached(file.getName())) {
+                    reclaimed++;
+                }
+            } catch (FileStorageException e) {
+                log.warn("Could not reclaim file {}: {}", file.getName(), e.getMessage());
+            }
+        }
+        count("file", reclaimed);
+
+        fileCursor = files.size() < batchSize ? 0 : files.get(files.size() - 1).getId();
+        if (reclaimed > 0) {
+            log.info("Reclaimed {} unattached files", reclaimed);
+        }
+    }
+
+    private void sweepStore() {
+        List<String> keys;
+        try {
+            keys = blobStore.list("", storeCursor, batchSize);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not list the blob store after {}: {}", storeCursor, e.getMessage());
+            return;
+        }
+
+        Set<String> hashes = new LinkedHashSet<>();
+        for (String key : keys) {
+            Matcher matcher = CONTENT_KEY.matcher(key);
+            if (matcher.matches()) {
+                hashes.add(matcher.group(1));
+            }
+        }
+        Set<String> known = hashes.isEmpty() ? Set.of() : new HashSet<>(fileBlobRepository.findReferencedHashes(hashes));
+
+        int content = 0;
+        int derivatives = 0;
+        for (String key : keys) {
+            Matcher matcher = CONTENT_KEY.matcher(key);
+            if (!matcher.matches() || known.contains(matcher.group(1))) {
+                continue;
+            }
+            try {
+                if (matcher.group(2) == null) {
+                    if (fileStorageService.reclaimOrphanedContent(matcher.group(1))) {
+                        content++;
+                    }
+                } else {
+                    // Previews of content that is gone; the content itself is handled above
+                    blobStore.delete(key);
+                    derivatives++;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not reclaim {}: {}", key, e.getMessage());
+            }
+        }
+        count("content", content);
+        count("derivative", derivatives);
+
+        if (content + derivatives > 0) {
+            log.info("Reclaimed {} orphaned contents and {} derived files from the blob store", content, derivatives);
+        }
+        if (keys.size() < batchSize) {
+            if (storeCursor != null) {
+                log.debug("Blob store sweep finished");
+            }
+            storeCursor = null;
+        } else {
+            storeCursor = keys.get(keys.size() - 1);
+        }
+    }
+
+    private void count(String kind, int reclaimed) {
+        if (reclaimed > 0) {
+            Counter.builder("nrcc.files.reclaimed")
+                    .tag("kind", kind)
+                    .register(meterRegistry)
+                    .increment(reclaimed);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package tz.go.roadsfund.nrcc.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tz.go.roadsfund.nrcc.entity.StoredFile;
+import tz.go.roadsfund.nrcc.event.FileStoredEvent;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JPEG previews of uploaded images and of the first page of PDFs, at a few fixed sizes.
+ * New uploads are queued after commit on a small bounded pool of its own; when the queue is
+ * full the upload is not held up, the preview is simply made on first request instead.
+ * Images are decoded with subsampling and PDF pages rendered at preview scale, so memory
+ * use follows the preview size rather than the original. Previews are stored in the blob
+ * store beside the content they are made from, so identical uploads share them. Content that
+ * cannot be decoded is marked as having no preview; any other failure is retried on the next
+ * request.
+ */
+@Service
+@Slf4j
+public class FilePreviewService {
+
+    public enum Status { READY, PENDING, BUSY, UNAVAILABLE }
+
+    public record Preview(Status status, Path file) {
+    }
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+    private static final String PDF_EXTENSION = "pdf";
+    private static final String FAILED_MARKER = "preview-failed";
+
+    private final FileStorageService fileStorageService;
+
+    @Value("${file.preview.sizes:160,480,1024}")
+    private int[] sizes;
+
+    @Value("${file.preview.pool-size:2}")
+    private int poolSize;
+
+    @Value("${file.preview.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${file.preview.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    private ThreadPoolExecutor executor;
+
+    // Content hashes queued or being rendered, so each is rendered once
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public FilePreviewService(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    @PostConstruct
+    public void init() {
+        sizes = Arrays.stream(sizes).sorted().distinct().toArray();
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "file-preview-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFileStored(FileStoredEvent event) {
+        if (kind(event.originalName()) != null) {
+            submit(event.contentHash(), event.originalName());
+        }
+    }
+
+    /**
+     * Preview of a stored file at the smallest configured size of at least the requested one.
+     * A missing preview is queued and reported PENDING, or BUSY when the queue is full.
+     */
+    public Preview getPreview(String fileName, int requestedSize) {
+        StoredFile storedFile = fileStorageService.findStoredFile(fileName).orElse(null);
+        if (storedFile == null || kind(storedFile.getOriginalName()) == null) {
+            return new Preview(Status.UNAVAILABLE, null);
+        }
+
+        String hash = storedFile.getContentHash();
+        try {
+            Optional<Path> preview = fileStorageService.findDerivative(hash, previewSuffix(previewSize(requestedSize)));
+            if (preview.isPresent()) {
+                return new Preview(Status.READY, preview.get());
+            }
+            if (fileStorageService.findDerivative(hash, FAILED_MARKER).isPresent()) {
+                return new Preview(Status.UNAVAILABLE, null);
+            }
+        } catch (IOException e) {
+            log.warn("Could not read preview of {}: {}", hash, e.getMessage());
+            return new Preview(Status.BUSY, null);
+        }
+        return new Preview(submit(hash, storedFile.getOriginalName()) ? Status.PENDING : Status.BUSY, null);
+    }
+
+    private boolean submit(String hash, String originalName) {
+        if (!pending.add(hash)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(hash, kind(originalName));
+                } finally {
+                    pending.remove(hash);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(hash);
+            log.debug("Preview queue full, skipped {}", originalName);
+            return false;
+        }
+    }
+
+    private void generate(String hash, String kind) {
+        long started = System.currentTimeMillis();
+        int largest = sizes[sizes.length - 1];
+        try {
+            Path source = fileStorageService.fetchContent(hash);
+            BufferedImage image = PDF_EXTENSION.equals(kind) ? renderFirstPage(source, largest) : readImage(source, largest);
+            for (int size : sizes) {
+                writeJpeg(scale(image, size), hash, previewSuffix(size));
+            }
+            log.debug("Previews of {} made in {} ms", hash, System.currentTimeMillis() - started);
+        } catch (UnreadableContentException e) {
+            // The content itself is at fault, so every later attempt would fail the same way
+            log.info("No preview of {}: {}", hash, e.getMessage());
+            markFailed(hash);
+        } catch (IOException | RuntimeException e) {
+            // Storage trouble or a full disk; nothing is recorded, so the next request tries again
+            log.warn("Could not make preview of {}: {}", hash, e.getMessage());
+        }
+    }
+
+    /**
+     * Decode at the coarsest subsampling that still leaves the longest side at least maxSide
+     */
+    private BufferedImage readImage(Path source, int maxSide) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new UnreadableContentException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / maxSide);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } catch (IOException | RuntimeException e) {
+                throw new UnreadableContentException("Image could not be decoded: " + e.getMessage(), e);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage renderFirstPage(Path source, int maxSide) throws IOException {
+        PDDocument document;
+        try {
+            document = Loader.loadPDF(source.toFile(), IOUtils.createTempFileOnlyStreamCache());
+        } catch (FileSystemException e) {
+            throw e;
+        } catch (IOException e) {
+            // PDFBox reports malformed and encrypted documents as plain IOExceptions
+            throw new UnreadableContentException("PDF could not be read: " + e.getMessage(), e);
+        }
+        try (document) {
+            if (document.getNumberOfPages() == 0) {
+                throw new UnreadableContentException("PDF has no pages");
+            }
+            PDRectangle box = document.getPage(0).getCropBox();
+            float scale = maxSide / Math.max(box.getWidth(), box.getHeight());
+            return new PDFRenderer(document).renderImage(0, scale, ImageType.RGB);
+        } catch (UnreadableContentException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new UnreadableContentException("PDF page could not be rendered: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fit within size x size, never enlarging; transparency is flattened onto white
+     */
+    private static BufferedImage scale(BufferedImage image, int size) {
+        double factor = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * factor));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Written to a temp file and then put in the store, so a preview is never served half written
+     */
+    private void writeJpeg(BufferedImage image, String hash, String suffix) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        Path temp = fileStorageService.tempPath("preview-" + UUID.randomUUID() + ".jpg");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            fileStorageService.putDerivative(hash, suffix, temp, "image/jpeg");
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void markFailed(String hash) {
+        Path temp = fileStorageService.tempPath("preview-" + UUID.randomUUID() + ".failed");
+        try {
+            Files.createFile(temp);
+            fileStorageService.putDerivative(hash, FAILED_MARKER, temp, "text/plain");
+        } catch (IOException ignored) {
+            // Tried again on the next request
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Empty, harmless if left behind
+            }
+        }
+    }
+
+    private int previewSize(int requested) {
+        for (int size : sizes) {
+            if (size >= requested) {
+                return size;
+            }
+        }
+        return sizes[sizes.length - 1];
+    }
+
+    private static String previewSuffix(int size) {
+        return "preview-" + size + ".jpg";
+    }
+
+    /**
+     * The file cannot be decoded as the image or PDF its name says it is
+     */
+    private static class UnreadableContentException extends IOException {
+
+        UnreadableContentException(String message) {
+            super(message);
+        }
+
+        UnreadableContentException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private static String kind(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            return null;
+        }
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (IMAGE_EXTENSIONS.contains(extension)) {
+            return "image";
+        }
+        return PDF_EXTENSION.equals(extension) ? PDF_EXTENSION : null;
+    }
+}
@@ -1,93 +1,484 @@
 package tz.go.roadsfund.nrcc.service;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import tz.go.roadsfund.nrcc.config.FileStorageProperties;
+import tz.go.roadsfund.nrcc.entity.FileBlob;
+import tz.go.roadsfund.nrcc.entity.StoredFile;
+import tz.go.roadsfund.nrcc.event.FileStoredEvent;
+import tz.go.roadsfund.nrcc.exception.BadRequestException;
 import tz.go.roadsfund.nrcc.exception.FileStorageException;
 import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
+import tz.go.roadsfund.nrcc.repository.AttachmentRepository;
+import tz.go.roadsfund.nrcc.repository.FileBlobRepository;
+import tz.go.roadsfund.nrcc.repository.StoredFileRepository;
 
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
- * Service for file storage operations
+ * Service for file storage operations.
+ * Content is stored once per SHA-256 in the {@link BlobStore} under a sharded key (ab/cd/abcd...);
+ * stored files map the public UUID-prefixed names handed to clients onto that content, which
+ * is reference counted. Uploads are hashed while being written to a local temp file and then
+ * put into the store; resumable uploads arrive already hashed and are copied in from where
+ * they were staged. Files from the old flat layout are still found by name and are moved
+ * into the store at startup.
  */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class FileStorageService {
 
+    private static final String TEMP_DIR = ".tmp";
+
+    // Startup listeners that need every flat-layout file to have its stored file row order after this
+    static final int FLAT_FILE_MIGRATION_ORDER = 0;
+
     private final FileStorageProperties fileStorageProperties;
+    private final StoredFileRepository storedFileRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlobStore blobStore;
+
+    @Value("${file.migrate-flat-layout:true}")
+    private boolean migrateFlatLayout;
+
     private Path fileStorageLocation;
+    private Path tempLocation;
+
+    public FileStorageService(FileStorageProperties fileStorageProperties, StoredFileRepository storedFileRepository,
+                              FileBlobRepository fileBlobRepository, AttachmentRepository attachmentRepository,
+                              PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                              BlobStore blobStore) {
+        this.fileStorageProperties = fileStorageProperties;
+        this.storedFileRepository = storedFileRepository;
+        this.fileBlobRepository = fileBlobRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.blobStore = blobStore;
+    }
 
     @PostConstruct
     public void init() {
         this.fileStorageLocation = Paths.get(fileStorageProperties.getUploadDir())
                 .toAbsolutePath().normalize();
+        // Temp files live on the same file system as a local store so it can link them into place
+        this.tempLocation = this.fileStorageLocation.resolve(TEMP_DIR);
 
         try {
-            Files.createDirectories(this.fileStorageLocation);
+            Files.createDirectories(this.tempLocation);
         } catch (Exception ex) {
             throw new FileStorageException("Could not create the directory where the uploaded files will be stored.", ex);
         }
     }
 
     public String storeFile(MultipartFile file) {
-        String fileName = StringUtils.cleanPath(file.getOriginalFilename());
+        String fileName = checkFileName(file.getOriginalFilename());
 
+        Path temp = null;
         try {
-            if (fileName.contains("..")) {
-                throw new FileStorageException("Invalid file path: " + fileName);
+            temp = Files.createTempFile(tempLocation, "upload-", ".part");
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
             }
+            Path content = temp;
+            return register(key -> blobStore.put(key, content, file.getContentType()),
+                    HexFormat.of().formatHex(digest.digest()), size, fileName, file.getContentType());
+        } catch (IOException | UncheckedIOException ex) {
+            throw new FileStorageException("Could not store file " + fileName, ex);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Store content the caller has already put in the blob store under stagedKey, with the
+     * hash and size it worked out while the content arrived. The store copies it into place,
+     * so it is not read or hashed again here. The caller deletes the staged key afterwards.
+     */
+    public String storeStagedContent(String stagedKey, String hash, long size, String originalName,
+                                     String contentType) {
+        String fileName = checkFileName(originalName);
+        try {
+            return register(key -> blobStore.copy(stagedKey, key), hash, size, fileName, contentType);
+        } catch (IOException | UncheckedIOException ex) {
+            throw new FileStorageException("Could not store file " + fileName, ex);
+        }
+    }
+
+    /**
+     * Cleaned file name, rejected when it is a path or its extension is not allowed
+     */
+    public String checkFileName(String originalName) {
+        String fileName = StringUtils.cleanPath(originalName != null ? originalName : "");
+
+        if (fileName.isEmpty() || fileName.contains("..") || fileName.contains("/")) {
+            throw new FileStorageException("Invalid file path: " + fileName);
+        }
+
+        // Validate file extension
+        String fileExtension = getFileExtension(fileName);
+        if (!isAllowedExtension(fileExtension)) {
+            throw new FileStorageException("File type not allowed: " + fileExtension);
+        }
+        return fileName;
+    }
+
+    /**
+     * Local scratch location, on the same file system as a local store so content can be linked into place
+     */
+    public Path tempPath(String name) {
+        return tempLocation.resolve(name);
+    }
+
+    private String register(ContentWriter content, String hash, long size, String fileName, String contentType)
+            throws IOException {
+        // Generate unique filename
+        String uniqueFileName = UUID.randomUUID().toString() + "_" + fileName;
+
+        // Upload outside the transaction so no row lock is held meanwhile; checked again below
+        if (!blobStore.exists(blobKey(hash))) {
+            content.writeTo(blobKey(hash));
+        }
 
-            // Validate file extension
-            String fileExtension = getFileExtension(fileName);
-            if (!isAllowedExtension(fileExtension)) {
-                throw new FileStorageException("File type not allowed: " + fileExtension);
+        transactionTemplate.executeWithoutResult(status -> {
+            fileBlobRepository.acquire(hash, size);
+            ensureBlob(content, hash);
+            storedFileRepository.save(StoredFile.builder()
+                    .name(uniqueFileName)
+                    .contentHash(hash)
+                    .size(size)
+                    .contentType(contentType)
+                    .originalName(fileName)
+                    .build());
+            eventPublisher.publishEvent(new FileStoredEvent(uniqueFileName, hash, fileName));
+        });
+        return uniqueFileName;
+    }
+
+    /**
+     * Local path of a stored file's content; unknown names are looked up in the old flat layout
+     */
+    public Path loadFile(String fileName) {
+        StoredFile storedFile = storedFileRepository.findByName(fileName).orElse(null);
+        if (storedFile != null) {
+            try {
+                return blobStore.fetch(blobKey(storedFile.getContentHash()));
+            } catch (NoSuchFileException ex) {
+                // Recorded by the flat layout migration but not moved yet
+            } catch (IOException ex) {
+                throw new FileStorageException("Could not read file " + fileName, ex);
             }
+        }
+
+        Path flat = flatPath(fileName);
+        if (flat == null || !Files.isRegularFile(flat)) {
+            throw new ResourceNotFoundException("File", "name", fileName);
+        }
+        return flat;
+    }
+
+    public Optional<StoredFile> findStoredFile(String fileName) {
+        return storedFileRepository.findByName(fileName);
+    }
+
+    /**
+     * URL for downloading a stored file straight from the blob store, if it offers them
+     */
+    public Optional<URI> presignedDownloadUrl(String fileName, String contentType) {
+        return storedFileRepository.findByName(fileName)
+                .flatMap(storedFile -> blobStore.presignedDownloadUrl(
+                        blobKey(storedFile.getContentHash()), fileName, contentType));
+    }
+
+    public Path fetchContent(String hash) throws IOException {
+        return blobStore.fetch(blobKey(hash));
+    }
+
+    /**
+     * File derived from some content (a preview, say), kept beside it and deleted with it
+     */
+    public Optional<Path> findDerivative(String hash, String suffix) throws IOException {
+        try {
+            return Optional.of(blobStore.fetch(derivativeKey(hash, suffix)));
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        }
+    }
 
-            // Generate unique filename
-            String uniqueFileName = UUID.randomUUID().toString() + "_" + fileName;
+    public void putDerivative(String hash, String suffix, Path source, String contentType) throws IOException {
+        blobStore.put(derivativeKey(hash, suffix), source, contentType);
+    }
 
-            Path targetLocation = this.fileStorageLocation.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * Remove a stored file; its content goes with the last reference. Attached files are
+     * removed by detaching them instead; as in {@link #deleteIfUnattached}, that is checked
+     * under the file's row lock, so the file cannot be attached in between.
+     */
+    public void deleteFile(String fileName) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                StoredFile storedFile = storedFileRepository.findForUpdateByName(fileName).orElse(null);
+                if (attachmentRepository.existsByFileName(fileName)) {
+                    throw new BadRequestException("File is attached to a record; remove the attachment instead");
+                }
+                if (storedFile != null) {
+                    release(storedFile);
+                }
+            });
 
-            return uniqueFileName;
+            Path flat = flatPath(fileName);
+            if (flat != null) {
+                Files.deleteIfExists(flat);
+            }
+        } catch (IOException | UncheckedIOException ex) {
+            throw new FileStorageException("Could not delete file " + fileName, ex);
+        }
+    }
+
+    /**
+     * Remove a stored file unless it is attached to something. The check is made under the
+     * file's row lock, which attaching takes too.
+     *
+     * @return whether the file was removed
+     */
+    public boolean deleteIfUnattached(String fileName) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                StoredFile storedFile = storedFileRepository.findForUpdateByName(fileName).orElse(null);
+                if (storedFile == null || attachmentRepository.existsByFileName(fileName)) {
+                    return false;
+                }
+                release(storedFile);
+                return true;
+            }));
+        } catch (UncheckedIOException ex) {
+            throw new FileStorageException("Could not delete file " + fileName, ex);
+        }
+    }
+
+    /**
+     * Delete content in the blob store that no stored file refers to: content whose last
+     * reference was released, or content put by an upload whose transaction then failed.
+     * The blob row is created if missing and locked for the check, so an upload of the same
+     * content waits and then puts it back. Always runs in a transaction of its own.
+     *
+     * @return whether the content was deleted
+     */
+    public boolean reclaimOrphanedContent(String hash) {
+        try {
+            return Boolean.TRUE.equals(newTransactionTemplate.execute(status -> {
+                fileBlobRepository.claim(hash);
+                FileBlob blob = fileBlobRepository.findForUpdate(hash).orElse(null);
+                if (blob == null || blob.getRefCount() > 0) {
+                    return false;
+                }
+                fileBlobRepository.delete(blob);
+                try {
+                    blobStore.delete(blobKey(hash));
+                    deleteDerivatives(hash);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return true;
+            }));
+        } catch (UncheckedIOException ex) {
+            throw new FileStorageException("Could not delete content " + hash, ex);
+        }
+    }
+
+    /**
+     * Move files of the old flat layout (UUID_name directly under the upload directory) into
+     * the content store. Each file is recorded before it is moved, and lookups fall back to the
+     * flat layout, so an interrupted run loses nothing and the next start carries on.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(FLAT_FILE_MIGRATION_ORDER)
+    public void migrateFlatFiles() {
+        if (!migrateFlatLayout) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        int migrated = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(fileStorageLocation,
+                path -> Files.isRegularFile(path) && !path.getFileName().toString().startsWith("."))) {
+            for (Path flat : entries) {
+                try {
+                    migrateFlatFile(flat);
+                    if (++migrated % 10_000 == 0) {
+                        log.info("Moved {} files into the content store", migrated);
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    log.warn("Could not move {} into the content store: {}", flat.getFileName(), ex.getMessage());
+                }
+            }
         } catch (IOException ex) {
-            throw new FileStorageException("Could not store file " + fileName, ex);
+            log.error("Could not list upload directory {}", fileStorageLocation, ex);
+        }
+        if (migrated > 0) {
+            log.info("Moved {} files into the content store in {} ms", migrated, System.currentTimeMillis() - started);
+        }
+    }
+
+    private void migrateFlatFile(Path flat) throws IOException {
+        String name = flat.getFileName().toString();
+        MessageDigest digest = sha256();
+        long size;
+        try (InputStream in = new DigestInputStream(Files.newInputStream(flat), digest)) {
+            size = in.transferTo(OutputStream.nullOutputStream());
         }
+        String hash = HexFormat.of().formatHex(digest.digest());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!storedFileRepository.existsByName(name)) {
+                fileBlobRepository.acquire(hash, size);
+                int separator = name.indexOf('_');
+                storedFileRepository.save(StoredFile.builder()
+                        .name(name)
+                        .contentHash(hash)
+                        .size(size)
+                        .originalName(separator >= 0 ? name.substring(separator + 1) : name)
+                        .build());
+            }
+        });
+
+        if (!blobStore.exists(blobKey(hash))) {
+            blobStore.put(blobKey(hash), flat, null);
+        }
+        Files.deleteIfExists(flat);
     }
 
-    public Resource loadFileAsResource(String fileName) {
+    /**
+     * Called with the blob row locked: puts the content back if the last reference to it was
+     * released (and the content deleted) since it was uploaded
+     */
+    private void ensureBlob(ContentWriter content, String hash) {
         try {
-            Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new ResourceNotFoundException("File", "name", fileName);
+            if (!blobStore.exists(blobKey(hash))) {
+                content.writeTo(blobKey(hash));
             }
-        } catch (MalformedURLException ex) {
-            throw new ResourceNotFoundException("File", "name", fileName);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
         }
     }
 
-    public void deleteFile(String fileName) {
+    /**
+     * Drop a stored file's reference under the blob row lock. The content is only deleted
+     * once the release has committed, so a rollback leaves it intact; the delete re-checks
+     * the reference count under the lock, so an upload of the same content in between keeps
+     * it. If the delete fails, the blob is left with no references for the garbage collector.
+     */
+    private void release(StoredFile storedFile) {
+        storedFileRepository.delete(storedFile);
+        FileBlob blob = fileBlobRepository.findForUpdate(storedFile.getContentHash()).orElse(null);
+        if (blob == null) {
+            return;
+        }
+        blob.setRefCount(Math.max(blob.getRefCount() - 1, 0));
+        if (blob.getRefCount() > 0) {
+            return;
+        }
+
+        String hash = blob.getHash();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    reclaimOrphanedContent(hash);
+                } catch (RuntimeException ex) {
+                    log.warn("Could not delete released content {}: {}", hash, ex.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Puts a new file's content under a blob key, from a local file or from elsewhere in the store
+     */
+    @FunctionalInterface
+    private interface ContentWriter {
+        void writeTo(String key) throws IOException;
+    }
+
+    private void deleteDerivatives(String hash) throws IOException {
+        for (String key : blobStore.list(blobKey(hash) + ".", null, 100)) {
+            blobStore.delete(key);
+        }
+    }
+
+    /**
+     * Blob store key of some content: its hash, sharded by the first two byte pairs
+     */
+    static String blobKey(String hash) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private static String derivativeKey(String hash, String suffix) {
+        return blobKey(hash) + "." + suffix;
+    }
+
+    /**
+     * Location of a file in the old flat layout, or null for names that would escape it
+     */
+    private Path flatPath(String fileName) {
+        Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
+        return filePath.getParent() != null && filePath.getParent().equals(this.fileStorageLocation) ? filePath : null;
+    }
+
+    private static MessageDigest sha256() {
         try {
-            Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
-            Files.deleteIfExists(filePath);
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
         } catch (IOException ex) {
-            throw new FileStorageException("Could not delete file " + fileName, ex);
+            log.warn("Could not delete temp file {}", path);
         }
     }
 
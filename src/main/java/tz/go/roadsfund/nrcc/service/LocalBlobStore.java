@@ -0,0 +1,219 @@
+package tz.go.roadsfund.nrcc.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Blob store on the local file system (or a shared mount), one file per key under the root.
+ * Only single-node deployments can use it without a shared mount. Keys are expected to be
+ * sharded ("ab/cd/..."): listing walks two levels of two-character directories in order, so
+ * a page only reads the directories it returns keys from. Multipart uploads keep their parts
+ * under ".multipart/&lt;upload id&gt;" until they are joined.
+ */
+public class LocalBlobStore implements BlobStore {
+
+    private static final String MULTIPART_DIRECTORY = ".multipart";
+
+    private final Path root;
+
+    public LocalBlobStore(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    /**
+     * Hard-linked into place when the source is on the same file system, copied otherwise;
+     * either way the key appears atomically
+     */
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path staging = target.resolveSibling(".put-" + UUID.randomUUID());
+        try {
+            try {
+                Files.createLink(staging, source);
+            } catch (UnsupportedOperationException | IOException e) {
+                Files.copy(source, staging, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same content written concurrently
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    @Override
+    public Path fetch(String key) throws IOException {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            throw new NoSuchFileException(key);
+        }
+        return file;
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return Files.size(fetch(key));
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        put(targetKey, fetch(sourceKey), null);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public String startMultipart(String key, String contentType) throws IOException {
+        resolve(key);
+        String uploadId = UUID.randomUUID().toString();
+        Files.createDirectories(partsDirectory(uploadId));
+        return uploadId;
+    }
+
+    @Override
+    public void putPart(String key, String uploadId, int partNumber, Path source) throws IOException {
+        Path directory = partsDirectory(uploadId);
+        if (!Files.isDirectory(directory)) {
+            throw new NoSuchFileException(key + " (upload " + uploadId + ")");
+        }
+        Path staging = directory.resolve(".put-" + UUID.randomUUID());
+        try {
+            Files.copy(source, staging);
+            Files.move(staging, directory.resolve(String.format("%05d", partNumber)),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    @Override
+    public void completeMultipart(String key, String uploadId) throws IOException {
+        Path directory = partsDirectory(uploadId);
+        if (!Files.isDirectory(directory)) {
+            throw new NoSuchFileException(key + " (upload " + uploadId + ")");
+        }
+        List<Path> parts = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                path -> !path.getFileName().toString().startsWith("."))) {
+            files.forEach(parts::add);
+        }
+        // Zero-padded part numbers sort in part order
+        parts.sort(null);
+
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path staging = target.resolveSibling(".put-" + UUID.randomUUID());
+        try {
+            try (OutputStream out = Files.newOutputStream(staging, StandardOpenOption.CREATE_NEW)) {
+                for (Path part : parts) {
+                    Files.copy(part, out);
+                }
+            }
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+        deleteDirectory(directory);
+    }
+
+    @Override
+    public void abortMultipart(String key, String uploadId) throws IOException {
+        Path directory = partsDirectory(uploadId);
+        if (Files.isDirectory(directory)) {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Override
+    public List<String> list(String prefix, String startAfter, int limit) throws IOException {
+        List<String> keys = new ArrayList<>();
+        for (String first : shardDirectories(root)) {
+            for (String second : shardDirectories(root.resolve(first))) {
+                String shard = first + "/" + second + "/";
+                if (!couldMatch(shard, prefix) || (startAfter != null && shard.compareTo(startAfter) < 0
+                        && !startAfter.startsWith(shard))) {
+                    continue;
+                }
+                List<String> names = new ArrayList<>();
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(root.resolve(first).resolve(second),
+                        path -> Files.isRegularFile(path) && !path.getFileName().toString().startsWith("."))) {
+                    files.forEach(file -> names.add(shard + file.getFileName()));
+                }
+                names.sort(null);
+                for (String key : names) {
+                    if (key.startsWith(prefix) && (startAfter == null || key.compareTo(startAfter) > 0)) {
+                        keys.add(key);
+                        if (keys.size() >= limit) {
+                            return keys;
+                        }
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return path;
+    }
+
+    private Path partsDirectory(String uploadId) {
+        // Upload ids are our own UUIDs; anything else must not become a path
+        return root.resolve(MULTIPART_DIRECTORY).resolve(UUID.fromString(uploadId).toString());
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private static boolean couldMatch(String shard, String prefix) {
+        return shard.startsWith(prefix) || prefix.startsWith(shard);
+    }
+
+    /**
+     * Two-character subdirectories, sorted; anything else under the root (temp files, the old
+     * flat layout) is not part of the store
+     */
+    private static List<String> shardDirectories(Path directory) throws IOException {
+        List<String> names = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return names;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory,
+                path -> Files.isDirectory(path) && path.getFileName().toString().length() == 2
+                        && !path.getFileName().toString().startsWith("."))) {
+            entries.forEach(entry -> names.add(entry.getFileName().toString()));
+        }
+        names.sort(null);
+        return names;
+    }
+}
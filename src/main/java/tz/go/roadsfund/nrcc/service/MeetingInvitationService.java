@@ -0,0 +1,148 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import tz.go.roadsfund.nrcc.entity.Meeting;
+import tz.go.roadsfund.nrcc.entity.Notification;
+import tz.go.roadsfund.nrcc.entity.User;
+import tz.go.roadsfund.nrcc.enums.NotificationChannel;
+import tz.go.roadsfund.nrcc.enums.NotificationStatus;
+import tz.go.roadsfund.nrcc.enums.UserRole;
+import tz.go.roadsfund.nrcc.event.MeetingScheduledEvent;
+import tz.go.roadsfund.nrcc.event.NotificationQueuedEvent;
+import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
+import tz.go.roadsfund.nrcc.repository.MeetingRepository;
+import tz.go.roadsfund.nrcc.repository.NotificationRepository;
+import tz.go.roadsfund.nrcc.repository.UserRepository;
+import tz.go.roadsfund.nrcc.util.MessageTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Emails meeting invitations to the NRCC members and the meeting's attendees.
+ * Invitations are rendered from precompiled templates and written to the notifications
+ * outbox, so the dispatcher delivers them with the same retries and failure tracking as
+ * any other notification and scheduling a meeting never waits on mail.
+ */
+@Service
+@Slf4j
+public class MeetingInvitationService {
+
+    private static final List<UserRole> MEMBER_ROLES =
+            List.of(UserRole.NRCC_CHAIRPERSON, UserRole.NRCC_MEMBER, UserRole.NRCC_SECRETARIAT);
+
+    private static final MessageTemplate SUBJECT =
+            MessageTemplate.compile("NRCC Meeting Invitation - {meetingNumber}: {title}");
+
+    private static final MessageTemplate BODY = MessageTemplate.compile(
+            "Dear {name},\n\n" +
+            "You are invited to the NRCC meeting \"{title}\" (Reference: {meetingNumber}).\n\n" +
+            "Date: {date}\n" +
+            "Time: {time}\n" +
+            "Venue: {venue}\n\n" +
+            "Agenda:\n{agenda}\n\n" +
+            "Please log in to the NRCC portal to view the applications to be discussed.\n\n" +
+            "Best regards,\n" +
+            "NRCC Secretariat\n" +
+            "Roads Fund Board");
+
+    static final String NOTIFICATION_TYPE = "MEETING_INVITATION";
+
+    private final MeetingRepository meetingRepository;
+    private final UserRepository userRepository;
+    private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public MeetingInvitationService(MeetingRepository meetingRepository, UserRepository userRepository,
+                                    NotificationRepository notificationRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager) {
+        this.meetingRepository = meetingRepository;
+        this.userRepository = userRepository;
+        this.notificationRepository = notificationRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeetingScheduled(MeetingScheduledEvent event) {
+        queueInvitations(event.meetingId());
+    }
+
+    /**
+     * Render the invitations for a meeting and queue them for delivery
+     *
+     * @return number of invitations queued
+     */
+    public int queueInvitations(Long meetingId) {
+        Integer queued = transactionTemplate.execute(status -> {
+            List<Notification> invitations = notificationRepository.saveAll(buildInvitations(meetingId));
+            // Delivered once the transaction commits; the dispatcher's poll picks up anything missed
+            invitations.forEach(invitation -> eventPublisher.publishEvent(
+                    new NotificationQueuedEvent(invitation.getId(), invitation.getChannel())));
+            return invitations.size();
+        });
+        log.info("Meeting {} invitations: {} queued", meetingId, queued);
+        return queued != null ? queued : 0;
+    }
+
+    private List<Notification> buildInvitations(Long meetingId) {
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Meeting", "id", meetingId));
+
+        // One invitation per address, whether the recipient is a member, an attendee or both
+        Map<String, User> recipients = new LinkedHashMap<>();
+        for (UserRole role : MEMBER_ROLES) {
+            userRepository.findByRoleAndStatus(role, "ACTIVE").forEach(user -> addRecipient(recipients, user));
+        }
+        addRecipient(recipients, meeting.getChairperson());
+        addRecipient(recipients, meeting.getSecretary());
+        meeting.getAttendees().forEach(user -> addRecipient(recipients, user));
+
+        Map<String, String> values = new HashMap<>();
+        values.put("meetingNumber", String.valueOf(meeting.getMeetingNumber()));
+        values.put("title", String.valueOf(meeting.getTitle()));
+        values.put("date", String.valueOf(meeting.getMeetingDate()));
+        values.put("time", meeting.getStartTime() != null
+                ? meeting.getStartTime() + (meeting.getEndTime() != null ? " - " + meeting.getEndTime() : "")
+                : "To be confirmed");
+        values.put("venue", meeting.getVenue() != null ? meeting.getVenue() : "To be confirmed");
+        values.put("agenda", meeting.getAgenda() != null ? meeting.getAgenda() : "To be circulated");
+        String subject = SUBJECT.render(values);
+        // Long meeting titles would not fit the outbox's subject column
+        if (subject.length() > 255) {
+            subject = subject.substring(0, 255);
+        }
+
+        List<Notification> invitations = new ArrayList<>(recipients.size());
+        for (User user : recipients.values()) {
+            values.put("name", String.valueOf(user.getName()));
+            invitations.add(Notification.builder()
+                    .recipient(user)
+                    .channel(NotificationChannel.EMAIL)
+                    .type(NOTIFICATION_TYPE)
+                    .title(values.get("title"))
+                    .subject(subject)
+                    .message(BODY.render(values))
+                    .status(NotificationStatus.PENDING)
+                    .build());
+        }
+        return invitations;
+    }
+
+    private static void addRecipient(Map<String, User> recipients, User user) {
+        if (user != null && user.getEmail() != null && !user.getEmail().isBlank()) {
+            recipients.putIfAbsent(user.getEmail().toLowerCase(Locale.ROOT), user);
+        }
+    }
+}
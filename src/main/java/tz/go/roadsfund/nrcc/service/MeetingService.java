@@ -2,18 +2,23 @@ package tz.go.roadsfund.nrcc.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tz.go.roadsfund.nrcc.dto.request.AddAttachmentRequest;
 import tz.go.roadsfund.nrcc.dto.request.CreateMeetingRequest;
 import tz.go.roadsfund.nrcc.dto.request.UpdateMeetingRequest;
+import tz.go.roadsfund.nrcc.dto.response.AttachmentResponse;
 import tz.go.roadsfund.nrcc.dto.response.MeetingDetailResponse;
 import tz.go.roadsfund.nrcc.dto.response.MeetingResponse;
 import tz.go.roadsfund.nrcc.entity.Application;
 import tz.go.roadsfund.nrcc.entity.Meeting;
 import tz.go.roadsfund.nrcc.entity.User;
+import tz.go.roadsfund.nrcc.enums.AttachmentOwnerType;
 import tz.go.roadsfund.nrcc.enums.MeetingStatus;
+import tz.go.roadsfund.nrcc.event.MeetingScheduledEvent;
 import tz.go.roadsfund.nrcc.exception.BadRequestException;
 import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
 import tz.go.roadsfund.nrcc.repository.ApplicationRepository;
@@ -35,6 +40,9 @@ public class MeetingService {
     private final MeetingRepository meetingRepository;
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
+    private final NumberSequenceService numberSequenceService;
+    private final AttachmentService attachmentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MeetingDetailResponse createMeeting(CreateMeetingRequest request) {
         Meeting meeting = Meeting.builder()
@@ -67,6 +75,7 @@ public class MeetingService {
         }
 
         meeting = meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingScheduledEvent(meeting.getId()));
         log.info("Meeting created: {}", meeting.getMeetingNumber());
 
         return mapToDetailResponse(meeting);
@@ -225,18 +234,41 @@ public class MeetingService {
         if (meeting.getStatus() == MeetingStatus.COMPLETED) {
             throw new BadRequestException("Completed meetings cannot be deleted");
         }
+        attachmentService.detachAll(AttachmentOwnerType.MEETING, List.of(meeting.getId()));
         meetingRepository.delete(meeting);
         log.info("Meeting deleted: {}", meeting.getMeetingNumber());
     }
 
+    /**
+     * Attach an uploaded file (agenda, minutes, presentations) to a meeting
+     */
+    public AttachmentResponse addAttachment(Long meetingId, AddAttachmentRequest request) {
+        Meeting meeting = getMeetingById(meetingId);
+        return attachmentService.attach(AttachmentOwnerType.MEETING, meeting.getId(), request.getFileName());
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getAttachments(Long meetingId) {
+        Meeting meeting = getMeetingById(meetingId);
+        return attachmentService.getAttachments(AttachmentOwnerType.MEETING, meeting.getId());
+    }
+
+    public void removeAttachment(Long meetingId, Long attachmentId) {
+        Meeting meeting = getMeetingById(meetingId);
+        attachmentService.detach(AttachmentOwnerType.MEETING, meeting.getId(), attachmentId);
+    }
+
     private Meeting getMeetingById(Long id) {
         return meetingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Meeting not found with id: " + id));
     }
 
     private String generateMeetingNumber() {
-        long count = meetingRepository.count() + 1;
-        return String.format("NRCC-MTG-%d-%04d", Year.now().getValue(), count);
+        int year = Year.now().getValue();
+        String prefix = String.format("NRCC-MTG-%d-", year);
+        long sequence = numberSequenceService.next("MEETING", year,
+                () -> meetingRepository.findMaxNumberSuffix(prefix));
+        return String.format("%s%04d", prefix, sequence);
     }
 
     private MeetingResponse mapToResponse(Meeting meeting) {
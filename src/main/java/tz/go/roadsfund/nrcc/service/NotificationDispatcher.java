@@ -0,0 +1,354 @@
+package tz.go.roadsfund.nrcc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import tz.go.roadsfund.nrcc.entity.Notification;
+import tz.go.roadsfund.nrcc.enums.NotificationChannel;
+import tz.go.roadsfund.nrcc.enums.NotificationStatus;
+import tz.go.roadsfund.nrcc.event.NotificationQueuedEvent;
+import tz.go.roadsfund.nrcc.exception.UndeliverableMessageException;
+import tz.go.roadsfund.nrcc.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers notifications queued in the notifications outbox.
+ * Pending rows are claimed in batches under a lease and handed to a bounded executor;
+ * each channel is limited to a fixed number of concurrent sends. Failed deliveries are
+ * retried with exponential backoff until the attempt limit, then marked FAILED; rejected
+ * addresses fail at once. Outcomes are only recorded while the claim's lease is held.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+
+    private final NotificationRepository notificationRepository;
+    private final EmailService emailService;
+    private final SmsService smsService;
+    private final ThreadPoolTaskExecutor notificationExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.dispatch.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notification.dispatch.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.dispatch.backoff-base-ms:30000}")
+    private long backoffBaseMs;
+
+    @Value("${notification.dispatch.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    @Value("${notification.dispatch.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${notification.dispatch.email-concurrency:2}")
+    private int emailConcurrency;
+
+    @Value("${notification.dispatch.sms-concurrency:2}")
+    private int smsConcurrency;
+
+    private Semaphore emailPermits;
+    private Semaphore smsPermits;
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        emailPermits = new Semaphore(emailConcurrency);
+        smsPermits = new Semaphore(smsConcurrency);
+
+        Gauge.builder("nrcc.notifications.pending", pendingCount, AtomicLong::get)
+                .description("Notifications waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("nrcc.notifications.executor.queue", notificationExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("Deliveries waiting for a dispatch thread")
+                .register(meterRegistry);
+        Gauge.builder("nrcc.notifications.executor.active", notificationExecutor,
+                        ThreadPoolTaskExecutor::getActiveCount)
+                .description("Dispatch threads currently busy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Wake the dispatcher once the transaction that queued a notification has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationQueued(NotificationQueuedEvent event) {
+        pendingCount.incrementAndGet();
+        requestDrain();
+    }
+
+    /**
+     * Picks up retries whose backoff has elapsed, expired leases and anything queued
+     * while the executor was saturated or the application was down
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch.poll-interval-ms:10000}")
+    public void poll() {
+        pendingCount.set(notificationRepository.countByStatus(NotificationStatus.PENDING));
+        if (pendingCount.get() > 0) {
+            requestDrain();
+        }
+    }
+
+    // ==================== DRAINING ====================
+
+    /**
+     * Single-flight: requests arriving while a drain runs are folded into another pass
+     */
+    private void requestDrain() {
+        drainRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            notificationExecutor.execute(this::drainLoop);
+        } catch (TaskRejectedException e) {
+            // Executor saturated; the next poll retries
+            draining.set(false);
+        }
+    }
+
+    private void drainLoop() {
+        try {
+            while (drainRequested.getAndSet(false)) {
+                drain();
+            }
+        } catch (Exception e) {
+            log.error("Notification dispatch pass failed", e);
+        } finally {
+            draining.set(false);
+        }
+        // A request may have landed between the loop exiting and the flag being cleared
+        if (drainRequested.get()) {
+            requestDrain();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            // Never claim more than the executor can queue, so claimed rows are not stranded
+            int capacity = Math.min(batchSize,
+                    notificationExecutor.getThreadPoolExecutor().getQueue().remainingCapacity());
+            if (capacity <= 0) {
+                return;
+            }
+
+            List<DispatchJob> jobs = claimBatch(capacity);
+            for (DispatchJob job : jobs) {
+                try {
+                    notificationExecutor.execute(() -> deliver(job));
+                } catch (TaskRejectedException e) {
+                    release(job);
+                }
+            }
+
+            if (jobs.size() < capacity) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Lock due rows, push their next attempt past the lease so other instances skip them,
+     * and copy out everything delivery needs so no session is held while sending.
+     * The lease is truncated to the column's microsecond precision so it can be matched exactly.
+     */
+    private List<DispatchJob> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusNanos(leaseMs * 1_000_000).truncatedTo(ChronoUnit.MICROS);
+        List<DispatchJob> jobs = transactionTemplate.execute(status -> {
+            List<Long> ids = notificationRepository.lockDueIds(now, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            notificationRepository.leaseUntil(ids, leaseUntil);
+            return notificationRepository.findForDispatch(ids).stream()
+                    .map(notification -> DispatchJob.from(notification, leaseUntil))
+                    .toList();
+        });
+        return jobs != null ? jobs : List.of();
+    }
+
+    private void release(DispatchJob job) {
+        transactionTemplate.executeWithoutResult(status ->
+                notificationRepository.markRetry(job.id(), job.attempts(), job.leaseUntil(),
+                        job.attempts(), LocalDateTime.now(), null));
+    }
+
+    // ==================== DELIVERY ====================
+
+    private void deliver(DispatchJob job) {
+        // Waited in the queue past its lease; another instance may already be sending it
+        if (!LocalDateTime.now().isBefore(job.leaseUntil())) {
+            log.warn("Notification {} lease expired before delivery, leaving it for the next claim", job.id());
+            pendingCount.updateAndGet(count -> Math.max(0, count - 1));
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int attempts = job.attempts() + 1;
+        try {
+            String undeliverable = send(job);
+            if (undeliverable == null) {
+                Integer updated = transactionTemplate.execute(status -> notificationRepository.markSent(
+                        job.id(), job.attempts(), job.leaseUntil(), attempts, LocalDateTime.now()));
+                if (updated == null || updated == 0) {
+                    log.warn("Notification {} was sent after its lease expired", job.id());
+                }
+                recordOutcome(job, "sent");
+            } else {
+                fail(job, attempts, undeliverable);
+            }
+        } catch (UndeliverableMessageException e) {
+            fail(job, attempts, e.getMessage());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (attempts >= maxAttempts) {
+                fail(job, attempts, error);
+            } else {
+                LocalDateTime nextAttempt = LocalDateTime.now().plusNanos(backoffMillis(attempts) * 1_000_000);
+                transactionTemplate.executeWithoutResult(status -> notificationRepository.markRetry(
+                        job.id(), job.attempts(), job.leaseUntil(), attempts, nextAttempt, error));
+                recordOutcome(job, "retried");
+                log.warn("Notification {} delivery attempt {} failed, retrying at {}: {}",
+                        job.id(), attempts, nextAttempt, error);
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("nrcc.notifications.delivery", "channel", job.channel().name()));
+            pendingCount.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    /**
+     * Send over the notification's channel(s).
+     * Returns null when delivered, otherwise the reason it can never be delivered.
+     * A retried ALL notification may repeat the email if only the SMS failed.
+     */
+    private String send(DispatchJob job) throws InterruptedException {
+        switch (job.channel()) {
+            case EMAIL:
+                sendEmail(job);
+                return null;
+            case SMS:
+                if (job.phoneNumber() == null) {
+                    return "Recipient has no phone number";
+                }
+                sendSms(job);
+                return null;
+            case ALL:
+                sendEmail(job);
+                if (job.phoneNumber() != null) {
+                    sendSms(job);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private void sendEmail(DispatchJob job) throws InterruptedException {
+        emailPermits.acquire();
+        try {
+            if (job.prerendered()) {
+                emailService.sendEmail(job.email(), job.subject(), job.message());
+            } else {
+                emailService.sendApplicationStatusNotification(
+                        job.email(), job.recipientName(), job.applicationNumber(), job.applicationStatus());
+            }
+        } finally {
+            emailPermits.release();
+        }
+    }
+
+    private void sendSms(DispatchJob job) throws InterruptedException {
+        smsPermits.acquire();
+        try {
+            smsService.sendApplicationStatusNotification(
+                    job.phoneNumber(), job.applicationNumber(), job.applicationStatus());
+        } finally {
+            smsPermits.release();
+        }
+    }
+
+    private void fail(DispatchJob job, int attempts, String error) {
+        transactionTemplate.executeWithoutResult(status -> notificationRepository.markFailed(
+                job.id(), job.attempts(), job.leaseUntil(), attempts, error));
+        recordOutcome(job, "failed");
+        log.error("Notification {} failed after {} attempt(s): {}", job.id(), attempts, error);
+    }
+
+    /**
+     * Exponential backoff with up to 20% jitter so retries of a failed batch spread out
+     */
+    private long backoffMillis(int attempts) {
+        long delay = backoffBaseMs << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, backoffMaxMs);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private void recordOutcome(DispatchJob job, String outcome) {
+        Counter.builder("nrcc.notifications.dispatched")
+                .tag("channel", job.channel().name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Detached copy of a claimed notification.
+     * Notifications not tied to an application (e.g. meeting invitations) are queued with
+     * their subject and message already rendered and are emailed as-is.
+     */
+    private record DispatchJob(Long id, NotificationChannel channel, int attempts, LocalDateTime leaseUntil,
+                               String email, String recipientName, String phoneNumber,
+                               String applicationNumber, String applicationStatus,
+                               boolean prerendered, String subject, String message) {
+
+        static DispatchJob from(Notification notification, LocalDateTime leaseUntil) {
+            String status = notification.getApplicationStatus() != null
+                    ? notification.getApplicationStatus().name()
+                    : notification.getApplication() != null ? notification.getApplication().getStatus().name() : null;
+            return new DispatchJob(
+                    notification.getId(),
+                    notification.getChannel(),
+                    notification.getAttempts() != null ? notification.getAttempts() : 0,
+                    leaseUntil,
+                    notification.getRecipient().getEmail(),
+                    notification.getRecipient().getName(),
+                    notification.getRecipient().getPhoneNumber(),
+                    notification.getApplication() != null ? notification.getApplication().getApplicationNumber() : null,
+                    status,
+                    notification.getApplication() == null,
+                    notification.getSubject(),
+                    notification.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package tz.go.roadsfund.nrcc.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tz.go.roadsfund.nrcc.entity.Application;
@@ -9,12 +10,16 @@ import tz.go.roadsfund.nrcc.entity.Notification;
 import tz.go.roadsfund.nrcc.entity.User;
 import tz.go.roadsfund.nrcc.enums.NotificationChannel;
 import tz.go.roadsfund.nrcc.enums.NotificationStatus;
+import tz.go.roadsfund.nrcc.event.NotificationQueuedEvent;
 import tz.go.roadsfund.nrcc.repository.NotificationRepository;
 
 import java.time.LocalDateTime;
 
 /**
- * Service for managing notifications
+ * Service for managing notifications.
+ * Notifications are written to the notifications table as an outbox within the caller's
+ * transaction; delivery over email and SMS is done by {@link NotificationDispatcher}
+ * once the transaction commits.
  */
 @Service
 @RequiredArgsConstructor
@@ -23,8 +28,7 @@ import java.time.LocalDateTime;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final EmailService emailService;
-    private final SmsService smsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Send notification to the application's applicant via all channels
@@ -45,75 +49,30 @@ public class NotificationService {
     public void sendApplicationStatusNotification(Application application, User recipient,
                                                   NotificationChannel channel, String message) {
         try {
-            // Create notification record
             Notification notification = Notification.builder()
                     .application(application)
                     .recipient(recipient)
                     .channel(channel)
                     .subject("Application Status Update")
                     .message(message)
+                    .applicationStatus(application.getStatus())
                     .status(NotificationStatus.PENDING)
                     .build();
 
-            notificationRepository.save(notification);
-
-            // Send notification based on channel
-            boolean sent = false;
-            switch (channel) {
-                case EMAIL:
-                    emailService.sendApplicationStatusNotification(
-                            recipient.getEmail(),
-                            recipient.getName(),
-                            application.getApplicationNumber(),
-                            application.getStatus().name()
-                    );
-                    sent = true;
-                    break;
-                case SMS:
-                    if (recipient.getPhoneNumber() != null) {
-                        smsService.sendApplicationStatusNotification(
-                                recipient.getPhoneNumber(),
-                                application.getApplicationNumber(),
-                                application.getStatus().name()
-                        );
-                        sent = true;
-                    }
-                    break;
-                case ALL:
-                    emailService.sendApplicationStatusNotification(
-                            recipient.getEmail(),
-                            recipient.getName(),
-                            application.getApplicationNumber(),
-                            application.getStatus().name()
-                    );
-                    if (recipient.getPhoneNumber() != null) {
-                        smsService.sendApplicationStatusNotification(
-                                recipient.getPhoneNumber(),
-                                application.getApplicationNumber(),
-                                application.getStatus().name()
-                        );
-                    }
-                    sent = true;
-                    break;
-                case PORTAL:
-                    // Portal notification is just the database record
-                    sent = true;
-                    break;
-            }
-
-            // Update notification status
-            if (sent) {
+            // Portal notification is just the database record
+            if (channel == NotificationChannel.PORTAL) {
                 notification.setStatus(NotificationStatus.SENT);
                 notification.setSentAt(LocalDateTime.now());
-            } else {
-                notification.setStatus(NotificationStatus.FAILED);
-                notification.setErrorMessage("Failed to send notification");
             }
 
             notificationRepository.save(notification);
 
+            if (notification.getStatus() == NotificationStatus.PENDING) {
+                eventPublisher.publishEvent(new NotificationQueuedEvent(notification.getId(), channel));
+            }
+
         } catch (Exception e) {
-            log.error("Failed to send notification for application: {}", application.getApplicationNumber(), e);
+            log.error("Failed to queue notification for application: {}", application.getApplicationNumber(), e);
         }
     }
 }
@@ -0,0 +1,94 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tz.go.roadsfund.nrcc.entity.NumberSequence;
+import tz.go.roadsfund.nrcc.repository.NumberSequenceRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Hi/lo allocator for per-year reference numbers.
+ * Each instance reserves a block of values by advancing the sequence's row in a short
+ * transaction of its own, then hands them out from memory. Values are unique across
+ * instances; a block left unused at shutdown leaves a gap in the numbering.
+ */
+@Service
+@Slf4j
+public class NumberSequenceService {
+
+    private final NumberSequenceRepository numberSequenceRepository;
+    private final TransactionTemplate requiresNew;
+
+    @Value("${sequence.block-size:20}")
+    private int blockSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public NumberSequenceService(NumberSequenceRepository numberSequenceRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.numberSequenceRepository = numberSequenceRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Next value of a sequence for the given year; each year starts its own sequence.
+     *
+     * @param highestUsed highest value already taken for the year (or null), consulted only
+     *                    when the year's sequence row is first created
+     */
+    public long next(String sequence, int year, Supplier<Long> highestUsed) {
+        String name = sequence + ":" + year;
+        Block block = blocks.computeIfAbsent(name, key -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                long start = reserve(name, highestUsed);
+                block.next = start;
+                block.limit = start + blockSize;
+                // Drop blocks of earlier years for this sequence
+                blocks.keySet().removeIf(key -> key.startsWith(sequence + ":") && !key.equals(name));
+            }
+            return block.next++;
+        }
+    }
+
+    private long reserve(String name, Supplier<Long> highestUsed) {
+        try {
+            return requiresNew.execute(status -> allocate(name, highestUsed));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the year's row first; lock and advance it instead
+            return requiresNew.execute(status -> allocate(name, highestUsed));
+        }
+    }
+
+    private long allocate(String name, Supplier<Long> highestUsed) {
+        NumberSequence sequence = numberSequenceRepository.findForUpdate(name).orElse(null);
+        if (sequence == null) {
+            Long highest = highestUsed.get();
+            long start = (highest != null ? highest : 0L) + 1;
+            numberSequenceRepository.saveAndFlush(NumberSequence.builder()
+                    .name(name)
+                    .nextValue(start + blockSize)
+                    .build());
+            log.info("Started number sequence {} at {}", name, start);
+            return start;
+        }
+
+        long start = sequence.getNextValue();
+        sequence.setNextValue(start + blockSize);
+        return start;
+    }
+
+    private static final class Block {
+        private long next;
+        private long limit;
+    }
+}
@@ -17,7 +17,6 @@ import tz.go.roadsfund.nrcc.repository.DistrictRepository;
 import tz.go.roadsfund.nrcc.repository.OrganizationRepository;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for organization management operations
@@ -30,6 +29,7 @@ public class OrganizationService {
 
     private final OrganizationRepository organizationRepository;
     private final DistrictRepository districtRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     public OrganizationResponse createOrganization(CreateOrganizationRequest request) {
         // Check if code already exists
@@ -70,9 +70,11 @@ public class OrganizationService {
 
     @Transactional(readOnly = true)
     public OrganizationResponse getOrganizationById(Long id) {
-        Organization organization = organizationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Organization", "id", id));
-        return mapToResponse(organization);
+        OrganizationResponse organization = referenceDataCache.getOrganization(id);
+        if (organization == null) {
+            throw new ResourceNotFoundException("Organization", "id", id);
+        }
+        return organization;
     }
 
     @Transactional(readOnly = true)
@@ -84,15 +86,13 @@ public class OrganizationService {
 
     @Transactional(readOnly = true)
     public List<OrganizationResponse> getAllOrganizations() {
-        return organizationRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return referenceDataCache.getOrganizations();
     }
 
     @Transactional(readOnly = true)
     public Page<OrganizationResponse> getOrganizationsPaginated(Pageable pageable) {
         return organizationRepository.findAll(pageable)
-                .map(this::mapToResponse);
+                .map(OrganizationService::mapToResponse);
     }
 
     public OrganizationResponse updateOrganization(Long id, UpdateOrganizationRequest request) {
@@ -176,7 +176,7 @@ public class OrganizationService {
     }
 
     // Mapping method
-    private OrganizationResponse mapToResponse(Organization organization) {
+    static OrganizationResponse mapToResponse(Organization organization) {
         String districtName = organization.getDistrict() != null ? organization.getDistrict().getName() : null;
         String regionName = organization.getDistrict() != null && organization.getDistrict().getRegion() != null ?
                 organization.getDistrict().getRegion().getName() : null;
@@ -0,0 +1,284 @@
+package tz.go.roadsfund.nrcc.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import tz.go.roadsfund.nrcc.dto.response.DistrictResponse;
+import tz.go.roadsfund.nrcc.dto.response.OrganizationResponse;
+import tz.go.roadsfund.nrcc.dto.response.ReferenceDataResponse;
+import tz.go.roadsfund.nrcc.dto.response.RegionResponse;
+import tz.go.roadsfund.nrcc.entity.District;
+import tz.go.roadsfund.nrcc.entity.Organization;
+import tz.go.roadsfund.nrcc.entity.Region;
+import tz.go.roadsfund.nrcc.event.SearchableEntityChangedEvent;
+import tz.go.roadsfund.nrcc.repository.DistrictRepository;
+import tz.go.roadsfund.nrcc.repository.OrganizationRepository;
+import tz.go.roadsfund.nrcc.repository.RegionRepository;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of regions, districts and organizations.
+ * The whole data set is loaded on first use into an immutable snapshot together with an ETag
+ * derived from its content. Saving or deleting any of the three entities bumps the version
+ * after commit; the next read reloads. A load that overlaps an invalidation is not published.
+ * Changes made on other nodes or directly in the database are caught by a periodic check of
+ * the tables' row counts and last update times, so a stale snapshot lives at most one interval.
+ */
+@Service
+@Slf4j
+public class ReferenceDataCache {
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private final RegionRepository regionRepository;
+    private final DistrictRepository districtRepository;
+    private final OrganizationRepository organizationRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataCache(RegionRepository regionRepository, DistrictRepository districtRepository,
+                              OrganizationRepository organizationRepository, ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.regionRepository = regionRepository;
+        this.districtRepository = districtRepository;
+        this.organizationRepository = organizationRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Current ETag of the reference data. Read it before the data itself: if the data changes
+     * in between, the client holds an older tag and simply gets the new data on revalidation.
+     */
+    public String getETag() {
+        return current().etag();
+    }
+
+    public List<RegionResponse> getRegions(boolean activeOnly) {
+        Snapshot current = current();
+        return activeOnly ? current.activeRegions() : current.regions();
+    }
+
+    public RegionResponse getRegion(Long id) {
+        return current().regionsById().get(id);
+    }
+
+    public List<DistrictResponse> getDistricts(boolean activeOnly) {
+        Snapshot current = current();
+        return activeOnly ? current.activeDistricts() : current.districts();
+    }
+
+    public List<DistrictResponse> getDistrictsByRegion(Long regionId) {
+        return current().districtsByRegion().getOrDefault(regionId, List.of());
+    }
+
+    public DistrictResponse getDistrict(Long id) {
+        return current().districtsById().get(id);
+    }
+
+    public List<OrganizationResponse> getOrganizations() {
+        return current().organizations();
+    }
+
+    public OrganizationResponse getOrganization(Long id) {
+        return current().organizationsById().get(id);
+    }
+
+    public ReferenceDataResponse getTree() {
+        return current().tree();
+    }
+
+    /**
+     * Drop the cached snapshot; the next read loads the data again
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        snapshot = null;
+        log.debug("Reference data cache invalidated");
+    }
+
+    /**
+     * Drop the snapshot if the tables no longer match what it was loaded from
+     */
+    @Scheduled(initialDelayString = "${reference-data.cache.check-interval-ms:30000}",
+            fixedDelayString = "${reference-data.cache.check-interval-ms:30000}")
+    public void checkForChanges() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        String fingerprint = readOnlyTransaction.execute(status -> regionRepository.findReferenceDataFingerprint());
+        if (!Objects.equals(fingerprint, current.fingerprint()) && snapshot == current) {
+            log.debug("Reference data changed in the database");
+            invalidate();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(SearchableEntityChangedEvent event) {
+        Object entity = event.entity();
+        if (entity instanceof Region || entity instanceof District || entity instanceof Organization) {
+            invalidate();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : load();
+    }
+
+    /**
+     * Single-flight load: callers queued behind a load reuse its result
+     */
+    private synchronized Snapshot load() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        long loadedVersion = version.get();
+        Snapshot loaded = readOnlyTransaction.execute(status -> {
+            // Read first: a change committed during the load shows up at the next check
+            String fingerprint = regionRepository.findReferenceDataFingerprint();
+            List<Organization> organizations = organizationRepository.findAllWithDistrict();
+            Map<Long, Long> organizationDistricts = new LinkedHashMap<>();
+            organizations.stream()
+                    .filter(organization -> organization.getDistrict() != null)
+                    .forEach(organization -> organizationDistricts.put(
+                            organization.getId(), organization.getDistrict().getId()));
+
+            return build(fingerprint,
+                    regionRepository.findAll().stream().map(RegionService::mapToResponse).toList(),
+                    districtRepository.findAllWithRegion().stream().map(DistrictService::mapToResponse).toList(),
+                    organizations.stream().map(OrganizationService::mapToResponse).toList(),
+                    organizationDistricts);
+        });
+
+        if (version.get() == loadedVersion) {
+            snapshot = loaded;
+        }
+        log.debug("Reference data loaded: {} regions, {} districts, {} organizations",
+                loaded.regions().size(), loaded.districts().size(), loaded.organizations().size());
+        return loaded;
+    }
+
+    private Snapshot build(String fingerprint, List<RegionResponse> regions, List<DistrictResponse> districts,
+                           List<OrganizationResponse> organizations,
+                           Map<Long, Long> organizationDistricts) {
+        regions = sortedByName(regions, RegionResponse::getName);
+        districts = sortedByName(districts, DistrictResponse::getName);
+        organizations = sortedByName(organizations, OrganizationResponse::getName);
+
+        List<RegionResponse> activeRegions = regions.stream().filter(r -> ACTIVE.equals(r.getStatus())).toList();
+        List<DistrictResponse> activeDistricts = districts.stream().filter(d -> ACTIVE.equals(d.getStatus())).toList();
+
+        Map<Long, List<DistrictResponse>> districtsByRegion = districts.stream()
+                .collect(Collectors.groupingBy(DistrictResponse::getRegionId, LinkedHashMap::new, Collectors.toList()));
+
+        return new Snapshot(
+                fingerprint,
+                etag(regions, districts, organizations),
+                regions, activeRegions, index(regions, RegionResponse::getId),
+                districts, activeDistricts, index(districts, DistrictResponse::getId), districtsByRegion,
+                organizations, index(organizations, OrganizationResponse::getId),
+                tree(activeRegions, activeDistricts, organizations, organizationDistricts));
+    }
+
+    private ReferenceDataResponse tree(List<RegionResponse> regions, List<DistrictResponse> districts,
+                                       List<OrganizationResponse> organizations, Map<Long, Long> organizationDistricts) {
+        Map<Long, List<OrganizationResponse>> organizationsByDistrict = new LinkedHashMap<>();
+        List<OrganizationResponse> unassigned = new ArrayList<>();
+        for (OrganizationResponse organization : organizations) {
+            if (!ACTIVE.equals(organization.getStatus())) {
+                continue;
+            }
+            Long districtId = organizationDistricts.get(organization.getId());
+            if (districtId == null) {
+                unassigned.add(organization);
+            } else {
+                organizationsByDistrict.computeIfAbsent(districtId, k -> new ArrayList<>()).add(organization);
+            }
+        }
+
+        Map<Long, List<ReferenceDataResponse.DistrictNode>> districtNodes = new LinkedHashMap<>();
+        for (DistrictResponse district : districts) {
+            districtNodes.computeIfAbsent(district.getRegionId(), k -> new ArrayList<>())
+                    .add(ReferenceDataResponse.DistrictNode.builder()
+                            .id(district.getId())
+                            .code(district.getCode())
+                            .name(district.getName())
+                            .organizations(organizationsByDistrict.getOrDefault(district.getId(), List.of()))
+                            .build());
+        }
+
+        List<ReferenceDataResponse.RegionNode> regionNodes = regions.stream()
+                .map(region -> ReferenceDataResponse.RegionNode.builder()
+                        .id(region.getId())
+                        .code(region.getCode())
+                        .name(region.getName())
+                        .districts(districtNodes.getOrDefault(region.getId(), List.of()))
+                        .build())
+                .toList();
+
+        return ReferenceDataResponse.builder()
+                .regions(regionNodes)
+                .unassignedOrganizations(unassigned)
+                .build();
+    }
+
+    private String etag(Object... content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(content));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not compute reference data ETag", e);
+        }
+    }
+
+    private static <T> List<T> sortedByName(List<T> items, Function<T, String> name) {
+        return items.stream()
+                .sorted(Comparator.comparing(name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+    }
+
+    private static <T> Map<Long, T> index(List<T> items, Function<T, Long> id) {
+        return items.stream().collect(Collectors.toUnmodifiableMap(id, Function.identity()));
+    }
+
+    private record Snapshot(
+            String fingerprint,
+            String etag,
+            List<RegionResponse> regions,
+            List<RegionResponse> activeRegions,
+            Map<Long, RegionResponse> regionsById,
+            List<DistrictResponse> districts,
+            List<DistrictResponse> activeDistricts,
+            Map<Long, DistrictResponse> districtsById,
+            Map<Long, List<DistrictResponse>> districtsByRegion,
+            List<OrganizationResponse> organizations,
+            Map<Long, OrganizationResponse> organizationsById,
+            ReferenceDataResponse tree) {
+    }
+}
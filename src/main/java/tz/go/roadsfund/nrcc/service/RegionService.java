@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
 public class RegionService {
 
     private final RegionRepository regionRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     // ==================== CREATE ====================
 
@@ -58,9 +59,11 @@ public class RegionService {
 
     @Transactional(readOnly = true)
     public RegionResponse getRegionById(Long id) {
-        Region region = regionRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Region", "id", id));
-        return mapToResponse(region);
+        RegionResponse region = referenceDataCache.getRegion(id);
+        if (region == null) {
+            throw new ResourceNotFoundException("Region", "id", id);
+        }
+        return region;
     }
 
     @Transactional(readOnly = true)
@@ -79,35 +82,31 @@ public class RegionService {
 
     @Transactional(readOnly = true)
     public List<RegionResponse> getAllRegions() {
-        return regionRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return referenceDataCache.getRegions(false);
     }
 
     @Transactional(readOnly = true)
     public List<RegionResponse> getActiveRegions() {
-        return regionRepository.findByStatus("ACTIVE").stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return referenceDataCache.getRegions(true);
     }
 
     @Transactional(readOnly = true)
     public Page<RegionResponse> getRegionsPaginated(Pageable pageable) {
         return regionRepository.findAll(pageable)
-                .map(this::mapToResponse);
+                .map(RegionService::mapToResponse);
     }
 
     @Transactional(readOnly = true)
     public List<RegionResponse> searchRegionsByName(String name) {
         return regionRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(this::mapToResponse)
+                .map(RegionService::mapToResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public Page<RegionResponse> searchRegionsByName(String name, Pageable pageable) {
         return regionRepository.findByNameContainingIgnoreCase(name, pageable)
-                .map(this::mapToResponse);
+                .map(RegionService::mapToResponse);
     }
 
     // ==================== UPDATE ====================
@@ -195,7 +194,7 @@ public class RegionService {
 
     // ==================== MAPPING ====================
 
-    private RegionResponse mapToResponse(Region region) {
+    static RegionResponse mapToResponse(Region region) {
         return RegionResponse.builder()
                 .id(region.getId())
                 .code(region.getCode())
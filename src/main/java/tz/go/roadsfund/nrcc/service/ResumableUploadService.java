@@ -0,0 +1,454 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tz.go.roadsfund.nrcc.dto.request.CreateUploadSessionRequest;
+import tz.go.roadsfund.nrcc.dto.response.UploadSessionResponse;
+import tz.go.roadsfund.nrcc.entity.UploadSession;
+import tz.go.roadsfund.nrcc.exception.BadRequestException;
+import tz.go.roadsfund.nrcc.exception.FileStorageException;
+import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
+import tz.go.roadsfund.nrcc.exception.UnauthorizedException;
+import tz.go.roadsfund.nrcc.repository.UploadSessionRepository;
+import tz.go.roadsfund.nrcc.util.ResumableSha256;
+import tz.go.roadsfund.nrcc.util.SecurityUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Resumable uploads: initiate, send chunks at the current offset, complete.
+ * Each chunk is streamed from the request body through a small direct buffer into a scratch
+ * file, verified against its Upload-Checksum when the client sent one, and stored as the next
+ * part of a blob store multipart upload; a dropped or corrupt chunk is simply sent again from
+ * the same offset. Chunks smaller than a part are held under a pending key and sent on with
+ * the following chunks. The hash of the whole file is updated as each chunk streams through
+ * and saved with the progress and the per-upload lease in the upload_sessions row, so any
+ * node can take any chunk. Completing joins the parts and has the blob store copy the result
+ * into the content store; the file is not read again.
+ */
+@Service
+@Slf4j
+public class ResumableUploadService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileStorageService fileStorageService;
+    private final BlobStore blobStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file.resumable.max-size:2147483648}")
+    private long maxSize;
+
+    @Value("${file.resumable.max-chunk-size:16777216}")
+    private long maxChunkSize;
+
+    @Value("${file.resumable.expiry-hours:24}")
+    private long expiryHours;
+
+    @Value("${file.resumable.lease-seconds:300}")
+    private long leaseSeconds;
+
+    public ResumableUploadService(UploadSessionRepository uploadSessionRepository,
+                                  FileStorageService fileStorageService,
+                                  BlobStore blobStore,
+                                  PlatformTransactionManager transactionManager) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.fileStorageService = fileStorageService;
+        this.blobStore = blobStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public UploadSessionResponse createUpload(CreateUploadSessionRequest request) {
+        String fileName = fileStorageService.checkFileName(request.getFileName());
+        if (request.getSize() > maxSize) {
+            throw new BadRequestException("File is larger than the maximum of " + maxSize + " bytes");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        String storeUploadId;
+        try {
+            storeUploadId = blobStore.startMultipart(stagingKey(uploadId), request.getContentType());
+        } catch (IOException | RuntimeException e) {
+            throw new FileStorageException("Could not start upload " + fileName, e);
+        }
+
+        UploadSession session = UploadSession.builder()
+                .id(uploadId)
+                .userId(currentUserId())
+                .fileName(fileName)
+                .contentType(request.getContentType())
+                .totalSize(request.getSize())
+                .receivedBytes(0L)
+                .storeUploadId(storeUploadId)
+                .partCount(0)
+                .bufferedBytes(0L)
+                .sha256(request.getSha256() != null ? request.getSha256().toLowerCase(Locale.ROOT) : null)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusHours(expiryHours))
+                .build();
+        uploadSessionRepository.save(session);
+
+        log.info("Resumable upload {} started: {} ({} bytes)", session.getId(), fileName, session.getTotalSize());
+        return mapToResponse(session, null);
+    }
+
+    public UploadSessionResponse getUpload(String uploadId) {
+        return mapToResponse(getOwnSession(uploadId), null);
+    }
+
+    /**
+     * Append a chunk starting at offset, which must equal the bytes received so far
+     *
+     * @param checksum Upload-Checksum header ("sha256 &lt;base64 digest&gt;"), or null
+     */
+    public UploadSessionResponse writeChunk(String uploadId, long offset, String checksum, InputStream body) {
+        UploadSession session = getOwnSession(uploadId);
+        if (offset != session.getReceivedBytes()) {
+            throw new BadRequestException("Chunk offset " + offset + " does not match upload offset "
+                    + session.getReceivedBytes());
+        }
+        byte[] expectedDigest = parseChecksum(checksum);
+        String token = claim(uploadId, offset, "Another chunk of this upload is being received, "
+                + "or the offset has moved; check the offset");
+
+        boolean advanced = false;
+        Path chunk = fileStorageService.tempPath("chunk-" + UUID.randomUUID());
+        Path part = chunk;
+        String newPendingKey = null;
+        try {
+            // Read again under the lease, in case a chunk was counted since the lookup above
+            session = getOwnSession(uploadId);
+            long limit = Math.min(maxChunkSize, session.getTotalSize() - offset);
+            ResumableSha256 fileDigest = resumeDigest(session);
+
+            MessageDigest digest = sha256();
+            long written;
+            try (FileChannel channel = FileChannel.open(chunk, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 ReadableByteChannel in = Channels.newChannel(body)) {
+                written = copy(in, channel, limit, digest, fileDigest);
+            }
+
+            if (expectedDigest != null && !MessageDigest.isEqual(expectedDigest, digest.digest())) {
+                throw new BadRequestException("Chunk checksum does not match; resend from offset " + offset);
+            }
+            if (written == 0) {
+                throw new BadRequestException("Chunk is empty");
+            }
+            long received = offset + written;
+
+            // Bytes held back from earlier small chunks go in front of this one
+            long previouslyBuffered = session.getBufferedBytes();
+            if (previouslyBuffered > 0) {
+                part = fileStorageService.tempPath("part-" + UUID.randomUUID());
+                join(blobStore.fetch(pendingKey(uploadId, offset)), chunk, part);
+            }
+            boolean fullPart = previouslyBuffered + written >= BlobStore.MIN_PART_SIZE
+                    || received == session.getTotalSize();
+            int partCount = fullPart ? session.getPartCount() + 1 : session.getPartCount();
+            long buffered = fullPart ? 0 : previouslyBuffered + written;
+            if (fullPart) {
+                blobStore.putPart(stagingKey(uploadId), session.getStoreUploadId(), partCount, part);
+            } else {
+                newPendingKey = pendingKey(uploadId, received);
+                blobStore.put(newPendingKey, part, null);
+            }
+
+            byte[] digestState = fileDigest.state();
+            LocalDateTime expiresAt = LocalDateTime.now().plusHours(expiryHours);
+            Integer updated = transactionTemplate.execute(status -> uploadSessionRepository.advance(uploadId,
+                    offset, received, partCount, buffered, digestState, token, expiresAt));
+            if (updated == null || updated == 0) {
+                throw new BadRequestException("Upload changed while the chunk was received; check the offset");
+            }
+            advanced = true;
+            if (previouslyBuffered > 0) {
+                deleteKeyQuietly(pendingKey(uploadId, offset));
+            }
+
+            session.setReceivedBytes(received);
+            session.setPartCount(partCount);
+            session.setBufferedBytes(buffered);
+            session.setDigestState(digestState);
+            session.setExpiresAt(expiresAt);
+            return mapToResponse(session, null);
+        } catch (IOException e) {
+            throw new FileStorageException("Could not write chunk of upload " + uploadId, e);
+        } finally {
+            deleteQuietly(chunk);
+            if (part != chunk) {
+                deleteQuietly(part);
+            }
+            if (!advanced) {
+                if (newPendingKey != null) {
+                    deleteKeyQuietly(newPendingKey);
+                }
+                release(uploadId, token);
+            }
+        }
+    }
+
+    /**
+     * Join the chunks, verify the file is whole and copy it into the file store
+     */
+    public UploadSessionResponse completeUpload(String uploadId) {
+        UploadSession session = getOwnSession(uploadId);
+        if (session.getReceivedBytes() < session.getTotalSize()) {
+            throw new BadRequestException("Upload is incomplete: " + session.getReceivedBytes() + " of "
+                    + session.getTotalSize() + " bytes received");
+        }
+        String token = claim(uploadId, session.getTotalSize(), "This upload is already being completed");
+
+        boolean completed = false;
+        String key = stagingKey(uploadId);
+        try {
+            String hash = HexFormat.of().formatHex(resumeDigest(session).digest());
+            if (session.getSha256() != null && !session.getSha256().equals(hash)) {
+                throw new BadRequestException("File checksum does not match; cancel the upload and start again");
+            }
+
+            // A retry after a failure further down finds the parts already joined
+            if (!blobStore.exists(key)) {
+                blobStore.completeMultipart(key, session.getStoreUploadId());
+            }
+            long stored = blobStore.size(key);
+            if (stored != session.getTotalSize()) {
+                throw new BadRequestException("Upload is damaged: " + stored + " of "
+                        + session.getTotalSize() + " bytes stored; cancel it and start again");
+            }
+
+            String storedFileName = fileStorageService.storeStagedContent(key, hash, stored,
+                    session.getFileName(), session.getContentType());
+            transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.deleteById(uploadId));
+            completed = true;
+            deleteStaged(session);
+
+            log.info("Resumable upload {} completed as {}", uploadId, storedFileName);
+            return mapToResponse(session, storedFileName);
+        } catch (IOException e) {
+            throw new FileStorageException("Could not complete upload " + uploadId, e);
+        } finally {
+            if (!completed) {
+                release(uploadId, token);
+            }
+        }
+    }
+
+    public void cancelUpload(String uploadId) {
+        if (!discard(getOwnSession(uploadId))) {
+            throw new BadRequestException("A chunk of this upload is still being received");
+        }
+    }
+
+    /**
+     * Drop uploads that have not received a chunk within the expiry period
+     */
+    @Scheduled(fixedDelayString = "${file.resumable.cleanup-interval-ms:3600000}")
+    public void removeExpiredUploads() {
+        int removed = 0;
+        for (UploadSession session : uploadSessionRepository.findTop100ByExpiresAtBefore(LocalDateTime.now())) {
+            if (discard(session)) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("Removed {} expired uploads", removed);
+        }
+    }
+
+    private long copy(ReadableByteChannel in, FileChannel out, long limit, MessageDigest digest,
+                      ResumableSha256 fileDigest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long written = 0;
+        while (in.read(buffer) >= 0) {
+            buffer.flip();
+            if (written + buffer.remaining() > limit) {
+                throw new BadRequestException("Chunk is larger than " + limit + " bytes");
+            }
+            digest.update(buffer.duplicate());
+            fileDigest.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                written += out.write(buffer);
+            }
+            buffer.clear();
+        }
+        return written;
+    }
+
+    private static void join(Path first, Path second, Path target) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW)) {
+            Files.copy(first, out);
+            Files.copy(second, out);
+        }
+    }
+
+    /**
+     * Hash state over the bytes received so far
+     */
+    private static ResumableSha256 resumeDigest(UploadSession session) {
+        if (session.getDigestState() != null) {
+            return ResumableSha256.restore(session.getDigestState());
+        }
+        if (session.getReceivedBytes() > 0) {
+            // Started before the hash was kept with the session
+            throw new BadRequestException("This upload can no longer be resumed; cancel it and start again");
+        }
+        return new ResumableSha256();
+    }
+
+    /**
+     * Take the session's lease for the chunk starting at offset
+     *
+     * @return the lease token, to advance or release it
+     */
+    private String claim(String uploadId, long offset, String busyMessage) {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                uploadSessionRepository.claim(uploadId, offset, token, now, now.plusSeconds(leaseSeconds)));
+        if (claimed == null || claimed == 0) {
+            throw new BadRequestException(busyMessage);
+        }
+        return token;
+    }
+
+    private void release(String uploadId, String token) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.release(uploadId, token));
+        } catch (RuntimeException e) {
+            // The lease runs out by itself
+            log.warn("Could not release the lease on upload {}: {}", uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the session and its stored parts, unless a node holds its lease
+     */
+    private boolean discard(UploadSession session) {
+        Integer deleted = transactionTemplate.execute(status ->
+                uploadSessionRepository.deleteUnleased(session.getId(), LocalDateTime.now()));
+        if (deleted == null || deleted == 0) {
+            return false;
+        }
+        deleteStaged(session);
+        return true;
+    }
+
+    private void deleteStaged(UploadSession session) {
+        String key = stagingKey(session.getId());
+        try {
+            blobStore.abortMultipart(key, session.getStoreUploadId());
+            blobStore.delete(key);
+            if (session.getBufferedBytes() > 0) {
+                blobStore.delete(pendingKey(session.getId(), session.getReceivedBytes()));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not delete the stored parts of upload {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private void deleteKeyQuietly(String key) {
+        try {
+            blobStore.delete(key);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not delete {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", file);
+        }
+    }
+
+    private UploadSession getOwnSession(String uploadId) {
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new ResourceNotFoundException("Upload", "id", uploadId));
+        if (!session.getUserId().equals(currentUserId())) {
+            throw new UnauthorizedException("Upload belongs to another user");
+        }
+        return session;
+    }
+
+    /**
+     * Blob key the chunks are joined under; outside the content key space, so the file
+     * garbage collector never sees it
+     */
+    private static String stagingKey(String uploadId) {
+        return "uploads/" + uploadId;
+    }
+
+    /**
+     * Blob key holding the bytes received after the last part, up to offset. Each new amount
+     * gets a new key, since content under a key never changes.
+     */
+    private static String pendingKey(String uploadId, long offset) {
+        return stagingKey(uploadId) + ".pending-" + offset;
+    }
+
+    private static byte[] parseChecksum(String checksum) {
+        if (checksum == null || checksum.isBlank()) {
+            return null;
+        }
+        String[] parts = checksum.trim().split("\\s+", 2);
+        if (parts.length != 2 || !parts[0].equalsIgnoreCase("sha256")) {
+            throw new BadRequestException("Upload-Checksum must be 'sha256 <base64 digest>'");
+        }
+        try {
+            return Base64.getDecoder().decode(parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Upload-Checksum digest is not valid base64");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Long currentUserId() {
+        Long userId = SecurityUtil.getCurrentUserId();
+        if (userId == null) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+        return userId;
+    }
+
+    private UploadSessionResponse mapToResponse(UploadSession session, String storedFileName) {
+        return UploadSessionResponse.builder()
+                .uploadId(session.getId())
+                .fileName(session.getFileName())
+                .size(session.getTotalSize())
+                .offset(session.getReceivedBytes())
+                .minChunkSize(1)
+                .maxChunkSize(maxChunkSize)
+                .expiresAt(session.getExpiresAt())
+                .storedFileName(storedFileName)
+                .build();
+    }
+}
@@ -0,0 +1,347 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import tz.go.roadsfund.nrcc.dto.response.RoadImportResponse;
+import tz.go.roadsfund.nrcc.enums.RoadClass;
+import tz.go.roadsfund.nrcc.event.RoadsImportedEvent;
+import tz.go.roadsfund.nrcc.exception.BadRequestException;
+import tz.go.roadsfund.nrcc.util.SpreadsheetReader;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk import of road registers (CSV or XLSX).
+ * The file is parsed as a stream, road numbers are de-duplicated against an in-memory set
+ * of existing numbers, and valid rows are written with batched JDBC inserts. Invalid rows
+ * are skipped and reported; the import as a whole runs in one transaction.
+ */
+@Service
+@Slf4j
+public class RoadImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO roads (id, name, road_number, length, current_class, start_point, end_point, region, " +
+            "district, surface_type, carriageway_width, formation_width, road_reserve_width, description, " +
+            "status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Ids are drawn from the same pooled sequence as the Road entity: with an increment of n,
+     * each value v reserves v-n+1..v (V5__Pooled_Id_Sequences.sql sets n to 50; a database
+     * without it still increments by 1 and every value is a single id). As in Hibernate's
+     * pooled optimizer, the first value of a fresh sequence (its start value, 1) reserves
+     * only itself and the block it opens is completed by the next value.
+     */
+    private static final String ID_BLOCKS_SQL = "SELECT nextval('roads_id_seq') FROM generate_series(1, ?)";
+    private static final String ID_INCREMENT_SQL = "SELECT increment_by FROM pg_sequences " +
+            "WHERE schemaname = current_schema() AND sequencename = 'roads_id_seq'";
+    private static final long SEQUENCE_START = 1;
+
+    /**
+     * Accepted header spellings, normalised to lower case letters and digits only
+     */
+    private static final Map<String, Column> HEADER_ALIASES = new HashMap<>();
+
+    static {
+        alias(Column.NAME, "name", "roadname");
+        alias(Column.ROAD_NUMBER, "roadnumber", "roadno", "roadid", "roadcode");
+        alias(Column.LENGTH, "length", "lengthkm", "roadlength");
+        alias(Column.CURRENT_CLASS, "class", "currentclass", "roadclass");
+        alias(Column.START_POINT, "startpoint", "start", "from");
+        alias(Column.END_POINT, "endpoint", "end", "to");
+        alias(Column.REGION, "region");
+        alias(Column.DISTRICT, "district");
+        alias(Column.SURFACE_TYPE, "surfacetype", "surface");
+        alias(Column.CARRIAGEWAY_WIDTH, "carriagewaywidth");
+        alias(Column.FORMATION_WIDTH, "formationwidth");
+        alias(Column.ROAD_RESERVE_WIDTH, "roadreservewidth", "reservewidth");
+        alias(Column.DESCRIPTION, "description", "remarks");
+        alias(Column.STATUS, "status");
+    }
+
+    private enum Column {
+        NAME, ROAD_NUMBER, LENGTH, CURRENT_CLASS, START_POINT, END_POINT, REGION, DISTRICT,
+        SURFACE_TYPE, CARRIAGEWAY_WIDTH, FORMATION_WIDTH, ROAD_RESERVE_WIDTH, DESCRIPTION, STATUS
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${road-import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${road-import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public RoadImportService(DataSource dataSource, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public RoadImportResponse importRoads(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Import file is empty");
+        }
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+
+        ImportRun run = new ImportRun(loadExistingRoadNumbers());
+        try {
+            if (filename.endsWith(".xlsx")) {
+                readXlsx(file, run);
+            } else if (filename.endsWith(".csv")) {
+                try (InputStream in = file.getInputStream()) {
+                    SpreadsheetReader.readCsv(in, run::onRow);
+                }
+            } else {
+                throw new BadRequestException("Unsupported file type. Upload a .csv or .xlsx file");
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read import file: " + e.getMessage());
+        }
+        run.flush();
+
+        RoadImportResponse response = run.toResponse();
+        if (response.getImportedCount() > 0) {
+            eventPublisher.publishEvent(new RoadsImportedEvent(response.getImportedCount()));
+        }
+        log.info("Road import {}: {} imported, {} failed of {} rows in {} ms", file.getOriginalFilename(),
+                response.getImportedCount(), response.getFailedCount(), response.getTotalRows(),
+                response.getDurationMs());
+        return response;
+    }
+
+    /**
+     * XLSX is a zip archive that POI can only read in place from a file; from a stream it
+     * would inflate the whole workbook into memory, so the upload is spooled to a
+     * temporary file first.
+     */
+    private static void readXlsx(MultipartFile file, ImportRun run) throws IOException {
+        Path spooled = Files.createTempFile("road-import-", ".xlsx");
+        try {
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            }
+            SpreadsheetReader.readXlsx(spooled, run::onRow);
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    private Set<String> loadExistingRoadNumbers() {
+        Set<String> numbers = new HashSet<>();
+        jdbcTemplate.query("SELECT road_number FROM roads WHERE road_number IS NOT NULL",
+                (RowCallbackHandler) rs -> numbers.add(normaliseRoadNumber(rs.getString(1))));
+        return numbers;
+    }
+
+    private static void alias(Column column, String... names) {
+        for (String name : names) {
+            HEADER_ALIASES.put(name, column);
+        }
+    }
+
+    private static String normaliseRoadNumber(String roadNumber) {
+        return roadNumber.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * State of a single import: header mapping, seen road numbers, the pending batch and errors
+     */
+    private final class ImportRun {
+
+        private final long startedAt = System.currentTimeMillis();
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        private final Set<String> roadNumbers;
+        private final List<Object[]> batch = new ArrayList<>(batchSize);
+        private final List<RoadImportResponse.RowError> errors = new ArrayList<>();
+
+        private int[] columnIndex;
+        private long idBlockSize;
+        private int totalRows;
+        private int imported;
+        private int failed;
+
+        private ImportRun(Set<String> roadNumbers) {
+            this.roadNumbers = roadNumbers;
+        }
+
+        void onRow(int rowNumber, List<String> cells) {
+            if (columnIndex == null) {
+                readHeader(cells);
+                return;
+            }
+            if (cells.stream().allMatch(String::isBlank)) {
+                return;
+            }
+            totalRows++;
+
+            String roadNumber = value(cells, Column.ROAD_NUMBER);
+            try {
+                Object[] row = toRow(cells, roadNumber);
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    flush();
+                }
+            } catch (IllegalArgumentException e) {
+                reject(rowNumber, roadNumber, e.getMessage());
+            }
+        }
+
+        private void readHeader(List<String> cells) {
+            columnIndex = new int[Column.values().length];
+            Arrays.fill(columnIndex, -1);
+            for (int i = 0; i < cells.size(); i++) {
+                String key = cells.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+                Column column = HEADER_ALIASES.get(key);
+                if (column != null && columnIndex[column.ordinal()] < 0) {
+                    columnIndex[column.ordinal()] = i;
+                }
+            }
+            if (columnIndex[Column.NAME.ordinal()] < 0 || columnIndex[Column.CURRENT_CLASS.ordinal()] < 0) {
+                throw new BadRequestException("Import file must have 'Name' and 'Current Class' columns");
+            }
+        }
+
+        private Object[] toRow(List<String> cells, String roadNumber) {
+            String name = value(cells, Column.NAME);
+            if (name == null) {
+                throw new IllegalArgumentException("Name is required");
+            }
+
+            RoadClass roadClass = parseClass(value(cells, Column.CURRENT_CLASS));
+
+            if (roadNumber != null && !roadNumbers.add(normaliseRoadNumber(roadNumber))) {
+                throw new IllegalArgumentException("Road number already exists");
+            }
+
+            String status = value(cells, Column.STATUS);
+            return new Object[]{
+                    null,
+                    name,
+                    roadNumber,
+                    decimal(cells, Column.LENGTH),
+                    roadClass.name(),
+                    value(cells, Column.START_POINT),
+                    value(cells, Column.END_POINT),
+                    value(cells, Column.REGION),
+                    value(cells, Column.DISTRICT),
+                    value(cells, Column.SURFACE_TYPE),
+                    decimal(cells, Column.CARRIAGEWAY_WIDTH),
+                    decimal(cells, Column.FORMATION_WIDTH),
+                    decimal(cells, Column.ROAD_RESERVE_WIDTH),
+                    value(cells, Column.DESCRIPTION),
+                    status != null ? status.toUpperCase(Locale.ROOT) : "ACTIVE",
+                    now,
+                    now
+            };
+        }
+
+        private RoadClass parseClass(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Current class is required");
+            }
+            String normalised = value.trim().toUpperCase(Locale.ROOT);
+            for (RoadClass roadClass : RoadClass.values()) {
+                if (roadClass.name().equals(normalised) || roadClass.getDisplayName().equalsIgnoreCase(value.trim())) {
+                    return roadClass;
+                }
+            }
+            throw new IllegalArgumentException("Unknown road class '" + value + "'");
+        }
+
+        private String value(List<String> cells, Column column) {
+            int index = columnIndex[column.ordinal()];
+            if (index < 0 || index >= cells.size()) {
+                return null;
+            }
+            String value = cells.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private BigDecimal decimal(List<String> cells, Column column) {
+            String value = value(cells, column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return new BigDecimal(value.replace(",", ""));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number '" + value + "' for " +
+                        column.name().toLowerCase(Locale.ROOT).replace('_', ' '));
+            }
+        }
+
+        private void reject(int rowNumber, String roadNumber, String reason) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(RoadImportResponse.RowError.builder()
+                        .row(rowNumber)
+                        .roadNumber(roadNumber)
+                        .reason(reason)
+                        .build());
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            assignIds();
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            imported += batch.size();
+            batch.clear();
+        }
+
+        private void assignIds() {
+            if (idBlockSize == 0) {
+                Long increment = jdbcTemplate.queryForObject(ID_INCREMENT_SQL, Long.class);
+                idBlockSize = increment != null && increment > 0 ? increment : 1;
+            }
+            int row = 0;
+            while (row < batch.size()) {
+                long blocks = (batch.size() - row + idBlockSize - 1) / idBlockSize;
+                List<Long> highs = jdbcTemplate.queryForList(ID_BLOCKS_SQL, Long.class, blocks);
+                for (Long high : highs) {
+                    long low = Math.max(high - idBlockSize + 1, SEQUENCE_START);
+                    for (long id = low; id <= high && row < batch.size(); id++) {
+                        batch.get(row++)[0] = id;
+                    }
+                }
+            }
+        }
+
+        RoadImportResponse toResponse() {
+            return RoadImportResponse.builder()
+                    .totalRows(totalRows)
+                    .importedCount(imported)
+                    .failedCount(failed)
+                    .durationMs(System.currentTimeMillis() - startedAt)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+}
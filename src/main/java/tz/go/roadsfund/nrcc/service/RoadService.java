@@ -8,11 +8,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tz.go.roadsfund.nrcc.dto.request.CreateRoadRequest;
 import tz.go.roadsfund.nrcc.dto.request.UpdateRoadRequest;
+import tz.go.roadsfund.nrcc.dto.response.CursorPage;
 import tz.go.roadsfund.nrcc.dto.response.RoadResponse;
 import tz.go.roadsfund.nrcc.entity.Road;
 import tz.go.roadsfund.nrcc.exception.BadRequestException;
 import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
 import tz.go.roadsfund.nrcc.repository.RoadRepository;
+import tz.go.roadsfund.nrcc.util.PageCursor;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -84,6 +86,16 @@ public class RoadService {
                 .map(this::mapToResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<RoadResponse> getRoadsAfter(String after, int size, boolean includeTotal) {
+        PageCursor cursor = PageCursor.decodeId(after);
+        List<Road> rows = roadRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor != null ? cursor.id() : 0L, PageCursor.limit(size));
+
+        return CursorPage.of(rows, size, road -> PageCursor.encode(road.getId()), this::mapToResponse,
+                includeTotal ? roadRepository.count() : null);
+    }
+
     @Transactional(readOnly = true)
     public List<RoadResponse> getRoadsByRegion(String region) {
         return roadRepository.findByRegion(region).stream()
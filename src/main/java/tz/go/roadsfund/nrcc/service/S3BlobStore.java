@@ -0,0 +1,353 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.springframework.http.ContentDisposition;
+import org.springframework.scheduling.annotation.Scheduled;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Blob store on S3 or an S3-compatible service, shared by every API node.
+ * Large files are uploaded in parts streamed from disk, and multipart uploads map directly
+ * onto S3 multipart uploads, so their parts can come from any node. Reads go through a local disk cache
+ * (content never changes, so cached copies are always valid), trimmed to its size limit
+ * least recently used first. A fetched path is handed to callers that open it later (Tomcat
+ * sendfile opens it only after the request returns), so files used within the grace period
+ * are never evicted; once open, a file can be unlinked without disturbing its reader.
+ * Downloads can bypass the app servers with presigned URLs.
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore, AutoCloseable {
+
+    // Largest object a single CopyObject request copies; larger ones are copied in ranges
+    private static final long MAX_COPY_SIZE = 5L * 1024 * 1024 * 1024;
+    private static final long COPY_PART_SIZE = 1024L * 1024 * 1024;
+
+    private final S3Client s3;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final long partSize;
+    private final Duration presignTtl;
+    private final boolean presignDownloads;
+    private final Path cacheDir;
+    private final long cacheMaxBytes;
+    private final Duration cacheGracePeriod;
+
+    public S3BlobStore(S3Client s3, S3Presigner presigner, String bucket, long partSize, boolean presignDownloads,
+                       Duration presignTtl, Path cacheDir, long cacheMaxBytes, Duration cacheGracePeriod)
+            throws IOException {
+        this.s3 = s3;
+        this.presigner = presigner;
+        this.bucket = bucket;
+        this.partSize = partSize;
+        this.presignDownloads = presignDownloads;
+        this.presignTtl = presignTtl;
+        this.cacheDir = cacheDir;
+        this.cacheMaxBytes = cacheMaxBytes;
+        this.cacheGracePeriod = cacheGracePeriod;
+        Files.createDirectories(cacheDir);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3.headObject(request -> request.bucket(bucket).key(key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+        if (size <= partSize) {
+            s3.putObject(request -> request.bucket(bucket).key(key).contentType(contentType),
+                    RequestBody.fromFile(source));
+            return;
+        }
+
+        String uploadId = s3.createMultipartUpload(request -> request.bucket(bucket).key(key).contentType(contentType))
+                .uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            for (long offset = 0; offset < size; offset += partSize) {
+                int partNumber = parts.size() + 1;
+                long length = Math.min(partSize, size - offset);
+                long partOffset = offset;
+                // The provider reopens the file region on each attempt, so retries never buffer the part
+                RequestBody body = RequestBody.fromContentProvider(() -> openRange(source, partOffset, length),
+                        length, contentType != null ? contentType : "application/octet-stream");
+                String etag = s3.uploadPart(request -> request.bucket(bucket).key(key).uploadId(uploadId)
+                        .partNumber(partNumber).contentLength(length), body).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+            }
+            s3.completeMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(parts)));
+        } catch (RuntimeException e) {
+            s3.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+            throw e;
+        }
+    }
+
+    @Override
+    public Path fetch(String key) throws IOException {
+        Path cached = cacheDir.resolve(key).normalize();
+        if (!cached.startsWith(cacheDir)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        if (Files.isRegularFile(cached)) {
+            try {
+                // Modification time doubles as last access for eviction
+                Files.setLastModifiedTime(cached, FileTime.fromMillis(System.currentTimeMillis()));
+                return cached;
+            } catch (NoSuchFileException e) {
+                // Evicted just now; download it again
+            }
+        }
+
+        Files.createDirectories(cached.getParent());
+        Path download = cached.resolveSibling(".get-" + UUID.randomUUID());
+        try {
+            s3.getObject(request -> request.bucket(bucket).key(key), ResponseTransformer.toFile(download));
+            Files.move(download, cached, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } finally {
+            Files.deleteIfExists(download);
+        }
+        return cached;
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        try {
+            return s3.headObject(request -> request.bucket(bucket).key(key)).contentLength();
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new NoSuchFileException(key);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Copied by S3 itself; objects over the single-request limit are copied in ranges as a
+     * multipart upload
+     */
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        long size = size(sourceKey);
+        if (size <= MAX_COPY_SIZE) {
+            s3.copyObject(request -> request.sourceBucket(bucket).sourceKey(sourceKey)
+                    .destinationBucket(bucket).destinationKey(targetKey));
+            return;
+        }
+
+        String uploadId = s3.createMultipartUpload(request -> request.bucket(bucket).key(targetKey)).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            for (long offset = 0; offset < size; offset += COPY_PART_SIZE) {
+                int partNumber = parts.size() + 1;
+                String range = "bytes=" + offset + "-" + (Math.min(offset + COPY_PART_SIZE, size) - 1);
+                String etag = s3.uploadPartCopy(request -> request.sourceBucket(bucket).sourceKey(sourceKey)
+                                .destinationBucket(bucket).destinationKey(targetKey).uploadId(uploadId)
+                                .partNumber(partNumber).copySourceRange(range))
+                        .copyPartResult().eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+            }
+            s3.completeMultipartUpload(request -> request.bucket(bucket).key(targetKey).uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(parts)));
+        } catch (RuntimeException e) {
+            s3.abortMultipartUpload(request -> request.bucket(bucket).key(targetKey).uploadId(uploadId));
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        s3.deleteObject(request -> request.bucket(bucket).key(key));
+        Files.deleteIfExists(cacheDir.resolve(key).normalize());
+    }
+
+    @Override
+    public String startMultipart(String key, String contentType) {
+        return s3.createMultipartUpload(request -> request.bucket(bucket).key(key).contentType(contentType))
+                .uploadId();
+    }
+
+    @Override
+    public void putPart(String key, String uploadId, int partNumber, Path source) {
+        s3.uploadPart(request -> request.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber),
+                RequestBody.fromFile(source));
+    }
+
+    /**
+     * The part list comes from S3 itself, so callers need not keep the part ETags
+     */
+    @Override
+    public void completeMultipart(String key, String uploadId) throws IOException {
+        List<CompletedPart> parts = new ArrayList<>();
+        try {
+            for (Part part : s3.listPartsPaginator(request -> request.bucket(bucket).key(key).uploadId(uploadId))
+                    .parts()) {
+                parts.add(CompletedPart.builder().partNumber(part.partNumber()).eTag(part.eTag()).build());
+            }
+            s3.completeMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(parts)));
+        } catch (NoSuchUploadException e) {
+            throw new NoSuchFileException(key + " (upload " + uploadId + ")");
+        }
+    }
+
+    @Override
+    public void abortMultipart(String key, String uploadId) {
+        try {
+            s3.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+        } catch (NoSuchUploadException e) {
+            // Already completed or aborted
+        }
+    }
+
+    @Override
+    public List<String> list(String prefix, String startAfter, int limit) {
+        return s3.listObjectsV2(request -> {
+                    request.bucket(bucket).prefix(prefix).maxKeys(limit);
+                    if (startAfter != null) {
+                        request.startAfter(startAfter);
+                    }
+                })
+                .contents().stream()
+                .map(S3Object::key)
+                .toList();
+    }
+
+    @Override
+    public Optional<URI> presignedDownloadUrl(String key, String downloadName, String contentType) {
+        if (!presignDownloads) {
+            return Optional.empty();
+        }
+        String disposition = ContentDisposition.attachment()
+                .filename(downloadName, StandardCharsets.UTF_8)
+                .build()
+                .toString();
+        try {
+            return Optional.of(presigner.presignGetObject(request -> request
+                            .signatureDuration(presignTtl)
+                            .getObjectRequest(get -> get.bucket(bucket).key(key)
+                                    .responseContentDisposition(disposition)
+                                    .responseContentType(contentType)))
+                    .url().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Presigned URL is not a valid URI", e);
+        }
+    }
+
+    /**
+     * Trim the read cache to its size limit, least recently fetched first. Files fetched within
+     * the grace period may not have been opened yet and are kept even over the limit, as are
+     * downloads still being written.
+     */
+    @Scheduled(fixedDelayString = "${file.store.s3.cache-evict-interval-ms:60000}")
+    public void evictCache() {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(cacheDir)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        } catch (IOException e) {
+            log.warn("Could not scan blob cache {}: {}", cacheDir, e.getMessage());
+            return;
+        }
+
+        List<CachedFile> cached = new ArrayList<>();
+        long total = 0;
+        for (Path file : files) {
+            try {
+                long size = Files.size(file);
+                cached.add(new CachedFile(file, size, Files.getLastModifiedTime(file).toMillis()));
+                total += size;
+            } catch (IOException e) {
+                // Deleted meanwhile
+            }
+        }
+        if (total <= cacheMaxBytes) {
+            return;
+        }
+
+        long target = cacheMaxBytes * 9 / 10;
+        long graceStart = System.currentTimeMillis() - cacheGracePeriod.toMillis();
+        cached.sort(Comparator.comparingLong(CachedFile::lastUsed));
+        int evicted = 0;
+        for (CachedFile file : cached) {
+            if (total <= target) {
+                break;
+            }
+            if (file.lastUsed() >= graceStart) {
+                log.warn("Blob cache holds {} bytes, over its limit of {}, in files used within the last {}",
+                        total, cacheMaxBytes, cacheGracePeriod);
+                break;
+            }
+            try {
+                Files.deleteIfExists(file.path());
+                total -= file.size();
+                evicted++;
+            } catch (IOException e) {
+                log.debug("Could not evict {}: {}", file.path(), e.getMessage());
+            }
+        }
+        log.info("Evicted {} files from the blob cache", evicted);
+    }
+
+    @Override
+    public void close() {
+        presigner.close();
+        s3.close();
+    }
+
+    private static InputStream openRange(Path source, long offset, long length) {
+        try {
+            InputStream in = Files.newInputStream(source);
+            in.skipNBytes(offset);
+            return new BoundedInputStream(in, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record CachedFile(Path path, long size, long lastUsed) {
+    }
+}
@@ -0,0 +1,121 @@
+package tz.go.roadsfund.nrcc.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small pool of authenticated SMTP transports kept open between sends.
+ * Connection settings come from the Spring Boot mail configuration, so pointing
+ * spring.mail.host/port at a local SMTP stub is enough to exercise it.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final Semaphore permits;
+    private final BlockingQueue<PooledTransport> idle;
+
+    @Value("${mail.pool.max-idle-ms:60000}")
+    private long maxIdleMs;
+
+    @Value("${mail.pool.borrow-timeout-ms:30000}")
+    private long borrowTimeoutMs;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             @Value("${mail.pool.size:3}") int size) {
+        this.mailSender = mailSender;
+        this.permits = new Semaphore(size);
+        this.idle = new LinkedBlockingQueue<>(size);
+    }
+
+    public Session getSession() {
+        return mailSender.getSession();
+    }
+
+    /**
+     * Borrow a connected transport, reusing an idle one when it is still alive
+     */
+    public Transport borrow() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for an SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted waiting for an SMTP connection", e);
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.poll()) != null) {
+                // Servers drop idle sessions; isConnected() probes with NOOP
+                if (!pooled.isExpired(maxIdleMs) && pooled.transport().isConnected()) {
+                    return pooled.transport();
+                }
+                closeQuietly(pooled.transport());
+            }
+            return connect();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a transport to the pool; broken transports should be passed to {@link #invalidate}
+     */
+    public void release(Transport transport) {
+        if (!idle.offer(new PooledTransport(transport, System.currentTimeMillis()))) {
+            closeQuietly(transport);
+        }
+        permits.release();
+    }
+
+    public void invalidate(Transport transport) {
+        closeQuietly(transport);
+        permits.release();
+    }
+
+    @PreDestroy
+    public void close() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            closeQuietly(pooled.transport());
+        }
+    }
+
+    Transport connect() throws MessagingException {
+        Transport transport = getSession().getTransport(mailSender.getProtocol());
+        int port = mailSender.getPort();
+        transport.connect(mailSender.getHost(), port, mailSender.getUsername(), mailSender.getPassword());
+        log.debug("Opened SMTP connection to {}:{}", mailSender.getHost(), port);
+        return transport;
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP connection", e);
+        }
+    }
+
+    private record PooledTransport(Transport transport, long releasedAt) {
+
+        boolean isExpired(long maxIdleMs) {
+            return System.currentTimeMillis() - releasedAt > maxIdleMs;
+        }
+    }
+}
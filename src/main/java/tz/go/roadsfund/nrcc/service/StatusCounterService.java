@@ -0,0 +1,202 @@
+package tz.go.roadsfund.nrcc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tz.go.roadsfund.nrcc.enums.ActionPlanStatus;
+import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
+import tz.go.roadsfund.nrcc.event.ActionPlanStatusChangedEvent;
+import tz.go.roadsfund.nrcc.event.ApplicationStatusChangedEvent;
+import tz.go.roadsfund.nrcc.repository.ActionPlanRepository;
+import tz.go.roadsfund.nrcc.repository.ApplicationRepository;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory status counters for applications and action plans, maintained incrementally
+ * from committed status transition events. Counts are reconciled against the database
+ * periodically to correct drift after restarts or direct SQL edits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatusCounterService {
+
+    private static final ApplicationStatus[] APPLICATION_STATUSES = ApplicationStatus.values();
+
+    private final ApplicationRepository applicationRepository;
+    private final ActionPlanRepository actionPlanRepository;
+
+    private final LongAdder[] applicationCounts = newAdders(APPLICATION_STATUSES.length);
+
+    private final LongAdder[] actionPlanCounts = newAdders(ActionPlanStatus.values().length);
+
+    /**
+     * Per-applicant counters indexed by {@link ApplicationStatus#ordinal()}
+     */
+    private final Map<Long, LongAdder[]> applicantCounts = new ConcurrentHashMap<>();
+
+    private volatile boolean reconciled = false;
+
+    // ==================== EVENT HANDLERS ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        LongAdder[] perApplicant = event.applicantId() != null ?
+                applicantCounts.computeIfAbsent(event.applicantId(), id -> newAdders(APPLICATION_STATUSES.length)) : null;
+
+        if (event.fromStatus() != null) {
+            applicationCounts[event.fromStatus().ordinal()].decrement();
+            if (perApplicant != null) {
+                perApplicant[event.fromStatus().ordinal()].decrement();
+            }
+        }
+        if (event.toStatus() != null) {
+            applicationCounts[event.toStatus().ordinal()].increment();
+            if (perApplicant != null) {
+                perApplicant[event.toStatus().ordinal()].increment();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActionPlanStatusChanged(ActionPlanStatusChangedEvent event) {
+        if (event.fromStatus() != null) {
+            actionPlanCounts[event.fromStatus().ordinal()].decrement();
+        }
+        if (event.toStatus() != null) {
+            actionPlanCounts[event.toStatus().ordinal()].increment();
+        }
+    }
+
+    // ==================== READS ====================
+
+    public long countApplications(ApplicationStatus status) {
+        ensureReconciled();
+        return applicationCounts[status.ordinal()].sum();
+    }
+
+    public long countApplications() {
+        ensureReconciled();
+        return sum(applicationCounts);
+    }
+
+    public Map<ApplicationStatus, Long> getApplicationCounts() {
+        ensureReconciled();
+        return toMap(applicationCounts, ApplicationStatus.class);
+    }
+
+    public Map<ApplicationStatus, Long> getApplicantCounts(Long applicantId) {
+        ensureReconciled();
+        LongAdder[] counts = applicantCounts.get(applicantId);
+        if (counts == null) {
+            counts = newAdders(APPLICATION_STATUSES.length);
+        }
+        return toMap(counts, ApplicationStatus.class);
+    }
+
+    public long countActionPlans(ActionPlanStatus status) {
+        ensureReconciled();
+        return actionPlanCounts[status.ordinal()].sum();
+    }
+
+    public Map<ActionPlanStatus, Long> getActionPlanCounts() {
+        ensureReconciled();
+        return toMap(actionPlanCounts, ActionPlanStatus.class);
+    }
+
+    // ==================== RECONCILIATION ====================
+
+    /**
+     * Align counters with the database. Counters are adjusted by their difference from the
+     * database value rather than reset, so transitions committed concurrently are not lost;
+     * any in-flight skew is corrected on the next run.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.counters.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        Map<Integer, Long> applicationTotals = new HashMap<>();
+        for (Object[] row : applicationRepository.countGroupedByStatus()) {
+            applicationTotals.put(((ApplicationStatus) row[0]).ordinal(), ((Number) row[1]).longValue());
+        }
+        long applicationDrift = adjust(applicationCounts, applicationTotals);
+
+        Map<Integer, Long> actionPlanTotals = new HashMap<>();
+        for (Object[] row : actionPlanRepository.countGroupedByStatus()) {
+            actionPlanTotals.put(((ActionPlanStatus) row[0]).ordinal(), ((Number) row[1]).longValue());
+        }
+        long actionPlanDrift = adjust(actionPlanCounts, actionPlanTotals);
+
+        Map<Long, Map<Integer, Long>> perApplicant = new HashMap<>();
+        for (Object[] row : applicationRepository.countGroupedByApplicantAndStatus()) {
+            perApplicant.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                    .put(((ApplicationStatus) row[1]).ordinal(), ((Number) row[2]).longValue());
+        }
+        for (Map.Entry<Long, Map<Integer, Long>> entry : perApplicant.entrySet()) {
+            adjust(applicantCounts.computeIfAbsent(entry.getKey(), id -> newAdders(APPLICATION_STATUSES.length)),
+                    entry.getValue());
+        }
+        // Applicants with no rows left in the database
+        applicantCounts.forEach((applicantId, counts) -> {
+            if (!perApplicant.containsKey(applicantId)) {
+                adjust(counts, Map.of());
+            }
+        });
+
+        if (reconciled && (applicationDrift != 0 || actionPlanDrift != 0)) {
+            log.warn("Status counters drifted from database: applications {}, action plans {}",
+                    applicationDrift, actionPlanDrift);
+        }
+        reconciled = true;
+    }
+
+    private void ensureReconciled() {
+        if (!reconciled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Move each counter to the expected value and return the total absolute correction
+     */
+    private static long adjust(LongAdder[] counters, Map<Integer, Long> expected) {
+        long drift = 0;
+        for (int i = 0; i < counters.length; i++) {
+            long delta = expected.getOrDefault(i, 0L) - counters[i].sum();
+            if (delta != 0) {
+                counters[i].add(delta);
+                drift += Math.abs(delta);
+            }
+        }
+        return drift;
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static long sum(LongAdder[] counters) {
+        long total = 0;
+        for (LongAdder counter : counters) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    private static <S extends Enum<S>> Map<S, Long> toMap(LongAdder[] counters, Class<S> statusType) {
+        Map<S, Long> counts = new EnumMap<>(statusType);
+        for (S status : statusType.getEnumConstants()) {
+            counts.put(status, counters[status.ordinal()].sum());
+        }
+        return counts;
+    }
+}
@@ -1,17 +1,32 @@
 package tz.go.roadsfund.nrcc.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import tz.go.roadsfund.nrcc.entity.TokenBlacklist;
 import tz.go.roadsfund.nrcc.repository.TokenBlacklistRepository;
+import tz.go.roadsfund.nrcc.util.BloomFilter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Service for managing blacklisted tokens
+ * Service for managing blacklisted tokens.
+ * Revoked tokens are held in memory as SHA-256 hashes fronted by a Bloom filter,
+ * so the database is only consulted when the filter reports a possible match.
+ * Revocations made on other API nodes are picked up by polling the table for recent
+ * entries, so they take effect here within the sync interval.
  */
 @Service
 @RequiredArgsConstructor
@@ -19,10 +34,45 @@ import java.time.LocalDateTime;
 @Transactional
 public class TokenBlacklistService {
 
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.001;
+
     private final TokenBlacklistRepository tokenBlacklistRepository;
 
     /**
-     * Add token to blacklist
+     * Hex-encoded SHA-256 of each revoked token mapped to the token's expiry
+     */
+    private final Map<String, LocalDateTime> revokedTokens = new ConcurrentHashMap<>();
+
+    private final Object filterLock = new Object();
+
+    private volatile BloomFilter bloomFilter;
+
+    @Value("${jwt.blacklist.bloom-expected-insertions:100000}")
+    private long bloomExpectedInsertions;
+
+    // Node clocks and commit delays differ, so each sync looks back a little past the last one
+    @Value("${jwt.blacklist.sync-overlap-seconds:60}")
+    private long syncOverlapSeconds;
+
+    private volatile LocalDateTime lastSync;
+
+    /**
+     * Load all unexpired blacklisted tokens into memory at startup
+     */
+    @PostConstruct
+    void loadBlacklist() {
+        lastSync = LocalDateTime.now();
+        List<TokenBlacklist> active = tokenBlacklistRepository.findActive(lastSync);
+        for (TokenBlacklist entry : active) {
+            revokedTokens.put(hex(hash(entry.getToken())), entry.getExpiresAt());
+        }
+        rebuildBloomFilter();
+        log.info("Loaded {} blacklisted tokens into memory", active.size());
+    }
+
+    /**
+     * Add token to blacklist. The in-memory store is updated immediately so logout
+     * takes effect on the very next request.
      */
     public void blacklistToken(String token, Long userId, LocalDateTime expiresAt, String reason) {
         TokenBlacklist blacklistedToken = TokenBlacklist.builder()
@@ -34,17 +84,59 @@ public class TokenBlacklistService {
                 .build();
 
         tokenBlacklistRepository.save(blacklistedToken);
+
+        byte[] digest = hash(token);
+        synchronized (filterLock) {
+            revokedTokens.put(hex(digest), expiresAt);
+            bloomFilter.put(digest);
+        }
         log.info("Token blacklisted for user: {} - Reason: {}", userId, reason);
     }
 
     /**
      * Check if token is blacklisted
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isBlacklisted(String token) {
+        byte[] digest = hash(token);
+        if (!bloomFilter.mightContain(digest)) {
+            return false;
+        }
+
+        if (revokedTokens.containsKey(hex(digest))) {
+            return true;
+        }
+
+        // Possible Bloom false positive: confirm against the database
         return tokenBlacklistRepository.existsByToken(token);
     }
 
+    /**
+     * Pull in tokens revoked on other nodes since the last sync
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sync-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void syncRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TokenBlacklist> recent = tokenBlacklistRepository.findActiveBlacklistedSince(
+                lastSync.minusSeconds(syncOverlapSeconds), now);
+        lastSync = now;
+
+        int added = 0;
+        synchronized (filterLock) {
+            for (TokenBlacklist entry : recent) {
+                byte[] digest = hash(entry.getToken());
+                if (revokedTokens.putIfAbsent(hex(digest), entry.getExpiresAt()) == null) {
+                    bloomFilter.put(digest);
+                    added++;
+                }
+            }
+        }
+        if (added > 0) {
+            log.debug("Picked up {} tokens revoked on other nodes", added);
+        }
+    }
+
     /**
      * Blacklist all tokens for a user (e.g., password change, account suspended)
      * Note: This only works for tokens that have been used and cached
@@ -55,12 +147,45 @@ public class TokenBlacklistService {
     }
 
     /**
-     * Clean up expired tokens (runs daily)
+     * Prune expired tokens from memory and the database.
+     * An expired token already fails signature validation, so it no longer needs tracking.
      */
-    @Scheduled(cron = "0 0 2 * * ?") // 2 AM daily
+    @Scheduled(fixedDelayString = "${jwt.blacklist.prune-interval-ms:900000}")
     public void cleanupExpiredTokens() {
-        log.info("Starting cleanup of expired blacklisted tokens");
-        tokenBlacklistRepository.deleteExpiredTokens(LocalDateTime.now());
-        log.info("Expired tokens cleanup completed");
+        LocalDateTime now = LocalDateTime.now();
+        int before = revokedTokens.size();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        int removed = before - revokedTokens.size();
+
+        tokenBlacklistRepository.deleteExpiredTokens(now);
+
+        if (removed > 0) {
+            rebuildBloomFilter();
+            log.info("Pruned {} expired blacklisted tokens", removed);
+        }
+    }
+
+    /**
+     * Bloom filters cannot delete, so pruning swaps in a freshly sized filter
+     */
+    private void rebuildBloomFilter() {
+        synchronized (filterLock) {
+            long capacity = Math.max(bloomExpectedInsertions, revokedTokens.size() * 2L);
+            BloomFilter rebuilt = new BloomFilter(capacity, BLOOM_FALSE_POSITIVE_RATE);
+            revokedTokens.keySet().forEach(key -> rebuilt.put(HexFormat.of().parseHex(key)));
+            bloomFilter = rebuilt;
+        }
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String hex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
     }
 }
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import tz.go.roadsfund.nrcc.config.RolePermissionConfig;
 import tz.go.roadsfund.nrcc.dto.request.*;
 import tz.go.roadsfund.nrcc.dto.response.BulkActionResponse;
+import tz.go.roadsfund.nrcc.dto.response.CursorPage;
 import tz.go.roadsfund.nrcc.dto.response.OrganizationResponse;
 import tz.go.roadsfund.nrcc.dto.response.UserDetailsResponse;
 import tz.go.roadsfund.nrcc.dto.response.UserResponse;
@@ -23,6 +24,9 @@ import tz.go.roadsfund.nrcc.exception.ResourceNotFoundException;
 import tz.go.roadsfund.nrcc.repository.DistrictRepository;
 import tz.go.roadsfund.nrcc.repository.OrganizationRepository;
 import tz.go.roadsfund.nrcc.repository.UserRepository;
+import tz.go.roadsfund.nrcc.repository.UserSpecifications;
+import tz.go.roadsfund.nrcc.security.UserPrincipalCache;
+import tz.go.roadsfund.nrcc.util.PageCursor;
 import tz.go.roadsfund.nrcc.util.SecurityUtil;
 
 import java.time.LocalDateTime;
@@ -45,6 +49,7 @@ public class UserService {
     private final DistrictRepository districtRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
@@ -123,6 +128,16 @@ public class UserService {
                 .map(this::mapToUserResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> getUsersAfter(String after, int size, boolean includeTotal) {
+        PageCursor cursor = PageCursor.decodeId(after);
+        List<User> rows = userRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor != null ? cursor.id() : 0L, PageCursor.limit(size));
+
+        return CursorPage.of(rows, size, user -> PageCursor.encode(user.getId()), this::mapToUserResponse,
+                includeTotal ? userRepository.count() : null);
+    }
+
     @Transactional(readOnly = true)
     public List<UserResponse> getUsersByRole(UserRole role) {
         return userRepository.findByRole(role).stream()
@@ -242,6 +257,7 @@ public class UserService {
 
         user.setStatus("INACTIVE");
         userRepository.save(user);
+        userPrincipalCache.evict(id);
         log.info("User deactivated: {}", user.getEmail());
     }
 
@@ -385,17 +401,8 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public Page<UserResponse> searchUsers(UserSearchRequest searchRequest, Pageable pageable) {
-        return userRepository.searchUsers(
-                searchRequest.getName(),
-                searchRequest.getEmail(),
-                searchRequest.getRole(),
-                searchRequest.getStatus(),
-                searchRequest.getOrganizationId(),
-                searchRequest.getDistrictId(),
-                searchRequest.getRegionId(),
-                searchRequest.getUserType(),
-                pageable
-        ).map(this::mapToUserResponse);
+        return userRepository.findAll(UserSpecifications.matching(searchRequest), pageable)
+                .map(this::mapToUserResponse);
     }
 
     // ==================== BULK OPERATIONS ====================
@@ -0,0 +1,22 @@
+package tz.go.roadsfund.nrcc.util;
+
+import tz.go.roadsfund.nrcc.enums.VersionedResource;
+
+import java.lang.annotation.*;
+
+/**
+ * Serve a read-by-id endpoint with a weak ETag computed from the resource's version query.
+ * A matching If-None-Match is answered with 304 before the method runs.
+ * The method must return a ResponseEntity and take the id as a Long parameter.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+    VersionedResource value();
+
+    /**
+     * Name of the id parameter
+     */
+    String idParameter() default "id";
+}
@@ -0,0 +1,155 @@
+package tz.go.roadsfund.nrcc.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import tz.go.roadsfund.nrcc.enums.VersionedResource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Conditional GET for {@link ConditionalGet} endpoints.
+ * The ETag is computed from the resource's version query, a single projection, before the
+ * method runs: on a matching If-None-Match the aggregate is never loaded, mapped or
+ * serialized. Runs inside the permission check, so a 304 is only given to callers allowed
+ * to read the resource.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ConditionalGetAspect {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Around("@annotation(conditionalGet)")
+    public Object handle(ProceedingJoinPoint joinPoint, ConditionalGet conditionalGet) throws Throwable {
+        HttpServletRequest request = currentRequest();
+        Long id = idArgument(joinPoint, conditionalGet.idParameter());
+        if (request == null || id == null) {
+            return joinPoint.proceed();
+        }
+
+        VersionedResource resource = conditionalGet.value();
+        String etag = etag(resource, id);
+        if (etag == null) {
+            // Unknown id: let the endpoint produce its usual 404
+            return joinPoint.proceed();
+        }
+
+        if (matches(request.getHeaders(HttpHeaders.IF_NONE_MATCH).asIterator(), etag)) {
+            record(resource, "not_modified");
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(REVALIDATE)
+                    .eTag(etag)
+                    .build();
+        }
+
+        Object result = joinPoint.proceed();
+        if (result instanceof ResponseEntity<?> response && response.getStatusCode().is2xxSuccessful()
+                && response.getHeaders().getETag() == null) {
+            record(resource, "modified");
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .cacheControl(REVALIDATE)
+                    .eTag(etag)
+                    .body(response.getBody());
+        }
+        return result;
+    }
+
+    /**
+     * Weak ETag over the version row, or null when the resource does not exist
+     */
+    private String etag(VersionedResource resource, Long id) {
+        List<?> rows = entityManager.createQuery(resource.getVersionQuery())
+                .setParameter("id", id)
+                .setMaxResults(1)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        Object row = rows.get(0);
+        String version = resource.name() + ':' + id + ':'
+                + (row instanceof Object[] values ? Arrays.toString(values) : String.valueOf(row));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(version.getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not compute ETag", e);
+        }
+    }
+
+    /**
+     * Weak comparison against each tag of each If-None-Match header, as required for GET
+     */
+    private static boolean matches(Iterator<String> headers, String etag) {
+        String opaque = stripWeak(etag);
+        while (headers.hasNext()) {
+            for (String candidate : headers.next().split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || stripWeak(tag).equals(opaque)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static Long idArgument(ProceedingJoinPoint joinPoint, String name) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            if (names != null && name.equals(names[i]) && args[i] instanceof Long id) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private void record(VersionedResource resource, String outcome) {
+        Counter.builder("nrcc.conditional.get")
+                .tag("resource", resource.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,24 @@
+package tz.go.roadsfund.nrcc.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Conditional GET helpers. A response carrying an ETag is answered with 304 Not Modified by
+ * Spring MVC when the request's If-None-Match matches, so the body is never serialized.
+ */
+public final class HttpCaching {
+
+    private HttpCaching() {
+    }
+
+    /**
+     * 200 with the ETag and a private, always-revalidate Cache-Control
+     */
+    public static <T> ResponseEntity<T> revalidated(String etag, T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(body);
+    }
+}
@@ -0,0 +1,54 @@
+package tz.go.roadsfund.nrcc.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text template with {name} placeholders, split into literal and placeholder segments once
+ * at compile time so rendering is a single pass of appends.
+ * Unknown placeholders render as empty text.
+ */
+public final class MessageTemplate {
+
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int estimatedLength;
+
+    private MessageTemplate(List<String> literals, List<String> placeholders, int estimatedLength) {
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+        this.estimatedLength = estimatedLength;
+    }
+
+    public static MessageTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = template.indexOf('{', position);
+            int close = open >= 0 ? template.indexOf('}', open) : -1;
+            if (open < 0 || close < 0) {
+                literals.add(template.substring(position));
+                break;
+            }
+            literals.add(template.substring(position, open));
+            placeholders.add(template.substring(open + 1, close));
+            position = close + 1;
+        }
+        return new MessageTemplate(literals, placeholders, template.length() + placeholders.size() * 16);
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(estimatedLength);
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(placeholders[i]);
+            if (value != null) {
+                out.append(value);
+            }
+        }
+        return out.append(literals[placeholders.length]).toString();
+    }
+}
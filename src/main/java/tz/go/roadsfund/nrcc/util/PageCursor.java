@@ -0,0 +1,77 @@
+package tz.go.roadsfund.nrcc.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import tz.go.roadsfund.nrcc.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination: the sort key of the last row on a page,
+ * either (createdAt, id) or id alone, encoded as URL-safe Base64.
+ */
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = (createdAt != null ? createdAt.toString() : "") + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String encode(Long id) {
+        return encode(null, id);
+    }
+
+    /**
+     * Row limit for a page of the given size: one extra row tells whether a next page exists
+     */
+    public static Pageable limit(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.ofSize(size + 1);
+    }
+
+    /**
+     * Decode a (createdAt, id) cursor; a blank cursor means the first page and yields null.
+     * An id-only cursor from another listing is rejected rather than matching no rows.
+     */
+    public static PageCursor decodeTimestamped(String cursor) {
+        PageCursor decoded = decode(cursor);
+        if (decoded != null && decoded.createdAt() == null) {
+            throw new BadRequestException("Page cursor does not belong to this listing");
+        }
+        return decoded;
+    }
+
+    /**
+     * Decode an id-only cursor; a blank cursor means the first page and yields null
+     */
+    public static PageCursor decodeId(String cursor) {
+        PageCursor decoded = decode(cursor);
+        if (decoded != null && decoded.createdAt() != null) {
+            throw new BadRequestException("Page cursor does not belong to this listing");
+        }
+        return decoded;
+    }
+
+    private static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            LocalDateTime createdAt = separator > 0 ? LocalDateTime.parse(raw.substring(0, separator)) : null;
+            return new PageCursor(createdAt, Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+}
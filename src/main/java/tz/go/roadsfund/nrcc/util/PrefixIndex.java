@@ -0,0 +1,99 @@
+package tz.go.roadsfund.nrcc.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index for typeahead lookups.
+ * Each entry is indexed under every word start of its texts ("Dar es Salaam" is found by
+ * "dar", "es sa" and "salaam"), normalised to lower case ASCII letters and digits. Terms live
+ * in a sorted skip list, so a lookup is a range scan that stops after the limit; reads are
+ * lock-free and entries can be replaced or removed one at a time.
+ */
+public class PrefixIndex<V> {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, V> terms = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, List<String>> termsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Add or replace the entry for a key; null and blank texts are ignored
+     */
+    public void put(String key, V value, String... texts) {
+        termsByKey.compute(key, (k, previous) -> {
+            if (previous != null) {
+                previous.forEach(terms::remove);
+            }
+            List<String> added = new ArrayList<>();
+            for (String text : texts) {
+                for (String suffix : wordSuffixes(normalise(text))) {
+                    String term = suffix + KEY_SEPARATOR + key;
+                    terms.put(term, value);
+                    added.add(term);
+                }
+            }
+            return added.isEmpty() ? null : added;
+        });
+    }
+
+    public void remove(String key) {
+        termsByKey.computeIfPresent(key, (k, previous) -> {
+            previous.forEach(terms::remove);
+            return null;
+        });
+    }
+
+    /**
+     * Entries with a word starting with the prefix, in term order, at most limit distinct entries
+     */
+    public List<V> search(String prefix, int limit) {
+        String normalised = normalise(prefix);
+        if (normalised.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, V> hits = new LinkedHashMap<>();
+        for (Map.Entry<String, V> entry : terms.subMap(normalised, normalised + Character.MAX_VALUE).entrySet()) {
+            String term = entry.getKey();
+            hits.putIfAbsent(term.substring(term.indexOf(KEY_SEPARATOR) + 1), entry.getValue());
+            if (hits.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(hits.values());
+    }
+
+    public int size() {
+        return termsByKey.size();
+    }
+
+    /**
+     * Lower case, accents removed, every run of other characters collapsed to one space
+     */
+    public static String normalise(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    private static List<String> wordSuffixes(String normalised) {
+        List<String> suffixes = new ArrayList<>();
+        if (normalised.isEmpty()) {
+            return suffixes;
+        }
+        suffixes.add(normalised);
+        for (int i = normalised.indexOf(' '); i >= 0; i = normalised.indexOf(' ', i + 1)) {
+            suffixes.add(normalised.substring(i + 1));
+        }
+        return suffixes;
+    }
+}
@@ -0,0 +1,175 @@
+package tz.go.roadsfund.nrcc.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * SHA-256 (FIPS 180-4) whose running state can be saved and restored later, possibly on
+ * another node, so a file arriving in chunks can be hashed as the chunks come in.
+ * {@link java.security.MessageDigest} cannot hand out its state; the digest produced here is
+ * the same as MessageDigest.getInstance("SHA-256") gives for the same bytes.
+ */
+public final class ResumableSha256 {
+
+    private static final int[] K = {
+            0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+            0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+            0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+            0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+            0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+            0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+            0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+            0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+    };
+
+    private static final int[] INITIAL_HASH = {
+            0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+    };
+
+    private static final int BLOCK_SIZE = 64;
+
+    // Hash words, then the message length, then the bytes of the unfinished block
+    private static final int STATE_HEADER_SIZE = 8 * Integer.BYTES + Long.BYTES;
+
+    private final int[] hash = INITIAL_HASH.clone();
+    private final byte[] block = new byte[BLOCK_SIZE];
+    private final int[] schedule = new int[64];
+    private long length;
+
+    /**
+     * Continue from a state saved with {@link #state()}
+     *
+     * @throws IllegalArgumentException when the state is not one {@link #state()} produced
+     */
+    public static ResumableSha256 restore(byte[] state) {
+        ByteBuffer in = ByteBuffer.wrap(state);
+        if (state.length < STATE_HEADER_SIZE) {
+            throw new IllegalArgumentException("SHA-256 state is too short");
+        }
+        ResumableSha256 sha = new ResumableSha256();
+        for (int i = 0; i < sha.hash.length; i++) {
+            sha.hash[i] = in.getInt();
+        }
+        sha.length = in.getLong();
+        int pending = (int) (sha.length & (BLOCK_SIZE - 1));
+        if (sha.length < 0 || in.remaining() != pending) {
+            throw new IllegalArgumentException("SHA-256 state is damaged");
+        }
+        in.get(sha.block, 0, pending);
+        return sha;
+    }
+
+    /**
+     * Hash the buffer's remaining bytes, consuming them
+     */
+    public void update(ByteBuffer data) {
+        while (data.hasRemaining()) {
+            int used = (int) (length & (BLOCK_SIZE - 1));
+            int count = Math.min(BLOCK_SIZE - used, data.remaining());
+            data.get(block, used, count);
+            length += count;
+            if (used + count == BLOCK_SIZE) {
+                compress();
+            }
+        }
+    }
+
+    public void update(byte[] data, int offset, int count) {
+        update(ByteBuffer.wrap(data, offset, count));
+    }
+
+    /**
+     * Number of bytes hashed so far
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Everything needed to carry on hashing: at most 103 bytes
+     */
+    public byte[] state() {
+        int pending = (int) (length & (BLOCK_SIZE - 1));
+        ByteBuffer out = ByteBuffer.allocate(STATE_HEADER_SIZE + pending);
+        for (int word : hash) {
+            out.putInt(word);
+        }
+        out.putLong(length);
+        out.put(block, 0, pending);
+        return out.array();
+    }
+
+    /**
+     * Digest of the bytes hashed so far; hashing can carry on afterwards
+     */
+    public byte[] digest() {
+        ResumableSha256 finished = restore(state());
+        finished.pad();
+
+        ByteBuffer out = ByteBuffer.allocate(8 * Integer.BYTES);
+        for (int word : finished.hash) {
+            out.putInt(word);
+        }
+        return out.array();
+    }
+
+    private void pad() {
+        long bitLength = length * 8;
+        int used = (int) (length & (BLOCK_SIZE - 1));
+        block[used++] = (byte) 0x80;
+        if (used > BLOCK_SIZE - Long.BYTES) {
+            Arrays.fill(block, used, BLOCK_SIZE, (byte) 0);
+            compress();
+            used = 0;
+        }
+        Arrays.fill(block, used, BLOCK_SIZE - Long.BYTES, (byte) 0);
+        for (int i = 0; i < Long.BYTES; i++) {
+            block[BLOCK_SIZE - Long.BYTES + i] = (byte) (bitLength >>> (56 - 8 * i));
+        }
+        compress();
+    }
+
+    private void compress() {
+        int[] w = schedule;
+        for (int t = 0; t < 16; t++) {
+            w[t] = (block[4 * t] & 0xff) << 24 | (block[4 * t + 1] & 0xff) << 16
+                    | (block[4 * t + 2] & 0xff) << 8 | (block[4 * t + 3] & 0xff);
+        }
+        for (int t = 16; t < 64; t++) {
+            int s0 = Integer.rotateRight(w[t - 15], 7) ^ Integer.rotateRight(w[t - 15], 18) ^ (w[t - 15] >>> 3);
+            int s1 = Integer.rotateRight(w[t - 2], 17) ^ Integer.rotateRight(w[t - 2], 19) ^ (w[t - 2] >>> 10);
+            w[t] = w[t - 16] + s0 + w[t - 7] + s1;
+        }
+
+        int a = hash[0];
+        int b = hash[1];
+        int c = hash[2];
+        int d = hash[3];
+        int e = hash[4];
+        int f = hash[5];
+        int g = hash[6];
+        int h = hash[7];
+        for (int t = 0; t < 64; t++) {
+            int t1 = h + (Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25))
+                    + ((e & f) ^ (~e & g)) + K[t] + w[t];
+            int t2 = (Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22))
+                    + ((a & b) ^ (a & c) ^ (b & c));
+            h = g;
+            g = f;
+            f = e;
+            e = d + t1;
+            d = c;
+            c = b;
+            b = a;
+            a = t1 + t2;
+        }
+        hash[0] += a;
+        hash[1] += b;
+        hash[2] += c;
+        hash[3] += d;
+        hash[4] += e;
+        hash[5] += f;
+        hash[6] += g;
+        hash[7] += h;
+    }
+}
@@ -0,0 +1,23 @@
+package tz.go.roadsfund.nrcc.util;
+
+import tz.go.roadsfund.nrcc.enums.ExportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Sequential writer of tabular rows to an output stream.
+ * Closing the writer flushes the document but leaves the underlying stream open.
+ */
+public interface RowWriter extends Closeable {
+
+    void writeRow(Object... values) throws IOException;
+
+    static RowWriter open(ExportFormat format, OutputStream out, String sheetName) {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(out);
+            case XLSX -> new XlsxRowWriter(out, sheetName);
+        };
+    }
+}
@@ -0,0 +1,179 @@
+package tz.go.roadsfund.nrcc.util;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Forward-only readers for CSV and XLSX files. Rows are pushed to a handler as they are
+ * parsed, so only the current row is held in memory. Row numbers are 1-based and count
+ * the header row.
+ */
+public final class SpreadsheetReader {
+
+    @FunctionalInterface
+    public interface RowHandler {
+        void row(int rowNumber, List<String> cells);
+    }
+
+    private SpreadsheetReader() {
+    }
+
+    /**
+     * RFC 4180 CSV: quoted fields may contain separators, escaped quotes and line breaks.
+     * A leading UTF-8 byte order mark is skipped.
+     */
+    public static void readCsv(InputStream in, RowHandler handler) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean rowStarted = false;
+        int rowNumber = 0;
+
+        int c = reader.read();
+        if (c == '\uFEFF') {
+            c = reader.read();
+        }
+        for (; c != -1; c = reader.read()) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        cell.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    cell.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    quoted = true;
+                    rowStarted = true;
+                }
+                case ',' -> {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                    rowStarted = true;
+                }
+                case '\r' -> {
+                    // Handled by the following \n
+                }
+                case '\n' -> {
+                    if (rowStarted || cell.length() > 0) {
+                        cells.add(cell.toString());
+                        handler.row(++rowNumber, cells);
+                        cells = new ArrayList<>();
+                    } else {
+                        rowNumber++;
+                    }
+                    cell.setLength(0);
+                    rowStarted = false;
+                }
+                default -> {
+                    cell.append((char) c);
+                    rowStarted = true;
+                }
+            }
+        }
+        if (rowStarted || cell.length() > 0) {
+            cells.add(cell.toString());
+            handler.row(++rowNumber, cells);
+        }
+    }
+
+    /**
+     * First worksheet of an XLSX workbook, read with the SAX event model.
+     * The workbook is opened read-only from disk, so POI reads the zip entries it needs
+     * in place instead of buffering the whole package in memory as it does for a stream.
+     * Cells are returned as formatted text; blank cells inside a row become empty strings.
+     */
+    public static void readXlsx(Path file, RowHandler handler) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        } catch (InvalidFormatException e) {
+            throw new IOException("Invalid XLSX file", e);
+        }
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), strings, new RowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Invalid XLSX file", e);
+        } finally {
+            // close() would try to save a read-only package
+            pkg.revert();
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+
+        private RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            handler.row(rowNum + 1, new ArrayList<>(cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+-- Catalog of stored files attached to records, replacing free-text file references.
+-- Stored files that nothing here refers to are reclaimed by the file garbage collector.
+-- Existing references are copied in by AttachmentRepository.insertLegacyReferences, which
+-- the collector runs at startup (after flat-layout files get their stored_files rows) and
+-- waits for before reclaiming anything.
+CREATE SEQUENCE IF NOT EXISTS attachments_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS attachments (
+    id           BIGINT PRIMARY KEY DEFAULT nextval('attachments_id_seq'),
+    owner_type   VARCHAR(30)  NOT NULL,
+    owner_id     BIGINT       NOT NULL,
+    file_name    VARCHAR(500) NOT NULL,
+    blob_key     VARCHAR(100) NOT NULL,
+    size         BIGINT       NOT NULL,
+    content_type VARCHAR(255),
+    checksum     VARCHAR(64)  NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    updated_at   TIMESTAMP,
+    created_by   VARCHAR(255),
+    updated_by   VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_attachments_owner ON attachments (owner_type, owner_id);
+CREATE INDEX IF NOT EXISTS idx_attachments_file_name ON attachments (file_name);
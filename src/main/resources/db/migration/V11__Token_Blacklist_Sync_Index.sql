@@ -0,0 +1,2 @@
+-- Each node polls for tokens revoked since its last sync
+CREATE INDEX IF NOT EXISTS idx_token_blacklist_blacklisted_at ON token_blacklist (blacklisted_at);
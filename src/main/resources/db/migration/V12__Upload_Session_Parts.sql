@@ -0,0 +1,10 @@
+-- Resumable upload chunks move from a partial file on the receiving node to blob store
+-- multipart uploads, so any node can take the next chunk. Uploads started before this change
+-- cannot be resumed and are dropped; their partial files under <upload-dir>/.tmp
+-- (resumable-*.part) can be deleted.
+DELETE FROM upload_sessions;
+
+ALTER TABLE upload_sessions ADD COLUMN IF NOT EXISTS store_upload_id VARCHAR(1024) NOT NULL;
+ALTER TABLE upload_sessions ADD COLUMN IF NOT EXISTS part_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE upload_sessions ADD COLUMN IF NOT EXISTS lease_token VARCHAR(36);
+ALTER TABLE upload_sessions ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP;
@@ -0,0 +1,2 @@
+-- Each node polls for users changed since its last sync to evict their cached principals
+CREATE INDEX IF NOT EXISTS idx_users_updated_at ON users (updated_at);
@@ -0,0 +1,25 @@
+-- Per-year high-water marks for application and meeting numbers (NumberSequenceService).
+-- Each existing year is seeded past its highest issued number, so allocation carries on
+-- from there without consulting the numbered tables.
+CREATE TABLE IF NOT EXISTS number_sequences (
+    name       VARCHAR(100) PRIMARY KEY,
+    next_value BIGINT       NOT NULL
+);
+
+-- NRCC/<year>/<nnnn>
+INSERT INTO number_sequences (name, next_value)
+SELECT 'APPLICATION:' || split_part(application_number, '/', 2),
+       MAX(CAST(split_part(application_number, '/', 3) AS BIGINT)) + 1
+FROM applications
+WHERE application_number ~ '^NRCC/[0-9]{4}/[0-9]+$'
+GROUP BY split_part(application_number, '/', 2)
+ON CONFLICT (name) DO NOTHING;
+
+-- NRCC-MTG-<year>-<nnnn>
+INSERT INTO number_sequences (name, next_value)
+SELECT 'MEETING:' || split_part(meeting_number, '-', 3),
+       MAX(CAST(split_part(meeting_number, '-', 4) AS BIGINT)) + 1
+FROM meetings
+WHERE meeting_number ~ '^NRCC-MTG-[0-9]{4}-[0-9]+$'
+GROUP BY split_part(meeting_number, '-', 3)
+ON CONFLICT (name) DO NOTHING;
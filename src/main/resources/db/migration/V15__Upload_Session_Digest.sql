@@ -0,0 +1,7 @@
+-- Resumable uploads hash the file as the chunks arrive and gather small chunks into parts,
+-- so completing one no longer reads the whole file back. Uploads already under way have no
+-- saved hash state; they are expired so the cleanup job aborts them and removes their parts.
+ALTER TABLE upload_sessions ADD COLUMN IF NOT EXISTS buffered_bytes BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE upload_sessions ADD COLUMN IF NOT EXISTS digest_state BYTEA;
+
+UPDATE upload_sessions SET expires_at = CURRENT_TIMESTAMP WHERE received_bytes > 0 AND digest_state IS NULL;
@@ -0,0 +1,38 @@
+-- Indexes for the hot repository query paths.
+-- The plain indexes are also declared on the entities so ddl-auto=update creates them in
+-- development; production runs with ddl-auto=validate and needs this script applied.
+-- token_blacklist.token and refresh_tokens.token are covered by their unique constraints.
+
+-- Applications: status filters and counts, per-applicant lists and counts, owner worklists, keyset paging
+CREATE INDEX IF NOT EXISTS idx_applications_status ON applications (status);
+CREATE INDEX IF NOT EXISTS idx_applications_applicant_status ON applications (applicant_id, status);
+CREATE INDEX IF NOT EXISTS idx_applications_current_owner ON applications (current_owner_id);
+CREATE INDEX IF NOT EXISTS idx_applications_created_at_id ON applications (created_at, id);
+
+-- Application aggregate children
+CREATE INDEX IF NOT EXISTS idx_application_form_data_application ON application_form_data (application_id);
+CREATE INDEX IF NOT EXISTS idx_eligibility_selections_application ON eligibility_criteria_selections (application_id);
+CREATE INDEX IF NOT EXISTS idx_approval_actions_application_date ON approval_actions (application_id, action_date);
+CREATE INDEX IF NOT EXISTS idx_approval_actions_actor ON approval_actions (actor_id);
+
+-- Outbox columns used by the notification dispatcher; the outbox index below includes next_attempt_at
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS application_status VARCHAR(50);
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS attempts INTEGER DEFAULT 0;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+UPDATE notifications SET attempts = 0 WHERE attempts IS NULL;
+
+-- Notifications: inbox paging, unread list and badge count, outbox polling
+CREATE INDEX IF NOT EXISTS idx_notifications_recipient_created_at_id ON notifications (recipient_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_notifications_recipient_read_created_at ON notifications (recipient_id, is_read, created_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_application ON notifications (application_id);
+CREATE INDEX IF NOT EXISTS idx_notifications_unread
+    ON notifications (recipient_id, created_at DESC) WHERE is_read = false;
+CREATE INDEX IF NOT EXISTS idx_notifications_outbox
+    ON notifications (id) INCLUDE (next_attempt_at) WHERE status = 'PENDING';
+
+-- Token housekeeping
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_token_blacklist_active ON token_blacklist (expires_at) INCLUDE (token);
+CREATE INDEX IF NOT EXISTS idx_otp_tokens_phone_created_at ON otp_tokens (phone_number, created_at);
+CREATE INDEX IF NOT EXISTS idx_otp_tokens_expires_at ON otp_tokens (expires_at);
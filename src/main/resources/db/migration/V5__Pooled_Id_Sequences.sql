@@ -0,0 +1,57 @@
+-- Move primary keys from one-row-at-a-time IDENTITY generation to pooled sequences.
+-- The entities now use @SequenceGenerator(sequenceName = "<table>_id_seq", allocationSize = 50):
+-- each nextval reserves a block of 50 ids, so Hibernate can assign ids up front and batch inserts.
+--
+-- Tables created while the entities used IDENTITY already own a <table>_id_seq; its increment is
+-- raised to 50 and the column default is kept, so plain SQL inserts (V3 reference data, the road
+-- import) still work and never collide with Hibernate's blocks. Tables created by ddl-auto after
+-- this change have a bare bigint id; they get a nextval default on the same sequence.
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'action_plan_activities',
+        'action_plan_attachments',
+        'action_plan_cost_items',
+        'action_plan_targets',
+        'action_plans',
+        'appeals',
+        'application_form_data',
+        'applications',
+        'approval_actions',
+        'districts',
+        'eligibility_criteria_selections',
+        'gazettements',
+        'meetings',
+        'minister_decisions',
+        'notifications',
+        'nrcc_meetings',
+        'organizations',
+        'otp_tokens',
+        'recommendations',
+        'refresh_tokens',
+        'regions',
+        'roads',
+        'token_blacklist',
+        'users',
+        'verification_assignments',
+        'verification_reports'
+    ]
+    LOOP
+        IF to_regclass(t) IS NULL THEN
+            CONTINUE;
+        END IF;
+
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = t AND column_name = 'id' AND is_identity = 'YES') THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET INCREMENT BY 50', t);
+        ELSE
+            EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', t || '_id_seq');
+            EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', t || '_id_seq');
+            EXECUTE format('SELECT setval(%L, GREATEST((SELECT COALESCE(MAX(id), 0) FROM %I), 1))',
+                           t || '_id_seq', t);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t, t || '_id_seq');
+        END IF;
+    END LOOP;
+END $$;
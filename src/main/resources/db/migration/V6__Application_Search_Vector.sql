@@ -0,0 +1,15 @@
+-- Full-text search over application form data (GET /applications/search).
+-- search_vector is a stored generated column, so PostgreSQL keeps it current on every insert
+-- and update without triggers or application code; the GIN index serves the @@ match.
+-- Weights: road name A, end points and places served B, reclassification reasons C.
+ALTER TABLE application_form_data
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(road_name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(starting_point, '') || ' ' || coalesce(terminal_point, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(towns_villages_linked, '') || ' ' || coalesce(principal_nodes, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(reclassification_reasons, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_application_form_data_search
+    ON application_form_data USING GIN (search_vector);
@@ -0,0 +1,12 @@
+-- Indexes for the specification-based user search (POST /users/search).
+-- Name and email are matched with lower(column) LIKE '%term%'; trigram GIN indexes on the
+-- same expressions let PostgreSQL answer those without scanning the table.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING GIN (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING GIN (lower(email) gin_trgm_ops);
+
+-- Equality filters; also declared on the User entity
+CREATE INDEX IF NOT EXISTS idx_users_role_status ON users (role, status);
+CREATE INDEX IF NOT EXISTS idx_users_organization ON users (organization_id);
+CREATE INDEX IF NOT EXISTS idx_users_district ON users (district_id);
@@ -0,0 +1,26 @@
+-- Content-addressed upload store.
+-- file_blobs holds one row per distinct content (SHA-256), with the number of stored files
+-- pointing at it; stored_files maps the public UUID_name file names onto that content.
+CREATE TABLE IF NOT EXISTS file_blobs (
+    hash       VARCHAR(64) PRIMARY KEY,
+    size       BIGINT      NOT NULL,
+    ref_count  INTEGER     NOT NULL,
+    created_at TIMESTAMP   NOT NULL
+);
+
+CREATE SEQUENCE IF NOT EXISTS stored_files_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS stored_files (
+    id            BIGINT PRIMARY KEY DEFAULT nextval('stored_files_id_seq'),
+    name          VARCHAR(500) NOT NULL UNIQUE,
+    content_hash  VARCHAR(64)  NOT NULL,
+    size          BIGINT       NOT NULL,
+    content_type  VARCHAR(255),
+    original_name VARCHAR(255),
+    created_at    TIMESTAMP    NOT NULL,
+    updated_at    TIMESTAMP,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stored_files_content_hash ON stored_files (content_hash);
@@ -0,0 +1,14 @@
+-- Resumable uploads in progress; the partial file lives in <upload-dir>/.tmp
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id             VARCHAR(36) PRIMARY KEY,
+    user_id        BIGINT       NOT NULL,
+    file_name      VARCHAR(255) NOT NULL,
+    content_type   VARCHAR(255),
+    total_size     BIGINT       NOT NULL,
+    received_bytes BIGINT       NOT NULL,
+    sha256         VARCHAR(64),
+    created_at     TIMESTAMP    NOT NULL,
+    expires_at     TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_upload_sessions_expires_at ON upload_sessions (expires_at);
@@ -0,0 +1,76 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tz.go.roadsfund.nrcc.entity.ActionPlan;
+import tz.go.roadsfund.nrcc.entity.ActionPlanActivity;
+import tz.go.roadsfund.nrcc.entity.ActionPlanCostItem;
+import tz.go.roadsfund.nrcc.entity.ActionPlanTarget;
+import tz.go.roadsfund.nrcc.enums.ActionPlanStatus;
+import tz.go.roadsfund.nrcc.enums.ActivityStatus;
+import tz.go.roadsfund.nrcc.support.PostgresJpaTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saving a whole action plan cascades to its targets, activities and cost items; with
+ * pooled ids and ordered inserts each level goes out in JDBC batches, so the statement
+ * count grows with the number of batches rather than the number of rows
+ */
+class ActionPlanBatchInsertTest extends PostgresJpaTest {
+
+    private static final int TARGETS = 10;
+    private static final int ACTIVITIES_PER_TARGET = 10;
+    private static final int COST_ITEMS_PER_ACTIVITY = 5;
+
+    @Autowired
+    private ActionPlanRepository actionPlanRepository;
+
+    @Test
+    void savingAPlanInsertsEachLevelInBatches() {
+        ActionPlan plan = ActionPlan.builder()
+                .financialYear("2025/2026")
+                .title("Annual action plan")
+                .status(ActionPlanStatus.DRAFT)
+                .build();
+        for (int t = 0; t < TARGETS; t++) {
+            ActionPlanTarget target = ActionPlanTarget.builder()
+                    .actionPlan(plan)
+                    .title("Target " + t)
+                    .displayOrder(t)
+                    .build();
+            for (int a = 0; a < ACTIVITIES_PER_TARGET; a++) {
+                ActionPlanActivity activity = ActionPlanActivity.builder()
+                        .target(target)
+                        .description("Activity " + t + "." + a)
+                        .status(ActivityStatus.NOT_STARTED)
+                        .displayOrder(a)
+                        .build();
+                for (int c = 0; c < COST_ITEMS_PER_ACTIVITY; c++) {
+                    activity.getCostItems().add(ActionPlanCostItem.builder()
+                            .activity(activity)
+                            .costItem("Cost item " + c)
+                            .quantity(BigDecimal.valueOf(c + 1))
+                            .rate(new BigDecimal("1500.00"))
+                            .build());
+                }
+                target.getActivities().add(activity);
+            }
+            plan.getTargets().add(target);
+        }
+        Statistics statistics = startCounting();
+
+        actionPlanRepository.save(plan);
+        entityManager.flush();
+
+        int activities = TARGETS * ACTIVITIES_PER_TARGET;
+        int costItems = activities * COST_ITEMS_PER_ACTIVITY;
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + TARGETS + activities + costItems);
+        // Insert batches: 1 plan, 1 targets, 2 activities, 10 cost items; the rest are
+        // nextval calls, one per 50 ids and level
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(32);
+    }
+}
@@ -0,0 +1,130 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import tz.go.roadsfund.nrcc.dto.response.ApplicationDetailResponse;
+import tz.go.roadsfund.nrcc.entity.Application;
+import tz.go.roadsfund.nrcc.entity.ApplicationFormData;
+import tz.go.roadsfund.nrcc.entity.ApprovalAction;
+import tz.go.roadsfund.nrcc.entity.EligibilityCriteriaSelection;
+import tz.go.roadsfund.nrcc.entity.User;
+import tz.go.roadsfund.nrcc.enums.ApplicantType;
+import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
+import tz.go.roadsfund.nrcc.enums.EligibilityCriterion;
+import tz.go.roadsfund.nrcc.enums.RoadClass;
+import tz.go.roadsfund.nrcc.enums.UserRole;
+import tz.go.roadsfund.nrcc.enums.WorkflowAction;
+import tz.go.roadsfund.nrcc.service.ApplicationService;
+import tz.go.roadsfund.nrcc.service.AttachmentService;
+import tz.go.roadsfund.nrcc.service.NotificationService;
+import tz.go.roadsfund.nrcc.service.NumberSequenceService;
+import tz.go.roadsfund.nrcc.support.PostgresJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The application detail read must stay at a fixed number of statements however many
+ * history entries, distinct actors and eligibility criteria an application has
+ */
+@Import(ApplicationService.class)
+class ApplicationDetailQueriesTest extends PostgresJpaTest {
+
+    private static final int ACTORS = 5;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @MockBean
+    private NumberSequenceService numberSequenceService;
+
+    @MockBean
+    private AttachmentService attachmentService;
+
+    private Long applicationId;
+
+    @BeforeEach
+    void setUp() {
+        User applicant = entityManager.persist(user("applicant@example.com", UserRole.PUBLIC_APPLICANT));
+        User owner = entityManager.persist(user("secretariat@example.com", UserRole.NRCC_SECRETARIAT));
+
+        Application application = Application.builder()
+                .applicationNumber("NRCC/2025/0001")
+                .applicantType(ApplicantType.INDIVIDUAL)
+                .applicant(applicant)
+                .currentOwner(owner)
+                .proposedClass(RoadClass.REGIONAL)
+                .status(ApplicationStatus.SUBMITTED)
+                .build();
+        application.setFormData(ApplicationFormData.builder()
+                .application(application)
+                .roadName("Morogoro - Dodoma")
+                .build());
+        entityManager.persist(application);
+
+        for (EligibilityCriterion criterion : List.of(EligibilityCriterion.R1, EligibilityCriterion.R4)) {
+            entityManager.persist(EligibilityCriteriaSelection.builder()
+                    .application(application)
+                    .criterion(criterion)
+                    .details("Details for " + criterion)
+                    .build());
+        }
+
+        LocalDateTime at = LocalDateTime.now().minusDays(ACTORS);
+        for (int i = 0; i < ACTORS; i++) {
+            User actor = entityManager.persist(user("actor" + i + "@example.com", UserRole.NRCC_MEMBER));
+            entityManager.persist(ApprovalAction.builder()
+                    .application(application)
+                    .action(WorkflowAction.FORWARD)
+                    .fromStatus(ApplicationStatus.SUBMITTED)
+                    .toStatus(ApplicationStatus.SUBMITTED)
+                    .actor(actor)
+                    .actorRole(actor.getRole().name())
+                    .actionDate(at.plusDays(i))
+                    .build());
+        }
+        applicationId = application.getId();
+    }
+
+    @Test
+    void getApplicationLoadsTheWholeDetailInThreeStatements() {
+        Statistics statistics = startCounting();
+
+        ApplicationDetailResponse detail = applicationService.getApplication(applicationId);
+
+        assertThat(detail.getApplicantName()).isEqualTo("applicant@example.com");
+        assertThat(detail.getCurrentOwnerName()).isEqualTo("secretariat@example.com");
+        assertThat(detail.getFormData().getRoadName()).isEqualTo("Morogoro - Dodoma");
+        assertThat(detail.getEligibilityCriteria()).hasSize(2);
+        assertThat(detail.getApprovalHistory()).hasSize(ACTORS);
+        assertThat(detail.getApprovalHistory())
+                .extracting(ApplicationDetailResponse.ApprovalActionResponse::getActorName)
+                .doesNotContainNull();
+        assertThat(detail.getApprovalHistory())
+                .extracting(ApplicationDetailResponse.ApprovalActionResponse::getActionDate)
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+
+        // Application with applicant, owner and form data; eligibility criteria; history with actors
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private static User user(String email, UserRole role) {
+        User user = User.builder()
+                .name(email)
+                .email(email)
+                .password("x")
+                .role(role)
+                .build();
+        user.setStatus("ACTIVE");
+        return user;
+    }
+}
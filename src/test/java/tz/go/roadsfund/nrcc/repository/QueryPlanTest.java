@@ -0,0 +1,189 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import tz.go.roadsfund.nrcc.dto.request.UserSearchRequest;
+import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
+import tz.go.roadsfund.nrcc.support.CapturingStatementInspector;
+import tz.go.roadsfund.nrcc.support.PostgresJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan regression tests for the hot query paths indexed by the db/migration scripts.
+ * Each test calls the repository method, captures the SQL Hibernate actually sent and
+ * EXPLAINs it with representative values, so the test fails when a change to the query
+ * or to the indexes stops PostgreSQL from answering it from the intended index. The
+ * tables are seeded with skewed, ANALYZEd data and the planner keeps its sequential scans,
+ * so an index only shows up in the plan when it genuinely wins.
+ */
+@Sql(scripts = {
+        "classpath:db/migration/V4__Add_Query_Indexes.sql",
+        "classpath:db/migration/V7__User_Search_Indexes.sql"
+})
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "tz.go.roadsfund.nrcc.support.CapturingStatementInspector")
+class QueryPlanTest extends PostgresJpaTest {
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApprovalActionRepository approvalActionRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void seed() {
+        EntityManager em = entityManager.getEntityManager();
+        em.createNativeQuery("INSERT INTO users (id, name, email, password, role, status, created_at, updated_at) " +
+                "SELECT g, 'User ' || g, 'user' || g || '@example.com', 'x', 'PUBLIC_APPLICANT', 'ACTIVE', " +
+                "now() - g * interval '1 hour', now() - g * interval '1 hour' " +
+                "FROM generate_series(1, 5000) g").executeUpdate();
+        // Mostly finished applications; the worklist statuses are the rare ones
+        em.createNativeQuery("INSERT INTO applications (id, application_number, applicant_type, applicant_id, " +
+                "current_owner_id, proposed_class, status, created_at) " +
+                "SELECT g, 'NRCC/2025/' || g, 'INDIVIDUAL', 1 + g % 5000, 1 + g % 500, 'REGIONAL', " +
+                "CASE WHEN g % 100 = 0 THEN 'SUBMITTED' WHEN g % 50 = 0 THEN 'DRAFT' ELSE 'GAZETTED' END, " +
+                "now() - g * interval '1 minute' " +
+                "FROM generate_series(1, 20000) g").executeUpdate();
+        em.createNativeQuery("INSERT INTO approval_actions (id, application_id, action, to_status, actor_id, " +
+                "action_date, created_at) " +
+                "SELECT g, 1 + g % 20000, 'FORWARD', 'SUBMITTED', 1 + g % 5000, now() - g * interval '1 minute', now() " +
+                "FROM generate_series(1, 40000) g").executeUpdate();
+        em.createNativeQuery("INSERT INTO notifications (id, recipient_id, channel, status, is_read, attempts, " +
+                "created_at) " +
+                "SELECT g, 1 + g % 5000, 'PORTAL', CASE WHEN g % 500 = 0 THEN 'PENDING' ELSE 'SENT' END, " +
+                "g % 3 <> 0, 0, now() - g * interval '1 minute' " +
+                "FROM generate_series(1, 40000) g").executeUpdate();
+        for (String table : List.of("users", "applications", "approval_actions", "notifications")) {
+            em.createNativeQuery("ANALYZE " + table).executeUpdate();
+        }
+    }
+
+    @Test
+    void applicationsByStatusUseStatusIndex() {
+        assertThat(plan(() -> applicationRepository.findSummariesByStatus(ApplicationStatus.SUBMITTED,
+                PageRequest.of(0, 20)), "'SUBMITTED'", "20"))
+                .contains("idx_applications_status");
+        assertThat(plan(() -> applicationRepository.countByStatus(ApplicationStatus.SUBMITTED), "'SUBMITTED'"))
+                .contains("idx_applications_status");
+    }
+
+    @Test
+    void applicantWorklistUsesApplicantStatusIndex() {
+        assertThat(plan(() -> applicationRepository.countByApplicantIdAndStatus(5L, ApplicationStatus.DRAFT),
+                "5", "'DRAFT'"))
+                .contains("idx_applications_applicant_status");
+    }
+
+    @Test
+    void ownerWorklistUsesCurrentOwnerIndex() {
+        assertThat(plan(() -> applicationRepository.findSummariesByCurrentOwnerId(3L), "3"))
+                .contains("idx_applications_current_owner");
+    }
+
+    // The tuple comparison seeks into the index, no sort
+    @Test
+    void applicationKeysetPageSeeksCreatedAtIdIndex() {
+        String plan = plan(() -> applicationRepository.findSummariesAfter(LocalDateTime.now().minusDays(1), 1000L,
+                PageRequest.of(0, 21)), "now() - interval '1 day'", "1000", "21");
+        assertThat(plan).contains("Index Scan Backward using idx_applications_created_at_id");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    void approvalHistoryUsesApplicationDateIndex() {
+        assertThat(plan(() -> approvalActionRepository.findApplicationHistoryWithActor(42L), "42"))
+                .contains("idx_approval_actions_application_date");
+    }
+
+    @Test
+    void notificationInboxPageSeeksRecipientIndex() {
+        String plan = plan(() -> notificationRepository.findOlderByUserId(7L, LocalDateTime.now().minusDays(1),
+                30000L, PageRequest.of(0, 21)), "7", "now() - interval '1 day'", "30000", "21");
+        assertThat(plan).contains("idx_notifications_recipient_created_at_id");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    void unreadCountUsesAnUnreadIndex() {
+        assertThat(plan(() -> notificationRepository.countByUserIdAndReadFalse(7L), "7"))
+                .containsAnyOf("idx_notifications_unread", "idx_notifications_recipient_read_created_at");
+    }
+
+    // Only the PENDING rows are read
+    @Test
+    void outboxPollUsesPartialPendingIndex() {
+        assertThat(plan(() -> notificationRepository.lockDueIds(LocalDateTime.now(), 50), "now()", "50"))
+                .contains("idx_notifications_outbox");
+    }
+
+    @Test
+    void principalCacheSyncUsesUpdatedAtIndex() {
+        assertThat(plan(() -> userRepository.findIdsUpdatedSince(LocalDateTime.now().minusMinutes(30)),
+                "now() - interval '30 minutes'"))
+                .contains("idx_users_updated_at");
+    }
+
+    @Test
+    void userNameSearchUsesTrigramIndex() {
+        UserSearchRequest criteria = new UserSearchRequest();
+        criteria.setName("User 4321");
+        assertThat(plan(() -> userRepository.findAll(UserSpecifications.matching(criteria), PageRequest.of(0, 20)),
+                "'%user 4321%'", "20"))
+                .contains("idx_users_name_trgm");
+    }
+
+    /**
+     * Run the repository call, then EXPLAIN the first statement it issued with its bind
+     * parameters replaced, in order, by the given SQL expressions
+     */
+    private String plan(Runnable repositoryCall, String... values) {
+        entityManager.flush();
+        CapturingStatementInspector.clear();
+        repositoryCall.run();
+        List<String> statements = CapturingStatementInspector.statements();
+        assertThat(statements).as("statements issued").isNotEmpty();
+        String sql = bind(statements.get(0).replaceFirst("^\\s*/\\*.*?\\*/\\s*", ""), values);
+
+        @SuppressWarnings("unchecked")
+        List<String> lines = entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN " + sql)
+                .getResultList();
+        return String.join("\n", lines);
+    }
+
+    private static String bind(String sql, String... values) {
+        StringBuilder bound = new StringBuilder(sql.length() + 64);
+        boolean quoted = false;
+        int next = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                assertThat(next).as("bind parameters of: %s", sql).isLessThan(values.length);
+                bound.append(values[next++]);
+            } else {
+                bound.append(c);
+            }
+        }
+        assertThat(next).as("bind parameters of: %s", sql).isEqualTo(values.length);
+        return bound.toString();
+    }
+}
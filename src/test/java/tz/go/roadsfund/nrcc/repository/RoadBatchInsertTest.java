@@ -0,0 +1,47 @@
+package tz.go.roadsfund.nrcc.repository;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tz.go.roadsfund.nrcc.entity.Road;
+import tz.go.roadsfund.nrcc.enums.RoadClass;
+import tz.go.roadsfund.nrcc.support.PostgresJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pooled sequence ids let Hibernate assign ids up front, so saveAll goes out as JDBC
+ * batches of hibernate.jdbc.batch_size rather than one round trip per row
+ */
+class RoadBatchInsertTest extends PostgresJpaTest {
+
+    private static final int ROADS = 120;
+
+    @Autowired
+    private RoadRepository roadRepository;
+
+    @Test
+    void saveAllInsertsInBatches() {
+        List<Road> roads = new ArrayList<>(ROADS);
+        for (int i = 0; i < ROADS; i++) {
+            roads.add(Road.builder()
+                    .name("Road " + i)
+                    .roadNumber("T" + i)
+                    .currentClass(RoadClass.DISTRICT)
+                    .status("ACTIVE")
+                    .build());
+        }
+        Statistics statistics = startCounting();
+
+        roadRepository.saveAll(roads);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROADS);
+        // Three insert batches (50 + 50 + 20) and a handful of nextval calls for 120 ids
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+        assertThat(roads).extracting(Road::getId).doesNotHaveDuplicates().allMatch(id -> id > 0);
+    }
+}
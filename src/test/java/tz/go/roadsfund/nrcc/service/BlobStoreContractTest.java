@@ -0,0 +1,171 @@
+package tz.go.roadsfund.nrcc.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Behaviour every {@link BlobStore} must share, run against each implementation
+ */
+abstract class BlobStoreContractTest {
+
+    @TempDir
+    protected Path tempDir;
+
+    private BlobStore store;
+
+    protected abstract BlobStore createStore() throws IOException;
+
+    @BeforeEach
+    void setUpStore() throws IOException {
+        store = createStore();
+    }
+
+    @Test
+    void fetchReturnsStoredContent() throws IOException {
+        store.put("ab/cd/abcd01", file("content"), "text/plain");
+
+        assertThat(store.exists("ab/cd/abcd01")).isTrue();
+        assertThat(Files.readString(store.fetch("ab/cd/abcd01"))).isEqualTo("content");
+    }
+
+    @Test
+    void putLeavesSourceInPlace() throws IOException {
+        Path source = file("content");
+
+        store.put("ab/cd/abcd01", source, "text/plain");
+
+        assertThat(source).hasContent("content");
+    }
+
+    @Test
+    void putAgainKeepsContent() throws IOException {
+        store.put("ab/cd/abcd01", file("content"), "text/plain");
+        store.put("ab/cd/abcd01", file("content"), "text/plain");
+
+        assertThat(Files.readString(store.fetch("ab/cd/abcd01"))).isEqualTo("content");
+    }
+
+    @Test
+    void missingKeyIsReported() throws IOException {
+        assertThat(store.exists("ab/cd/missing")).isFalse();
+        assertThatThrownBy(() -> store.fetch("ab/cd/missing")).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    void deletedKeyIsGone() throws IOException {
+        store.put("ab/cd/abcd01", file("content"), "text/plain");
+
+        store.delete("ab/cd/abcd01");
+        store.delete("ab/cd/abcd01");
+
+        assertThat(store.exists("ab/cd/abcd01")).isFalse();
+        assertThatThrownBy(() -> store.fetch("ab/cd/abcd01")).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    void copyLeavesBothKeysWithTheContent() throws IOException {
+        store.put("uploads/staged", file("content"), "text/plain");
+
+        store.copy("uploads/staged", "ab/cd/abcd01");
+
+        assertThat(store.size("ab/cd/abcd01")).isEqualTo(7);
+        assertThat(Files.readString(store.fetch("ab/cd/abcd01"))).isEqualTo("content");
+        assertThat(Files.readString(store.fetch("uploads/staged"))).isEqualTo("content");
+    }
+
+    @Test
+    void copyOrSizeOfMissingKeyIsReported() {
+        assertThatThrownBy(() -> store.size("ab/cd/missing")).isInstanceOf(NoSuchFileException.class);
+        assertThatThrownBy(() -> store.copy("ab/cd/missing", "ab/cd/abcd01")).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    void listPagesThroughKeysInOrder() throws IOException {
+        for (String key : List.of("ef/01/ef0102", "ab/cd/abcd02", "ef/01/ef0101", "ab/cd/abcd01", "ab/ff/abff01")) {
+            store.put(key, file(key), "text/plain");
+        }
+
+        assertThat(store.list("", null, 2)).containsExactly("ab/cd/abcd01", "ab/cd/abcd02");
+        assertThat(store.list("", "ab/cd/abcd02", 2)).containsExactly("ab/ff/abff01", "ef/01/ef0101");
+        assertThat(store.list("", "ef/01/ef0101", 2)).containsExactly("ef/01/ef0102");
+        assertThat(store.list("", "ef/01/ef0102", 2)).isEmpty();
+    }
+
+    @Test
+    void listKeepsToPrefix() throws IOException {
+        for (String key : List.of("ab/cd/abcd01", "ab/ff/abff01", "ef/01/ef0101")) {
+            store.put(key, file(key), "text/plain");
+        }
+
+        assertThat(store.list("ab/", null, 10)).containsExactly("ab/cd/abcd01", "ab/ff/abff01");
+        assertThat(store.list("ab/ff/", null, 10)).containsExactly("ab/ff/abff01");
+    }
+
+    @Test
+    void multipartJoinsPartsInPartOrder() throws IOException {
+        byte[] first = filled('a', BlobStore.MIN_PART_SIZE);
+        byte[] second = filled('b', BlobStore.MIN_PART_SIZE);
+        byte[] last = "tail".getBytes(StandardCharsets.UTF_8);
+
+        String uploadId = store.startMultipart("uploads/joined", "text/plain");
+        store.putPart("uploads/joined", uploadId, 2, file(second));
+        store.putPart("uploads/joined", uploadId, 1, file(first));
+        store.putPart("uploads/joined", uploadId, 3, file(last));
+        store.completeMultipart("uploads/joined", uploadId);
+
+        byte[] joined = Files.readAllBytes(store.fetch("uploads/joined"));
+        assertThat(joined).hasSize(first.length + second.length + last.length);
+        assertThat(Arrays.copyOfRange(joined, 0, first.length)).isEqualTo(first);
+        assertThat(Arrays.copyOfRange(joined, first.length, first.length + second.length)).isEqualTo(second);
+        assertThat(Arrays.copyOfRange(joined, first.length + second.length, joined.length)).isEqualTo(last);
+    }
+
+    @Test
+    void resentPartReplacesEarlierOne() throws IOException {
+        String uploadId = store.startMultipart("uploads/resent", "text/plain");
+        store.putPart("uploads/resent", uploadId, 1, file("first attempt"));
+        store.putPart("uploads/resent", uploadId, 1, file("second attempt"));
+        store.completeMultipart("uploads/resent", uploadId);
+
+        assertThat(Files.readString(store.fetch("uploads/resent"))).isEqualTo("second attempt");
+    }
+
+    @Test
+    void abortedMultipartCannotBeCompleted() throws IOException {
+        String uploadId = store.startMultipart("uploads/aborted", "text/plain");
+        store.putPart("uploads/aborted", uploadId, 1, file("part"));
+
+        store.abortMultipart("uploads/aborted", uploadId);
+        store.abortMultipart("uploads/aborted", uploadId);
+
+        assertThatThrownBy(() -> store.completeMultipart("uploads/aborted", uploadId))
+                .isInstanceOf(NoSuchFileException.class);
+        assertThat(store.exists("uploads/aborted")).isFalse();
+    }
+
+    private Path file(String content) throws IOException {
+        return file(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path file(byte[] content) throws IOException {
+        return Files.write(Files.createTempFile(tempDir, "blob-", ".bin"), content);
+    }
+
+    private static byte[] filled(char value, long size) {
+        byte[] bytes = new byte[Math.toIntExact(size)];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+}
@@ -0,0 +1,119 @@
+package tz.go.roadsfund.nrcc.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * EmailService and SmtpTransportPool against a local GreenMail SMTP server
+ */
+class EmailServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SmtpTransportPool transportPool;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailSender.setProtocol("smtp");
+
+        // A single connection, so a leaked permit makes the next borrow time out
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, 1);
+        ReflectionTestUtils.setField(pool, "maxIdleMs", 60_000L);
+        ReflectionTestUtils.setField(pool, "borrowTimeoutMs", 500L);
+        transportPool = spy(pool);
+
+        emailService = new EmailService(transportPool);
+        ReflectionTestUtils.setField(emailService, "fromEmail", "nrcc@roadsfund.go.tz");
+    }
+
+    @Test
+    void sendBatchDeliversEveryMessage() {
+        List<EmailService.MailJob> jobs = List.of(
+                new EmailService.MailJob("member1@example.com", "Invitation", "Body 1"),
+                new EmailService.MailJob("member2@example.com", "Invitation", "Body 2"),
+                new EmailService.MailJob("member3@example.com", "Invitation", "Body 3"));
+
+        List<EmailService.MailJob> failed = emailService.sendBatch(jobs);
+
+        assertThat(failed).isEmpty();
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+    }
+
+    @Test
+    void consecutiveBatchesReuseThePooledConnection() {
+        emailService.sendBatch(List.of(new EmailService.MailJob("a@example.com", "First", "One")));
+        emailService.sendBatch(List.of(new EmailService.MailJob("b@example.com", "Second", "Two")));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        verify(transportPool, times(1)).connect();
+        verify(transportPool, never()).invalidate(any());
+    }
+
+    @Test
+    void invalidAddressIsReportedAndTheRestAreSent() {
+        List<EmailService.MailJob> jobs = List.of(
+                new EmailService.MailJob("member<example.com", "Invitation", "Body"),
+                new EmailService.MailJob("member@example.com", "Invitation", "Body"));
+
+        List<EmailService.MailJob> failed = emailService.sendBatch(jobs);
+
+        assertThat(failed).extracting(EmailService.MailJob::to).containsExactly("member<example.com");
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void runtimeFailureMidBatchDoesNotLeakThePoolPermit() {
+        // The first call opens the connection; the second, building the message, fails
+        doCallRealMethod()
+                .doThrow(new IllegalStateException("boom"))
+                .doCallRealMethod()
+                .when(transportPool).getSession();
+
+        assertThatThrownBy(() -> emailService.sendBatch(
+                List.of(new EmailService.MailJob("member@example.com", "Invitation", "Body"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        // With a pool of one, this only succeeds if the permit was given back
+        List<EmailService.MailJob> failed = emailService.sendBatch(
+                List.of(new EmailService.MailJob("member@example.com", "Invitation", "Body")));
+        assertThat(failed).isEmpty();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void statusNotificationIsRenderedFromTheTemplate() throws Exception {
+        emailService.sendApplicationStatusNotification("applicant@example.com", "Asha",
+                "NRCC/2025/0042", "SUBMITTED");
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("NRCC Application Status Update - NRCC/2025/0042");
+        assertThat((String) received[0].getContent())
+                .contains("Dear Asha,")
+                .contains("(Reference: NRCC/2025/0042)")
+                .contains("updated to: SUBMITTED");
+    }
+}
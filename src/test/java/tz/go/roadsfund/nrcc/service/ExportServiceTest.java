@@ -0,0 +1,188 @@
+package tz.go.roadsfund.nrcc.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import tz.go.roadsfund.nrcc.entity.Application;
+import tz.go.roadsfund.nrcc.entity.ApplicationFormData;
+import tz.go.roadsfund.nrcc.entity.ApprovalAction;
+import tz.go.roadsfund.nrcc.entity.EligibilityCriteriaSelection;
+import tz.go.roadsfund.nrcc.entity.User;
+import tz.go.roadsfund.nrcc.enums.ApplicantType;
+import tz.go.roadsfund.nrcc.enums.ApplicationStatus;
+import tz.go.roadsfund.nrcc.enums.EligibilityCriterion;
+import tz.go.roadsfund.nrcc.enums.ExportFormat;
+import tz.go.roadsfund.nrcc.enums.RoadClass;
+import tz.go.roadsfund.nrcc.enums.UserRole;
+import tz.go.roadsfund.nrcc.enums.WorkflowAction;
+import tz.go.roadsfund.nrcc.support.PostgresJpaTest;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the export SQL against PostgreSQL and checks that every column lands under its header
+ */
+class ExportServiceTest extends PostgresJpaTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(dataSource, transactionManager, 100);
+
+        User applicant = entityManager.persist(user("Asha Mussa", "asha@example.com", "+255712345678",
+                UserRole.PUBLIC_APPLICANT));
+        User owner = entityManager.persist(user("Secretariat", "secretariat@example.com", null,
+                UserRole.NRCC_SECRETARIAT));
+
+        Application application = Application.builder()
+                .applicationNumber("NRCC/2025/0001")
+                .applicantType(ApplicantType.INDIVIDUAL)
+                .applicant(applicant)
+                .currentOwner(owner)
+                .proposedClass(RoadClass.REGIONAL)
+                .status(ApplicationStatus.SUBMITTED)
+                .remarks("=HYPERLINK(\"http://example.com\")")
+                .build();
+        application.setFormData(ApplicationFormData.builder()
+                .application(application)
+                .roadName("Morogoro, Dodoma")
+                .startingPoint("Morogoro")
+                .terminalPoint("Dodoma")
+                .reclassificationReasons("Links two regions\nand a district")
+                .build());
+        entityManager.persist(application);
+
+        for (EligibilityCriterion criterion : List.of(EligibilityCriterion.R4, EligibilityCriterion.R1)) {
+            entityManager.persist(EligibilityCriteriaSelection.builder()
+                    .application(application)
+                    .criterion(criterion)
+                    .build());
+        }
+        entityManager.persist(ApprovalAction.builder()
+                .application(application)
+                .action(WorkflowAction.FORWARD)
+                .fromStatus(ApplicationStatus.DRAFT)
+                .toStatus(ApplicationStatus.SUBMITTED)
+                .actor(owner)
+                .actorRole(owner.getRole().name())
+                .actionDate(LocalDateTime.of(2025, 3, 14, 9, 30))
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void applicationColumnsFollowTheHeaders() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportApplications(ExportFormat.CSV, out);
+
+        List<List<String>> rows = parse(out.toString(StandardCharsets.UTF_8));
+        assertThat(rows).hasSize(2);
+        List<String> headers = rows.get(0);
+        List<String> row = rows.get(1);
+        assertThat(row).hasSameSizeAs(headers);
+
+        assertThat(cell(headers, row, "Application Number")).isEqualTo("NRCC/2025/0001");
+        assertThat(cell(headers, row, "Status")).isEqualTo("SUBMITTED");
+        assertThat(cell(headers, row, "Applicant Name")).isEqualTo("Asha Mussa");
+        assertThat(cell(headers, row, "Applicant Phone")).isEqualTo("+255712345678");
+        assertThat(cell(headers, row, "Current Owner")).isEqualTo("Secretariat");
+        assertThat(cell(headers, row, "Road Name")).isEqualTo("Morogoro, Dodoma");
+        assertThat(cell(headers, row, "Starting Point")).isEqualTo("Morogoro");
+        assertThat(cell(headers, row, "Terminal Point")).isEqualTo("Dodoma");
+        assertThat(cell(headers, row, "Reclassification Reasons")).isEqualTo("Links two regions\nand a district");
+        assertThat(cell(headers, row, "Eligibility Criteria")).isEqualTo("R1; R4");
+        assertThat(cell(headers, row, "Approval History"))
+                .isEqualTo("2025-03-14 09:30 FORWARD DRAFT -> SUBMITTED by Secretariat");
+        assertThat(cell(headers, row, "Remarks")).isEqualTo("'=HYPERLINK(\"http://example.com\")");
+    }
+
+    @Test
+    void userColumnsFollowTheHeaders() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportUsers(ExportFormat.CSV, out);
+
+        List<List<String>> rows = parse(out.toString(StandardCharsets.UTF_8));
+        assertThat(rows).hasSize(3);
+        List<String> headers = rows.get(0);
+        List<String> row = rows.get(1);
+        assertThat(row).hasSameSizeAs(headers);
+        assertThat(cell(headers, row, "Name")).isEqualTo("Asha Mussa");
+        assertThat(cell(headers, row, "Email")).isEqualTo("asha@example.com");
+        assertThat(cell(headers, row, "Phone Number")).isEqualTo("+255712345678");
+        assertThat(cell(headers, row, "Role")).isEqualTo("PUBLIC_APPLICANT");
+        assertThat(cell(headers, row, "Status")).isEqualTo("ACTIVE");
+    }
+
+    private static String cell(List<String> headers, List<String> row, String header) {
+        int index = headers.indexOf(header);
+        assertThat(index).as("column %s", header).isNotNegative();
+        return row.get(index);
+    }
+
+    /**
+     * Minimal RFC 4180 reader, enough to check what the writer produced
+     */
+    private static List<List<String>> parse(String csv) {
+        assertThat(csv).startsWith("\uFEFF");
+        csv = csv.substring(1);
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                row.add(cell.toString());
+                cell.setLength(0);
+                rows.add(row);
+                row = new ArrayList<>();
+                i++;
+            } else {
+                cell.append(c);
+            }
+        }
+        return rows;
+    }
+
+    private static User user(String name, String email, String phoneNumber, UserRole role) {
+        User user = User.builder()
+                .name(name)
+                .email(email)
+                .phoneNumber(phoneNumber)
+                .password("x")
+                .role(role)
+                .build();
+        user.setStatus("ACTIVE");
+        return user;
+    }
+}
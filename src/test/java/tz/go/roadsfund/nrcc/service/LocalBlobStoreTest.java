@@ -0,0 +1,12 @@
+package tz.go.roadsfund.nrcc.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+class LocalBlobStoreTest extends BlobStoreContractTest {
+
+    @Override
+    protected BlobStore createStore() throws IOException {
+        return new LocalBlobStore(Files.createDirectory(tempDir.resolve("store")));
+    }
+}
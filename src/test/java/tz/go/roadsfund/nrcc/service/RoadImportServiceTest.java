@@ -0,0 +1,105 @@
+package tz.go.roadsfund.nrcc.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import tz.go.roadsfund.nrcc.dto.response.RoadImportResponse;
+import tz.go.roadsfund.nrcc.support.PostgresJpaTest;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The import writes with batched JDBC inserts and draws ids from the entity's pooled sequence.
+ * The sequence is restarted here, so the context (and Hibernate's in-memory id blocks) is
+ * discarded afterwards.
+ */
+@DirtiesContext
+class RoadImportServiceTest extends PostgresJpaTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private RoadImportService roadImportService;
+
+    @BeforeEach
+    void setUp() {
+        roadImportService = new RoadImportService(dataSource, event -> {
+        });
+        ReflectionTestUtils.setField(roadImportService, "batchSize", 25);
+        ReflectionTestUtils.setField(roadImportService, "maxReportedErrors", 100);
+    }
+
+    @Test
+    void firstImportOnAFreshSequenceGetsPositiveIdsClearOfTheNextBlock() {
+        entityManager.getEntityManager()
+                .createNativeQuery("ALTER SEQUENCE roads_id_seq INCREMENT BY 50 RESTART WITH 1").executeUpdate();
+
+        RoadImportResponse response = roadImportService.importRoads(csv(60));
+
+        assertThat(response.getImportedCount()).isEqualTo(60);
+        List<Long> ids = jdbcIds();
+        assertThat(ids).hasSize(60).doesNotHaveDuplicates();
+        assertThat(ids.get(0)).isEqualTo(1L);
+
+        // The next block Hibernate would take must start above every imported id
+        Number next = (Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT nextval('roads_id_seq')").getSingleResult();
+        assertThat(next.longValue() - 49).isGreaterThan(ids.get(ids.size() - 1));
+    }
+
+    @Test
+    void sequenceStillIncrementingByOneGetsOneIdPerValue() {
+        entityManager.getEntityManager()
+                .createNativeQuery("ALTER SEQUENCE roads_id_seq INCREMENT BY 1 RESTART WITH 1").executeUpdate();
+
+        RoadImportResponse response = roadImportService.importRoads(csv(60));
+
+        assertThat(response.getImportedCount()).isEqualTo(60);
+        List<Long> ids = jdbcIds();
+        assertThat(ids).hasSize(60).doesNotHaveDuplicates();
+        assertThat(ids.get(0)).isEqualTo(1L);
+        assertThat(ids.get(ids.size() - 1)).isEqualTo(60L);
+
+        Number next = (Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT nextval('roads_id_seq')").getSingleResult();
+        assertThat(next.longValue()).isEqualTo(61L);
+    }
+
+    @Test
+    void invalidAndDuplicateRowsAreReported() {
+        String content = "Name,Road Number,Current Class\n" +
+                "Dodoma - Iringa,T1,Trunk\n" +
+                ",T2,Trunk\n" +
+                "Duplicate,t1,Trunk\n" +
+                "Unknown class,T3,Motorway\n";
+        RoadImportResponse response = roadImportService.importRoads(new MockMultipartFile(
+                "file", "roads.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.getTotalRows()).isEqualTo(4);
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(RoadImportResponse.RowError::getRow).containsExactly(3, 4, 5);
+    }
+
+    private static MockMultipartFile csv(int rows) {
+        StringBuilder content = new StringBuilder("Name,Road Number,Current Class,Length\n");
+        for (int i = 0; i < rows; i++) {
+            content.append("Road ").append(i).append(",R").append(i).append(",District,12.5\n");
+        }
+        return new MockMultipartFile("file", "roads.csv", "text/csv",
+                content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> jdbcIds() {
+        List<Number> ids = entityManager.getEntityManager()
+                .createNativeQuery("SELECT id FROM roads ORDER BY id").getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+}
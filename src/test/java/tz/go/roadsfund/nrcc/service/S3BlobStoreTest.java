@@ -0,0 +1,91 @@
+package tz.go.roadsfund.nrcc.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The contract against MinIO, standing in for S3
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3BlobStoreTest extends BlobStoreContractTest {
+
+    @Container
+    static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private S3BlobStore store;
+
+    @Override
+    protected BlobStore createStore() throws IOException {
+        store = newStore(64L * 1024 * 1024, Duration.ofMinutes(5));
+        return store;
+    }
+
+    @Test
+    void evictionKeepsRecentlyFetchedFiles() throws IOException {
+        closeStore();
+        store = newStore(1, Duration.ofMinutes(5));
+        store.put("ab/cd/abcd01", Files.writeString(tempDir.resolve("old.txt"), "old content"), "text/plain");
+        store.put("ab/cd/abcd02", Files.writeString(tempDir.resolve("new.txt"), "new content"), "text/plain");
+        Path old = store.fetch("ab/cd/abcd01");
+        Path recent = store.fetch("ab/cd/abcd02");
+        Files.setLastModifiedTime(old, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(1).toMillis()));
+
+        store.evictCache();
+
+        assertThat(old).doesNotExist();
+        assertThat(recent).hasContent("new content");
+    }
+
+    private S3BlobStore newStore(long cacheMaxBytes, Duration cacheGracePeriod) throws IOException {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword()));
+        S3Configuration pathStyle = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+        URI endpoint = URI.create(MINIO.getS3URL());
+
+        S3Client s3 = S3Client.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(pathStyle)
+                .endpointOverride(endpoint)
+                .build();
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(pathStyle)
+                .endpointOverride(endpoint)
+                .build();
+
+        // A bucket per test keeps listings independent
+        String bucket = "blobs-" + UUID.randomUUID();
+        s3.createBucket(request -> request.bucket(bucket));
+
+        return new S3BlobStore(s3, presigner, bucket, BlobStore.MIN_PART_SIZE, false, Duration.ofMinutes(10),
+                tempDir.resolve("cache"), cacheMaxBytes, cacheGracePeriod);
+    }
+
+    @AfterEach
+    void closeStore() {
+        if (store != null) {
+            store.close();
+        }
+    }
+}
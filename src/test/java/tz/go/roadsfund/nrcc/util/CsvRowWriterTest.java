@@ -0,0 +1,66 @@
+package tz.go.roadsfund.nrcc.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRowWriterTest {
+
+    @Test
+    void startsWithByteOrderMarkAndEndsRowsWithCrLf() throws IOException {
+        String csv = write(new Object[]{"a", "b"}, new Object[]{"c", "d"});
+
+        assertThat(csv).isEqualTo("\uFEFFa,b\r\nc,d\r\n");
+    }
+
+    @Test
+    void nullIsAnEmptyCell() throws IOException {
+        assertThat(write(new Object[]{"a", null, "c"})).isEqualTo("\uFEFFa,,c\r\n");
+    }
+
+    @Test
+    void separatorsAndQuotesAreQuoted() throws IOException {
+        assertThat(write(new Object[]{"Dodoma, Iringa", "the \"new\" road"}))
+                .isEqualTo("\uFEFF\"Dodoma, Iringa\",\"the \"\"new\"\" road\"\r\n");
+    }
+
+    @Test
+    void embeddedNewlinesStayInsideOneQuotedCell() throws IOException {
+        assertThat(write(new Object[]{"line one\nline two", "x\r\ny"}))
+                .isEqualTo("\uFEFF\"line one\nline two\",\"x\r\ny\"\r\n");
+    }
+
+    @Test
+    void formulasAreEscaped() throws IOException {
+        assertThat(write(new Object[]{"=SUM(A1:A9)", "@cmd", "+cmd|' /C calc'!A0", "-2+HYPERLINK(\"x\")"}))
+                .isEqualTo("\uFEFF'=SUM(A1:A9),'@cmd,'+cmd|' /C calc'!A0,\"'-2+HYPERLINK(\"\"x\"\")\"\r\n");
+        assertThat(write(new Object[]{"\t=1"})).isEqualTo("\uFEFF'\t=1\r\n");
+        assertThat(write(new Object[]{"\r=1"})).isEqualTo("\uFEFF\"'\r=1\"\r\n");
+    }
+
+    @Test
+    void phoneNumbersAndNegativeAmountsAreLeftAlone() throws IOException {
+        assertThat(write(new Object[]{"+255712345678", "+255 (0) 712 345 678", "-12.50"}))
+                .isEqualTo("\uFEFF+255712345678,+255 (0) 712 345 678,-12.50\r\n");
+    }
+
+    @Test
+    void nonStringValuesAreNotEscaped() throws IOException {
+        assertThat(write(new Object[]{-5, new BigDecimal("-1.25")})).isEqualTo("\uFEFF-5,-1.25\r\n");
+    }
+
+    private static String write(Object[]... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvRowWriter writer = new CsvRowWriter(out)) {
+            for (Object[] row : rows) {
+                writer.writeRow(row);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,156 @@
+package tz.go.roadsfund.nrcc.util;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of the download paths in {@link FileDownloadWriter} against a plain stream copy.
+ * The response body is counted and discarded, so the numbers are the cost of getting bytes
+ * off disk and through the servlet stream, not of the network. Run with
+ * {@code mvn test -Dtest=FileDownloadWriterBenchmark -Dbenchmarks=true}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class FileDownloadWriterBenchmark {
+
+    private static final int FILE_SIZE = 64 * 1024 * 1024;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    private static Path file;
+
+    @BeforeAll
+    static void createFile() throws IOException {
+        file = Files.createTempFile("download-benchmark-", ".bin");
+        byte[] chunk = new byte[1024 * 1024];
+        new Random(42).nextBytes(chunk);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            for (int written = 0; written < FILE_SIZE; written += chunk.length) {
+                channel.write(ByteBuffer.wrap(chunk));
+            }
+        }
+    }
+
+    @AfterAll
+    static void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void fullFile() throws IOException {
+        report("stream copy (8 KB heap buffer)", FILE_SIZE, () -> {
+            CountingResponse response = new CountingResponse();
+            try (InputStream in = Files.newInputStream(file)) {
+                in.transferTo(response.getOutputStream());
+            }
+            return response.written();
+        });
+        report("full file, transferTo fallback", FILE_SIZE, () -> download(null, false));
+        report("full file, sendfile hand-off", 0, () -> download(null, true));
+    }
+
+    @Test
+    void ranges() throws IOException {
+        long half = FILE_SIZE / 2;
+        report("single range, transferTo fallback", half, () -> download("bytes=0-" + (half - 1), false));
+        report("single range, sendfile hand-off", 0, () -> download("bytes=0-" + (half - 1), true));
+        // Two quarter-file parts; the part headers add a few hundred bytes
+        report("multipart ranges", half, half + 1024, () -> download(
+                "bytes=0-" + (half / 2 - 1) + "," + half + "-" + (half + half / 2 - 1), true));
+    }
+
+    private static long download(String range, boolean sendfile) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/benchmark.bin");
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        if (sendfile) {
+            request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        }
+        CountingResponse response = new CountingResponse();
+        FileDownloadWriter.write(file, "application/octet-stream", "benchmark.bin", request, response);
+        return response.written();
+    }
+
+    private static void report(String name, long expectedBytes, Download download) throws IOException {
+        report(name, expectedBytes, expectedBytes, download);
+    }
+
+    private static void report(String name, long minBytes, long maxBytes, Download download) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            download.run();
+        }
+        long started = System.nanoTime();
+        long bytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long written = download.run();
+            assertThat(written).isBetween(minBytes, maxBytes);
+            bytes += written;
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("%-36s %8.1f ms/op %10.1f MB/s%n", name, seconds * 1000 / ITERATIONS,
+                bytes / seconds / (1024 * 1024));
+    }
+
+    @FunctionalInterface
+    private interface Download {
+        long run() throws IOException;
+    }
+
+    /**
+     * Response whose body is counted and dropped, so large downloads do not fill the heap
+     */
+    private static final class CountingResponse extends MockHttpServletResponse {
+
+        private long written;
+
+        private final ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+
+        long written() {
+            return written;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package tz.go.roadsfund.nrcc.util;
+
+import org.junit.jupiter.api.Test;
+import tz.go.roadsfund.nrcc.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void timestampedCursorRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 9, 26, 53);
+
+        PageCursor cursor = PageCursor.decodeTimestamped(PageCursor.encode(createdAt, 42L));
+
+        assertThat(cursor).isEqualTo(new PageCursor(createdAt, 42L));
+    }
+
+    @Test
+    void idCursorRoundTrips() {
+        assertThat(PageCursor.decodeId(PageCursor.encode(7L))).isEqualTo(new PageCursor(null, 7L));
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(PageCursor.decodeTimestamped("")).isNull();
+        assertThat(PageCursor.decodeId(null)).isNull();
+    }
+
+    @Test
+    void idCursorIsRejectedByTimestampedListing() {
+        String roadsCursor = PageCursor.encode(7L);
+
+        assertThatThrownBy(() -> PageCursor.decodeTimestamped(roadsCursor))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void timestampedCursorIsRejectedByIdListing() {
+        String applicationsCursor = PageCursor.encode(LocalDateTime.now(), 42L);
+
+        assertThatThrownBy(() -> PageCursor.decodeId(applicationsCursor))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void garbageIsRejected() {
+        assertThatThrownBy(() -> PageCursor.decodeId("not-a-cursor!"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
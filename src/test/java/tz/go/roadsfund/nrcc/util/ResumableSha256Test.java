@@ -0,0 +1,73 @@
+package tz.go.roadsfund.nrcc.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumableSha256Test {
+
+    @Test
+    void matchesMessageDigestAroundBlockBoundaries() throws NoSuchAlgorithmException {
+        Random random = new Random(42);
+        for (int length : new int[]{0, 1, 55, 56, 57, 63, 64, 65, 119, 120, 128, 10_000}) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+
+            ResumableSha256 sha = new ResumableSha256();
+            sha.update(data, 0, data.length);
+
+            assertThat(sha.digest()).as("length %d", length).isEqualTo(expected(data));
+        }
+    }
+
+    @Test
+    void stateCarriesOverBetweenChunks() throws NoSuchAlgorithmException {
+        Random random = new Random(7);
+        byte[] data = new byte[100_000];
+        random.nextBytes(data);
+
+        ResumableSha256 sha = new ResumableSha256();
+        int offset = 0;
+        while (offset < data.length) {
+            int count = Math.min(data.length - offset, 1 + random.nextInt(300));
+            sha.update(data, offset, count);
+            offset += count;
+            sha = ResumableSha256.restore(sha.state());
+        }
+
+        assertThat(sha.length()).isEqualTo(data.length);
+        assertThat(sha.digest()).isEqualTo(expected(data));
+    }
+
+    @Test
+    void digestDoesNotEndHashing() throws NoSuchAlgorithmException {
+        byte[] data = "resumable upload".getBytes();
+        ResumableSha256 sha = new ResumableSha256();
+
+        sha.update(data, 0, 9);
+        sha.digest();
+        sha.update(data, 9, data.length - 9);
+
+        assertThat(sha.digest()).isEqualTo(expected(data));
+    }
+
+    @Test
+    void damagedStateIsRejected() {
+        byte[] state = new ResumableSha256().state();
+
+        assertThatThrownBy(() -> ResumableSha256.restore(Arrays.copyOf(state, state.length + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResumableSha256.restore(new byte[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] expected(byte[] data) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(data);
+    }
+}